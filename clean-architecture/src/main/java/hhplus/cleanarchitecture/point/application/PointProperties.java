@@ -0,0 +1,18 @@
+package hhplus.cleanarchitecture.point.application;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param lockMode optimistic : version 비교 후 충돌 시 재시도 | pessimistic : SELECT ... FOR UPDATE 로 행 잠금
+ * @param maxRetries 충돌로 실패한 트랜잭션을 다시 시도하는 최대 횟수
+ */
+@ConfigurationProperties(prefix = "point")
+public record PointProperties(
+	@DefaultValue("optimistic") LockMode lockMode,
+	@DefaultValue("20") int maxRetries
+) {
+	public enum LockMode {
+		OPTIMISTIC, PESSIMISTIC
+	}
+}
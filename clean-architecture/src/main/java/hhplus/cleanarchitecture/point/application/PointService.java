@@ -0,0 +1,96 @@
+package hhplus.cleanarchitecture.point.application;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import hhplus.cleanarchitecture.point.domain.PointHistory;
+import hhplus.cleanarchitecture.point.domain.PointHistoryRepository;
+import hhplus.cleanarchitecture.point.domain.TransactionType;
+import hhplus.cleanarchitecture.point.domain.UserPoint;
+import hhplus.cleanarchitecture.point.domain.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 포인트 충전/사용을 한 트랜잭션에서 잔액 수정과 내역 저장으로 처리합니다.
+ * - optimistic : 잠금 없이 읽고, 커밋 시 version 이 바뀌었으면 트랜잭션 전체를 다시 시도합니다.
+ * - pessimistic : 잔액 행을 잠그고 읽어 같은 유저의 트랜잭션을 DB 에서 줄 세웁니다.
+ * - 처음 충전하는 유저의 행을 동시에 만들거나 잠금 대기 시간이 지난 경우도 충돌로 보고 다시 시도합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointService {
+	private static final long MAX_BACKOFF_MILLIS = 50;
+
+	private final UserPointRepository userPointRepository;
+	private final PointHistoryRepository pointHistoryRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final PointProperties pointProperties;
+
+	public UserPoint getUserPoint(long userId) {
+		return this.userPointRepository.findById(userId).orElseGet(() -> UserPoint.empty(userId));
+	}
+
+	public List<PointHistory> getPointHistories(long userId, Long cursor, int limit) {
+		return this.pointHistoryRepository.findByUserId(userId, cursor, limit);
+	}
+
+	public UserPoint charge(long userId, long amount) {
+		return retryOnConflict(() -> this.transactionTemplate.execute(status -> {
+			UserPoint userPoint = find(userId).orElseGet(() -> UserPoint.empty(userId));
+			userPoint.charge(amount, System.currentTimeMillis());
+			return save(userPoint, amount, TransactionType.CHARGE);
+		}));
+	}
+
+	public UserPoint use(long userId, long amount) {
+		return retryOnConflict(() -> this.transactionTemplate.execute(status -> {
+			UserPoint userPoint = find(userId)
+				.orElseThrow(() -> new IllegalArgumentException("사용자가 존재하지 않습니다."));
+			userPoint.use(amount, System.currentTimeMillis());
+			return save(userPoint, amount, TransactionType.USE);
+		}));
+	}
+
+	private Optional<UserPoint> find(long userId) {
+		return switch (this.pointProperties.lockMode()) {
+			case OPTIMISTIC -> this.userPointRepository.findById(userId);
+			case PESSIMISTIC -> this.userPointRepository.findByIdForUpdate(userId);
+		};
+	}
+
+	private UserPoint save(UserPoint userPoint, long amount, TransactionType type) {
+		UserPoint saved = this.userPointRepository.save(userPoint);
+		this.pointHistoryRepository.save(PointHistory.of(saved.getId(), amount, type, saved.getUpdateMillis()));
+		return saved;
+	}
+
+	private UserPoint retryOnConflict(Supplier<UserPoint> transaction) {
+		for (int attempt = 0; ; attempt++) {
+			try {
+				return transaction.get();
+			} catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+				if (attempt >= this.pointProperties.maxRetries()) {
+					throw e;
+				}
+				backoff(attempt);
+			}
+		}
+	}
+
+	private void backoff(int attempt) {
+		long bound = Math.min(1L << Math.min(attempt, 6), MAX_BACKOFF_MILLIS);
+		try {
+			Thread.sleep(ThreadLocalRandom.current().nextLong(bound + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("포인트 처리 재시도 중 중단되었습니다.", e);
+		}
+	}
+}
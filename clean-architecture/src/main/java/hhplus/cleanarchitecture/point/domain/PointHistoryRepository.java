@@ -0,0 +1,13 @@
+package hhplus.cleanarchitecture.point.domain;
+
+import java.util.List;
+
+public interface PointHistoryRepository {
+
+	PointHistory save(PointHistory pointHistory);
+
+	/**
+	 * 유저의 내역을 id 역순으로 limit 건 조회합니다. cursor 가 있으면 그 id 보다 작은 내역부터 조회합니다.
+	 */
+	List<PointHistory> findByUserId(long userId, Long cursor, int limit);
+}
@@ -0,0 +1,10 @@
+package hhplus.cleanarchitecture.point.domain;
+
+/**
+ * 포인트 트랜잭션 종류
+ * - CHARGE : 충전
+ * - USE : 사용
+ */
+public enum TransactionType {
+	CHARGE, USE
+}
@@ -0,0 +1,63 @@
+package hhplus.cleanarchitecture.point.domain;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저별 포인트 잔액
+ * - version 으로 낙관적 락을 걸어, 같은 유저를 동시에 수정하면 나중에 커밋한 쪽이 실패합니다.
+ */
+@Entity
+@Table(name = "user_point")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserPoint {
+	public static final long MAX_POINT = 100000L;
+
+	@Id
+	private Long id;
+
+	private long point;
+
+	private long updateMillis;
+
+	@Version
+	private Long version;
+
+	private UserPoint(long id) {
+		this.id = id;
+	}
+
+	public static UserPoint empty(long id) {
+		return new UserPoint(id);
+	}
+
+	public void charge(long amount, long updateMillis) {
+		validateAmount(amount);
+		if (point + amount > MAX_POINT) {
+			throw new IllegalArgumentException("충전 금액은 100000포인트를 초과할 수 없습니다.");
+		}
+		this.point += amount;
+		this.updateMillis = updateMillis;
+	}
+
+	public void use(long amount, long updateMillis) {
+		validateAmount(amount);
+		if (point < amount) {
+			throw new IllegalArgumentException("사용 포인트가 부족합니다.");
+		}
+		this.point -= amount;
+		this.updateMillis = updateMillis;
+	}
+
+	private void validateAmount(long amount) {
+		if (amount <= 0) {
+			throw new IllegalArgumentException("금액은 0보다 커야 합니다.");
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package hhplus.cleanarchitecture.point.domain;
+
+import java.util.Optional;
+
+public interface UserPointRepository {
+
+	Optional<UserPoint> findById(long userId);
+
+	/**
+	 * 트랜잭션이 끝날 때까지 행 잠금(SELECT ... FOR UPDATE)을 잡고 조회합니다.
+	 */
+	Optional<UserPoint> findByIdForUpdate(long userId);
+
+	UserPoint save(UserPoint userPoint);
+}
@@ -0,0 +1,15 @@
+package hhplus.cleanarchitecture.point.infrastructure;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import hhplus.cleanarchitecture.point.domain.PointHistory;
+
+public interface PointHistoryJpaRepository extends JpaRepository<PointHistory, Long> {
+
+	List<PointHistory> findByUserIdOrderByIdDesc(long userId, Pageable pageable);
+
+	List<PointHistory> findByUserIdAndIdLessThanOrderByIdDesc(long userId, long id, Pageable pageable);
+}
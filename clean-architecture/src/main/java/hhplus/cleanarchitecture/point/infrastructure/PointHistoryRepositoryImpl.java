@@ -0,0 +1,30 @@
+package hhplus.cleanarchitecture.point.infrastructure;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import hhplus.cleanarchitecture.point.domain.PointHistory;
+import hhplus.cleanarchitecture.point.domain.PointHistoryRepository;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class PointHistoryRepositoryImpl implements PointHistoryRepository {
+	private final PointHistoryJpaRepository pointHistoryJpaRepository;
+
+	@Override
+	public PointHistory save(PointHistory pointHistory) {
+		return this.pointHistoryJpaRepository.save(pointHistory);
+	}
+
+	@Override
+	public List<PointHistory> findByUserId(long userId, Long cursor, int limit) {
+		Pageable pageable = Pageable.ofSize(limit);
+		if (cursor == null) {
+			return this.pointHistoryJpaRepository.findByUserIdOrderByIdDesc(userId, pageable);
+		}
+		return this.pointHistoryJpaRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, cursor, pageable);
+	}
+}
@@ -0,0 +1,18 @@
+package hhplus.cleanarchitecture.point.infrastructure;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import hhplus.cleanarchitecture.point.domain.UserPoint;
+import jakarta.persistence.LockModeType;
+
+public interface UserPointJpaRepository extends JpaRepository<UserPoint, Long> {
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select u from UserPoint u where u.id = :id")
+	Optional<UserPoint> findForUpdateById(@Param("id") Long id);
+}
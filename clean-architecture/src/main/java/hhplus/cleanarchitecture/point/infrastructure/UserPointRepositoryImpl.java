@@ -0,0 +1,30 @@
+package hhplus.cleanarchitecture.point.infrastructure;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import hhplus.cleanarchitecture.point.domain.UserPoint;
+import hhplus.cleanarchitecture.point.domain.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class UserPointRepositoryImpl implements UserPointRepository {
+	private final UserPointJpaRepository userPointJpaRepository;
+
+	@Override
+	public Optional<UserPoint> findById(long userId) {
+		return this.userPointJpaRepository.findById(userId);
+	}
+
+	@Override
+	public Optional<UserPoint> findByIdForUpdate(long userId) {
+		return this.userPointJpaRepository.findForUpdateById(userId);
+	}
+
+	@Override
+	public UserPoint save(UserPoint userPoint) {
+		return this.userPointJpaRepository.save(userPoint);
+	}
+}
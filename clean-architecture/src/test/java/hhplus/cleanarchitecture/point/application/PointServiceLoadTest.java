@@ -0,0 +1,119 @@
+package hhplus.cleanarchitecture.point.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import hhplus.cleanarchitecture.point.domain.PointHistoryRepository;
+import hhplus.cleanarchitecture.point.domain.UserPointRepository;
+
+/**
+ * 내장 H2 에서 같은 부하를 낙관적 락(version 재시도)과 비관적 락(행 잠금)으로 각각 실행해 처리량을 비교합니다.
+ * - users 가 적을수록 같은 행에 충돌이 몰립니다.
+ * - 일반 test 에서는 제외되고 ./gradlew loadTest 로만 실행합니다.
+ * - 처리량은 로그로 남기고, 모든 실행이 끝나면 load.report-directory(기본 build/reports/load) 에 CSV 로 저장합니다.
+ */
+@Tag("load")
+@SpringBootTest
+class PointServiceLoadTest {
+	private static final Logger log = LoggerFactory.getLogger(PointServiceLoadTest.class);
+	private static final int THREADS = 16;
+	private static final int OPERATIONS_PER_THREAD = 100;
+	private static final List<String> REPORT = Collections.synchronizedList(new ArrayList<>());
+
+	@Autowired
+	private UserPointRepository userPointRepository;
+
+	@Autowired
+	private PointHistoryRepository pointHistoryRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@AfterAll
+	static void writeReport() throws IOException {
+		Path directory = Path.of(System.getProperty("load.report-directory", "build/reports/load"));
+		Files.createDirectories(directory);
+		List<String> lines = new ArrayList<>();
+		lines.add("lockMode,users,operations,opsPerSecond");
+		lines.addAll(REPORT);
+		Path report = Files.write(directory.resolve("point-service-load.csv"), lines);
+		log.info("부하 테스트 결과를 저장했습니다. report={}", report.toAbsolutePath());
+	}
+
+	@Test
+	@DisplayName("유저 하나에 충전/사용이 몰려도 두 방식 모두 잔액과 내역이 맞습니다.")
+	void hotUser() throws Exception {
+		run(PointProperties.LockMode.OPTIMISTIC, 1000L, 1);
+		run(PointProperties.LockMode.PESSIMISTIC, 2000L, 1);
+	}
+
+	@Test
+	@DisplayName("여러 유저에 나눠진 충전/사용도 두 방식 모두 잔액과 내역이 맞습니다.")
+	void spreadUsers() throws Exception {
+		run(PointProperties.LockMode.OPTIMISTIC, 3000L, 64);
+		run(PointProperties.LockMode.PESSIMISTIC, 4000L, 64);
+	}
+
+	private void run(PointProperties.LockMode lockMode, long firstUserId, int users) throws Exception {
+		// given
+		PointService pointService = new PointService(userPointRepository, pointHistoryRepository,
+			transactionTemplate, new PointProperties(lockMode, 1000));
+		for (int i = 0; i < users; i++) {
+			pointService.charge(firstUserId + i, 50000L);
+		}
+
+		// when
+		ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+		long startNanos = System.nanoTime();
+		List<Future<?>> futures = new ArrayList<>();
+		for (int thread = 0; thread < THREADS; thread++) {
+			int offset = thread;
+			futures.add(executorService.submit(() -> {
+				for (int i = 0; i < OPERATIONS_PER_THREAD / 2; i++) {
+					long userId = firstUserId + (offset + i) % users;
+					pointService.charge(userId, 10L);
+					pointService.use(userId, 10L);
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		long elapsedNanos = System.nanoTime() - startNanos;
+		executorService.shutdown();
+
+		// then
+		int operations = THREADS * OPERATIONS_PER_THREAD;
+		double opsPerSecond = operations * 1_000_000_000.0 / elapsedNanos;
+		log.info("{} users={} : {} ops, {} ops/s", lockMode, users, operations,
+			String.format(Locale.ROOT, "%.1f", opsPerSecond));
+		REPORT.add(String.format(Locale.ROOT, "%s,%d,%d,%.1f", lockMode, users, operations, opsPerSecond));
+
+		long histories = 0;
+		for (int i = 0; i < users; i++) {
+			assertEquals(50000L, pointService.getUserPoint(firstUserId + i).getPoint());
+			histories += pointService.getPointHistories(firstUserId + i, null, Integer.MAX_VALUE).size();
+		}
+		assertEquals(users + operations, histories);
+	}
+}
@@ -0,0 +1,68 @@
+package hhplus.cleanarchitecture.point.application;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import hhplus.cleanarchitecture.point.domain.PointHistory;
+import hhplus.cleanarchitecture.point.domain.TransactionType;
+import hhplus.cleanarchitecture.point.domain.UserPoint;
+
+@SpringBootTest
+class PointServiceTest {
+
+	@Autowired
+	private PointService pointService;
+
+	@Test
+	@DisplayName("충전/사용하면 잔액이 바뀌고 내역이 남습니다.")
+	void chargeAndUse() {
+		// given
+		long userId = 1L;
+
+		// when
+		pointService.charge(userId, 1000L);
+		UserPoint userPoint = pointService.use(userId, 300L);
+
+		// then
+		assertEquals(700L, userPoint.getPoint());
+		assertEquals(700L, pointService.getUserPoint(userId).getPoint());
+
+		List<PointHistory> histories = pointService.getPointHistories(userId, null, 10);
+		assertEquals(2, histories.size());
+		assertEquals(TransactionType.USE, histories.get(0).getType());
+		assertEquals(TransactionType.CHARGE, histories.get(1).getType());
+	}
+
+	@Test
+	@DisplayName("내역은 cursor 보다 작은 id 부터 역순으로 조회합니다.")
+	void historiesByCursor() {
+		// given
+		long userId = 2L;
+		for (int i = 1; i <= 5; i++) {
+			pointService.charge(userId, i);
+		}
+
+		// when
+		List<PointHistory> first = pointService.getPointHistories(userId, null, 3);
+		List<PointHistory> second = pointService.getPointHistories(userId, first.get(2).getId(), 3);
+
+		// then
+		assertEquals(List.of(5L, 4L, 3L), first.stream().map(PointHistory::getAmount).toList());
+		assertEquals(List.of(2L, 1L), second.stream().map(PointHistory::getAmount).toList());
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 유저는 포인트를 사용할 수 없습니다.")
+	void useWithoutUser() {
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+			() -> pointService.use(3L, 100L));
+
+		assertEquals("사용자가 존재하지 않습니다.", exception.getMessage());
+	}
+}
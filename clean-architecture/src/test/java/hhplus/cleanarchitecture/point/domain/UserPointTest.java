@@ -0,0 +1,64 @@
+package hhplus.cleanarchitecture.point.domain;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class UserPointTest {
+
+	@Test
+	@DisplayName("충전하면 잔액과 수정 시각이 바뀝니다.")
+	void charge() {
+		// given
+		UserPoint userPoint = UserPoint.empty(1L);
+
+		// when
+		userPoint.charge(1000L, 10L);
+
+		// then
+		assertEquals(1000L, userPoint.getPoint());
+		assertEquals(10L, userPoint.getUpdateMillis());
+	}
+
+	@Test
+	@DisplayName("최대 잔액을 넘겨 충전할 수 없습니다.")
+	void chargeOverMaxPoint() {
+		// given
+		UserPoint userPoint = UserPoint.empty(1L);
+		userPoint.charge(UserPoint.MAX_POINT, 10L);
+
+		// when
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+			() -> userPoint.charge(1L, 20L));
+
+		// then
+		assertEquals("충전 금액은 100000포인트를 초과할 수 없습니다.", exception.getMessage());
+		assertEquals(UserPoint.MAX_POINT, userPoint.getPoint());
+	}
+
+	@Test
+	@DisplayName("잔액보다 많이 사용할 수 없습니다.")
+	void useOverBalance() {
+		// given
+		UserPoint userPoint = UserPoint.empty(1L);
+		userPoint.charge(1000L, 10L);
+
+		// when
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+			() -> userPoint.use(1001L, 20L));
+
+		// then
+		assertEquals("사용 포인트가 부족합니다.", exception.getMessage());
+		assertEquals(1000L, userPoint.getPoint());
+	}
+
+	@Test
+	@DisplayName("0 이하의 금액은 충전/사용할 수 없습니다.")
+	void nonPositiveAmount() {
+		UserPoint userPoint = UserPoint.empty(1L);
+
+		assertThrows(IllegalArgumentException.class, () -> userPoint.charge(0L, 10L));
+		assertThrows(IllegalArgumentException.class, () -> userPoint.use(-1L, 10L));
+	}
+}
@@ -2,6 +2,7 @@ plugins {
     java
     alias(libs.plugins.spring.boot)
     alias(libs.plugins.spring.dependency.management)
+    alias(libs.plugins.jmh)
     id("jacoco")
 }
 
@@ -23,10 +24,20 @@ dependencyManagement {
 
 dependencies {
     implementation(libs.spring.boot.starter.web)
+    implementation(libs.spring.boot.starter.actuator)
+    compileOnly(libs.spring.boot.starter.jdbc)
+    runtimeOnly(libs.micrometer.registry.prometheus)
     compileOnly(libs.lombok)
     annotationProcessor(libs.lombok)
     annotationProcessor(libs.spring.boot.configuration.processor)
     testImplementation(libs.spring.boot.starter.test)
+    testImplementation(libs.spring.boot.starter.jdbc)
+    testRuntimeOnly(libs.h2)
+    // user lease mode (point.lock.lease.enabled) needs a shared DataSource: ./gradlew bootJar -Ppoint.lease
+    if (hasProperty("point.lease")) {
+        runtimeOnly(libs.spring.boot.starter.jdbc)
+        runtimeOnly(libs.h2)
+    }
 }
 
 // about source and compilation
@@ -45,6 +56,29 @@ tasks.getByName("bootJar") {
 tasks.getByName("jar") {
     enabled = false
 }
+// benchmark tasks (./gradlew jmh -Pjmh.threads=8 -Pjmh.includes=PointServiceBenchmark)
+jmh {
+    jmhVersion.set(libs.versions.jmh.get())
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    findProperty("jmh.threads")?.let { threads.set(it.toString().toInt()) }
+    findProperty("jmh.includes")?.let { includes.set(listOf(it.toString())) }
+}
+// load test tasks (./gradlew loadTest -Pload.rate=500 -Pload.distribution=zipf -Pload.app.point.executor.mode=sharded)
+val load: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+configurations[load.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[load.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "Drives PointController over HTTP and writes latency percentiles to build/reports/load"
+    classpath = load.runtimeClasspath
+    mainClass.set("io.hhplus.tdd.load.PointLoadHarness")
+    systemProperty("load.report-directory", layout.buildDirectory.dir("reports/load").get().asFile.path)
+    systemProperties(project.properties.filterKeys { it.startsWith("load.") })
+}
 // test tasks
 tasks.test {
     ignoreFailures = true
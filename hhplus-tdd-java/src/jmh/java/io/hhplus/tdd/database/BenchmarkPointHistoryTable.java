@@ -0,0 +1,39 @@
+package io.hhplus.tdd.database;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 벤치마크용 PointHistoryTable, 저장/조회 방식은 같고 임의 지연(throttle)을 켜고 끌 수 있습니다.
+ * - 여러 스레드에서 호출되므로 저장/조회는 동기화합니다.
+ */
+public class BenchmarkPointHistoryTable extends PointHistoryTable {
+	private final List<PointHistory> table = new ArrayList<>();
+	private long cursor = 1;
+
+	private volatile boolean throttled;
+
+	public void throttled(boolean throttled) {
+		this.throttled = throttled;
+	}
+
+	@Override
+	public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+		Throttle.sleep(throttled, 300L);
+		synchronized (this) {
+			PointHistory pointHistory = new PointHistory(cursor++, userId, amount, type, updateMillis);
+			table.add(pointHistory);
+			return pointHistory;
+		}
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		synchronized (this) {
+			return table.stream().filter(pointHistory -> pointHistory.userId() == userId).toList();
+		}
+	}
+}
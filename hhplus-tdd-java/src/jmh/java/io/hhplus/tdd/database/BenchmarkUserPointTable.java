@@ -0,0 +1,34 @@
+package io.hhplus.tdd.database;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 벤치마크용 UserPointTable, 저장/조회 방식은 같고 임의 지연(throttle)을 켜고 끌 수 있습니다.
+ * - 여러 스레드에서 호출되므로 HashMap 대신 ConcurrentHashMap 을 사용합니다.
+ */
+public class BenchmarkUserPointTable extends UserPointTable {
+	private final Map<Long, UserPoint> table = new ConcurrentHashMap<>();
+
+	private volatile boolean throttled;
+
+	public void throttled(boolean throttled) {
+		this.throttled = throttled;
+	}
+
+	@Override
+	public UserPoint selectById(Long id) {
+		Throttle.sleep(throttled, 200L);
+		return table.getOrDefault(id, UserPoint.empty(id));
+	}
+
+	@Override
+	public UserPoint insertOrUpdate(long id, long amount) {
+		Throttle.sleep(throttled, 300L);
+		UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+		table.put(id, userPoint);
+		return userPoint;
+	}
+}
@@ -0,0 +1,62 @@
+package io.hhplus.tdd.database;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 전체 내역 수(totalRows)에 따른 유저 한 명의 내역 조회 시간
+ * - 조회 대상 유저의 내역은 100건으로 고정하고 나머지는 다른 유저 10만 명에게 나눠 저장합니다.
+ * - table 은 전체 목록을 훑으므로 totalRows 에 비례하고, indexed 는 totalRows 와 관계없이 일정해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms6g", "-Xmx6g"})
+public class PointHistoryLookupBenchmark {
+	private static final long TARGET_USER_ID = 0L;
+	private static final int TARGET_ROWS = 100;
+	private static final int OTHER_USERS = 100000;
+
+	@Param({"table", "indexed"})
+	private String repository;
+
+	@Param({"100000", "1000000", "10000000"})
+	private int totalRows;
+
+	private PointHistoryTable pointHistoryTable;
+	private PointHistoryRepository pointHistoryRepository;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		pointHistoryTable = new BenchmarkPointHistoryTable();
+		pointHistoryRepository = new IndexedPointHistoryRepository(pointHistoryTable);
+
+		int interval = totalRows / TARGET_ROWS;
+		for (int row = 0; row < totalRows; row++) {
+			long userId = row % interval == 0 ? TARGET_USER_ID : row % OTHER_USERS + 1;
+			pointHistoryRepository.insert(userId, 100L, TransactionType.CHARGE, row);
+		}
+	}
+
+	@Benchmark
+	public List<PointHistory> selectAllByUserId() {
+		if (repository.equals("table")) {
+			return pointHistoryTable.selectAllByUserId(TARGET_USER_ID);
+		}
+		return pointHistoryRepository.selectAllByUserId(TARGET_USER_ID);
+	}
+}
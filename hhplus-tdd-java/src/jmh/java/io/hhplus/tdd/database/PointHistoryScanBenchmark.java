@@ -0,0 +1,70 @@
+package io.hhplus.tdd.database;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.hhplus.tdd.point.PointHistoryOrder;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 내역 저장소별 유저 한 명의 내역 훑기 처리량 (초당 내역 수)
+ * - 전체 1000만 건 중 조회 대상 유저의 내역은 TARGET_ROWS 건이며, 나머지는 다른 유저 10만 명에게 나눠 저장합니다.
+ * - forEachByUserId 는 내역마다 PointHistory 를 만들어 전달하고, sumSignedAmount 는 columnar 에서만 열을 직접 읽어 더합니다.
+ * - 저장소 구성은 PointHistoryStoreFootprintBenchmark 와 같습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms16g", "-Xmx16g", "-XX:MaxDirectMemorySize=8g"})
+public class PointHistoryScanBenchmark {
+	private static final long TARGET_USER_ID = 0L;
+	private static final int TARGET_ROWS = 100000;
+	private static final int TOTAL_ROWS = 10000000;
+	private static final int OTHER_USERS = 100000;
+
+	@Param({"table", "indexed", "columnar", "columnar-off-heap"})
+	private String store;
+
+	private PointHistoryRepository repository;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		repository = PointHistoryStoreFootprintBenchmark.create(store);
+		int interval = TOTAL_ROWS / TARGET_ROWS;
+		for (int row = 0; row < TOTAL_ROWS; row++) {
+			long userId = row % interval == 0 ? TARGET_USER_ID : row % OTHER_USERS + 1;
+			repository.insert(userId, 100L, row % 4 == 3 ? TransactionType.USE : TransactionType.CHARGE, row);
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TARGET_ROWS)
+	public void forEachByUserId(Blackhole blackhole) {
+		repository.forEachByUserId(TARGET_USER_ID, PointHistoryOrder.ASC, blackhole::consume);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TARGET_ROWS)
+	public long sumSignedAmount() {
+		if (repository instanceof ColumnarPointHistoryRepository columnar) {
+			return columnar.sumSignedAmountByUserId(TARGET_USER_ID);
+		}
+
+		long[] sum = new long[1];
+		repository.forEachByUserId(TARGET_USER_ID, PointHistoryOrder.ASC,
+			history -> sum[0] += history.signedAmount());
+		return sum[0];
+	}
+}
@@ -0,0 +1,123 @@
+package io.hhplus.tdd.database;
+
+import java.lang.management.BufferPoolMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 내역 저장소별 메모리 사용량
+ * - rows 건을 10만 명에게 나눠 저장하는 데 걸린 시간과, GC 이후 증가한 힙/direct 메모리(내역당 byte)를 기록합니다.
+ * - table : PointHistoryTable 과 같은 List<PointHistory> (임의 지연 제거), indexed : table + 유저별 색인
+ * - columnar / columnar-off-heap : ColumnarPointHistoryRepository
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms16g", "-Xmx16g", "-XX:MaxDirectMemorySize=8g"})
+public class PointHistoryStoreFootprintBenchmark {
+	private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+	private static final int USERS = 100000;
+
+	@Param({"table", "indexed", "columnar", "columnar-off-heap"})
+	private String store;
+
+	@Param({"1000000", "10000000", "100000000"})
+	private int rows;
+
+	private PointHistoryRepository repository;
+	private long baselineHeapBytes;
+	private long baselineDirectBytes;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		repository = null;
+		baselineHeapBytes = usedHeapAfterGc();
+		baselineDirectBytes = usedDirectBytes();
+		repository = create(store);
+	}
+
+	@Benchmark
+	public PointHistoryRepository insertAllRows(Footprint footprint) {
+		for (int row = 0; row < rows; row++) {
+			repository.insert(row % USERS + 1, 100L, row % 4 == 3 ? TransactionType.USE : TransactionType.CHARGE, row);
+		}
+		footprint.heapBytesPerRow = (usedHeapAfterGc() - baselineHeapBytes) / rows;
+		footprint.directBytesPerRow = (usedDirectBytes() - baselineDirectBytes) / rows;
+		return repository;
+	}
+
+	static PointHistoryRepository create(String store) {
+		return switch (store) {
+			case "table" -> new TableOnlyRepository(new BenchmarkPointHistoryTable());
+			case "indexed" -> new IndexedPointHistoryRepository(new BenchmarkPointHistoryTable());
+			case "columnar" -> new ColumnarPointHistoryRepository(65536, false);
+			case "columnar-off-heap" -> new ColumnarPointHistoryRepository(65536, true);
+			default -> throw new IllegalArgumentException("알 수 없는 저장소입니다. store=" + store);
+		};
+	}
+
+	private static long usedHeapAfterGc() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return MEMORY.getHeapMemoryUsage().getUsed();
+	}
+
+	private static long usedDirectBytes() {
+		return ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class).stream()
+			.filter(pool -> pool.getName().equals("direct"))
+			.mapToLong(BufferPoolMXBean::getMemoryUsed)
+			.sum();
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+		public long heapBytesPerRow;
+		public long directBytesPerRow;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			heapBytesPerRow = 0;
+			directBytesPerRow = 0;
+		}
+	}
+
+	/**
+	 * 색인 없이 테이블만 쓰는 저장소, 유저별 조회는 전체 목록을 훑습니다.
+	 */
+	static class TableOnlyRepository implements PointHistoryRepository {
+		private final PointHistoryTable table;
+
+		TableOnlyRepository(PointHistoryTable table) {
+			this.table = table;
+		}
+
+		@Override
+		public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+			return table.insert(userId, amount, type, updateMillis);
+		}
+
+		@Override
+		public List<PointHistory> selectAllByUserId(long userId) {
+			return table.selectAllByUserId(userId);
+		}
+	}
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.database;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테이블 클래스와 같은 임의 지연, 0 ~ millis 사이를 균등하게 기다립니다.
+ */
+final class Throttle {
+
+	private Throttle() {
+	}
+
+	static void sleep(boolean enabled, long millis) {
+		if (!enabled) {
+			return;
+		}
+		try {
+			TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(millis));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.database;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 포인트 저장소별 조회/수정 처리량
+ * - table : UserPointTable 과 같은 Map<Long, UserPoint> 방식 (임의 지연 제거)
+ * - primitive : PrimitiveUserPointRepository
+ * - users 명을 미리 저장한 뒤 임의의 유저를 조회/수정합니다. 메모리 사용량은 UserPointStoreFootprintBenchmark 에서 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms16g", "-Xmx16g"})
+public class UserPointStoreBenchmark {
+
+	@Param({"table", "primitive"})
+	private String store;
+
+	@Param({"1000000", "10000000", "50000000"})
+	private int users;
+
+	private UserPointRepository repository;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		repository = create(store, users);
+		for (long userId = 1; userId <= users; userId++) {
+			repository.insertOrUpdate(userId, userId);
+		}
+	}
+
+	@Benchmark
+	@Threads(4)
+	public UserPoint selectById() {
+		return repository.selectById(ThreadLocalRandom.current().nextLong(users) + 1);
+	}
+
+	@Benchmark
+	@Threads(4)
+	public UserPoint insertOrUpdate() {
+		return repository.insertOrUpdate(ThreadLocalRandom.current().nextLong(users) + 1, 100L);
+	}
+
+	static UserPointRepository create(String store, int users) {
+		return switch (store) {
+			case "table" -> new TableUserPointRepository(new BenchmarkUserPointTable());
+			case "primitive" -> new PrimitiveUserPointRepository(users);
+			default -> throw new IllegalArgumentException(store);
+		};
+	}
+}
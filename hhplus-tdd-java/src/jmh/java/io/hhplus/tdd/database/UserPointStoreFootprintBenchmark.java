@@ -0,0 +1,76 @@
+package io.hhplus.tdd.database;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 포인트 저장소별 메모리 사용량
+ * - users 명을 저장하는 데 걸린 시간과, GC 이후 증가한 힙 사용량(유저당 byte)을 기록합니다.
+ * - 초기 용량 없이 시작해 저장소가 스스로 늘어나는 경우를 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms16g", "-Xmx16g"})
+public class UserPointStoreFootprintBenchmark {
+	private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+	@Param({"table", "primitive"})
+	private String store;
+
+	@Param({"1000000", "10000000", "50000000"})
+	private int users;
+
+	private UserPointRepository repository;
+	private long baselineBytes;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		repository = null;
+		baselineBytes = usedHeapAfterGc();
+		repository = UserPointStoreBenchmark.create(store, 0);
+	}
+
+	@Benchmark
+	public UserPointRepository insertAllUsers(Footprint footprint) {
+		for (long userId = 1; userId <= users; userId++) {
+			repository.insertOrUpdate(userId, userId);
+		}
+		footprint.retainedBytes = usedHeapAfterGc() - baselineBytes;
+		footprint.bytesPerUser = footprint.retainedBytes / users;
+		return repository;
+	}
+
+	private static long usedHeapAfterGc() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return MEMORY.getHeapMemoryUsage().getUsed();
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+		public long retainedBytes;
+		public long bytesPerUser;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			retainedBytes = 0;
+			bytesPerUser = 0;
+		}
+	}
+}
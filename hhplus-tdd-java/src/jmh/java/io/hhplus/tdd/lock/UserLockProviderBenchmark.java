@@ -0,0 +1,92 @@
+package io.hhplus.tdd.lock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 유저 락 제공 방식별 락 획득/해제 처리량
+ * - users=1 : 모든 스레드가 한 유저에 몰리는 경우
+ * - users=1000000 : 대부분 서로 다른 유저에 접근하는 경우 (unbounded 는 접근한 유저 수만큼 락이 쌓임)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserLockProviderBenchmark {
+
+	@Param({"unbounded", "striped", "ref-counted"})
+	private String mode;
+
+	@Param({"1", "64", "1000000"})
+	private int users;
+
+	private UserLockProvider provider;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		provider = create(mode);
+	}
+
+	@Benchmark
+	@Threads(8)
+	public void lockAndUnlock(Blackhole blackhole) {
+		long userId = ThreadLocalRandom.current().nextLong(users) + 1;
+		try (UserLock ignored = provider.lock(userId)) {
+			Blackhole.consumeCPU(64);
+		}
+		blackhole.consume(userId);
+	}
+
+	static UserLockProvider create(String mode) {
+		return switch (mode) {
+			case "unbounded" -> new UnboundedUserLockProvider();
+			case "striped" -> new StripedUserLockProvider(1024);
+			case "ref-counted" -> new RefCountedUserLockProvider();
+			default -> throw new IllegalArgumentException(mode);
+		};
+	}
+
+	/**
+	 * 기존 PointService.lockMap 과 같은 방식 (비교 기준)
+	 */
+	static class UnboundedUserLockProvider implements UserLockProvider {
+		private final Map<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+
+		@Override
+		public UserLock lock(long userId) {
+			ReentrantLock lock = lockMap.computeIfAbsent(userId, id -> new ReentrantLock());
+			lock.lock();
+			return lock::unlock;
+		}
+
+		@Override
+		public UserLock tryLock(long userId, long timeout, TimeUnit unit) {
+			ReentrantLock lock = lockMap.computeIfAbsent(userId, id -> new ReentrantLock());
+			try {
+				return lock.tryLock(timeout, unit) ? lock::unlock : null;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return null;
+			}
+		}
+
+		@Override
+		public int size() {
+			return lockMap.size();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.lock;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 유저 락 제공 방식별 메모리 사용량
+ * - users 명의 유저에 한 번씩 락을 잡았다 푼 뒤, 남아 있는 락 수와 GC 이후 증가한 힙 사용량을 기록합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserLockProviderFootprintBenchmark {
+	private static final MemoryMXBean MEMORY = ManagementFactory.getMemoryMXBean();
+
+	@Param({"unbounded", "striped", "ref-counted"})
+	private String mode;
+
+	@Param({"1000000"})
+	private int users;
+
+	private UserLockProvider provider;
+	private long baselineBytes;
+
+	@Setup(Level.Iteration)
+	public void setUp() {
+		provider = null;
+		baselineBytes = usedHeapAfterGc();
+		provider = UserLockProviderBenchmark.create(mode);
+	}
+
+	@Benchmark
+	public UserLockProvider touchAllUsers(Footprint footprint) {
+		for (long userId = 1; userId <= users; userId++) {
+			try (UserLock ignored = provider.lock(userId)) {
+				footprint.acquired++;
+			}
+		}
+		footprint.retainedLocks = provider.size();
+		footprint.retainedBytes = usedHeapAfterGc() - baselineBytes;
+		return provider;
+	}
+
+	private static long usedHeapAfterGc() {
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return MEMORY.getHeapMemoryUsage().getUsed();
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Footprint {
+		public long acquired;
+		public long retainedLocks;
+		public long retainedBytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			acquired = 0;
+			retainedLocks = 0;
+			retainedBytes = 0;
+		}
+	}
+}
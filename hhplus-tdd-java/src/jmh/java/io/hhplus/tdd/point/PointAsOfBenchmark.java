@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.hhplus.tdd.database.BenchmarkPointHistoryTable;
+import io.hhplus.tdd.database.CheckpointPointHistoryRepository;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointBalanceCheckpoints;
+import io.hhplus.tdd.database.PointHistoryRepository;
+
+/**
+ * 유저 한 명의 내역 수(historyLength)와 체크포인트 간격(spacing)에 따른 시점 잔액 조회 시간
+ * - 조회 시점은 매번 전체 내역 구간에서 임의로 고릅니다.
+ * - spacing 0 은 처음부터 적용하므로 historyLength 에 비례하고, 나머지는 historyLength 와 관계없이 spacing 에 비례해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class PointAsOfBenchmark {
+	private static final long USER_ID = 1L;
+
+	@Param({"0", "16", "64", "256"})
+	private int spacing;
+
+	@Param({"1000", "10000", "100000"})
+	private int historyLength;
+
+	private PointAsOfService pointAsOfService;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		PointBalanceCheckpoints checkpoints = new PointBalanceCheckpoints(spacing);
+		PointHistoryRepository repository = new CheckpointPointHistoryRepository(
+			new IndexedPointHistoryRepository(new BenchmarkPointHistoryTable()), checkpoints);
+		for (int i = 0; i < historyLength; i++) {
+			repository.insert(USER_ID, 100L, i % 4 == 3 ? TransactionType.USE : TransactionType.CHARGE, i);
+		}
+		pointAsOfService = new PointAsOfService(repository, checkpoints);
+	}
+
+	@Benchmark
+	public UserPoint getUserPointAt() {
+		return pointAsOfService.getUserPointAt(USER_ID, ThreadLocalRandom.current().nextLong(historyLength));
+	}
+}
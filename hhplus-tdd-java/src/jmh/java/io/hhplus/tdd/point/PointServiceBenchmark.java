@@ -0,0 +1,125 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.hhplus.tdd.database.BenchmarkPointHistoryTable;
+import io.hhplus.tdd.database.BenchmarkUserPointTable;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.TableUserPointRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
+
+/**
+ * PointService 의 충전/사용/조회 처리량
+ * - users=1 : 모든 요청이 한 유저에 몰리는 경우 (hot key), 그 외에는 users 명에게 균등하게 분산됩니다.
+ *   스레드 수 대비 users 가 적을수록 충돌이 잦아 lock/combining 이, 많을수록 충돌이 드물어 optimistic 이 유리합니다.
+ * - throttle=true : 테이블 클래스와 같은 임의 지연을 켠 상태, false 면 저장소 지연 없이 서비스 자체 비용만 측정합니다.
+ * - 스레드 수는 ./gradlew jmh -Pjmh.threads=N 으로 지정합니다. charge/use 는 한 그룹으로 함께 실행되어 잔액이 유지됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PointServiceBenchmark {
+	private static final long INITIAL_POINT = PointCommand.MAX_POINT / 2;
+	private static final int INITIAL_HISTORIES = 100;
+	private static final long AMOUNT = 1L;
+
+	@Param({"lock", "overlapped", "combining", "optimistic", "sharded"})
+	private String executor;
+
+	@Param({"1", "16", "1000"})
+	private int users;
+
+	@Param({"false", "true"})
+	private boolean throttle;
+
+	private PointExecutor pointExecutor;
+	private PointService pointService;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		BenchmarkUserPointTable userPointTable = new BenchmarkUserPointTable();
+		BenchmarkPointHistoryTable pointHistoryTable = new BenchmarkPointHistoryTable();
+		UserPointRepository userPointRepository = new TableUserPointRepository(userPointTable);
+		PointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(pointHistoryTable);
+
+		for (long userId = 1; userId <= users; userId++) {
+			userPointRepository.insertOrUpdate(userId, INITIAL_POINT);
+			for (int i = 0; i < INITIAL_HISTORIES; i++) {
+				pointHistoryRepository.insert(userId, AMOUNT, TransactionType.CHARGE, i);
+			}
+		}
+		userPointTable.throttled(throttle);
+		pointHistoryTable.throttled(throttle);
+
+		RefCountedUserLockProvider userLockProvider = new RefCountedUserLockProvider();
+		PointSnapshots pointSnapshots = new PointSnapshots(new PointVersionRegistry());
+		pointExecutor = switch (executor) {
+			case "lock" -> new LockPointExecutor(userPointRepository, pointHistoryRepository, pointSnapshots,
+				userLockProvider);
+			case "overlapped" -> new OverlappedPointExecutor(userPointRepository, pointHistoryRepository,
+				pointSnapshots, userLockProvider, Executors.newCachedThreadPool());
+			case "combining" -> new CombiningPointExecutor(userPointRepository, pointHistoryRepository,
+				pointSnapshots, userLockProvider);
+			case "optimistic" -> new OptimisticPointExecutor(userPointRepository, pointHistoryRepository,
+				pointSnapshots);
+			case "sharded" -> new ShardedPointExecutor(userPointRepository, pointHistoryRepository, pointSnapshots,
+				Runtime.getRuntime().availableProcessors(), 1024);
+			default -> throw new IllegalArgumentException(executor);
+		};
+		pointService = new PointService(userPointRepository, pointHistoryRepository, pointExecutor,
+			new PointIdempotencyCache(1000, 60000), pointSnapshots);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		if (pointExecutor instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+	@Benchmark
+	@Group("chargeAndUse")
+	@GroupThreads(1)
+	public UserPoint charge() {
+		return pointService.charge(nextUserId(), AMOUNT);
+	}
+
+	@Benchmark
+	@Group("chargeAndUse")
+	@GroupThreads(1)
+	public UserPoint use() {
+		return pointService.use(nextUserId(), AMOUNT);
+	}
+
+	@Benchmark
+	public UserPoint getUserPoint() {
+		return pointService.getUserPoint(nextUserId());
+	}
+
+	@Benchmark
+	public List<PointHistory> getPointHistories() {
+		return pointService.getPointHistories(nextUserId());
+	}
+
+	private long nextUserId() {
+		return ThreadLocalRandom.current().nextLong(users) + 1;
+	}
+}
@@ -0,0 +1,59 @@
+package io.hhplus.tdd.load;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 한 종류의 요청에 대한 응답 시간과 결과를 모읍니다.
+ * - 응답 시간은 전부 보관했다가 정렬해 백분위를 구합니다. (부하 1회 수백만 건까지는 충분)
+ */
+class LatencyRecorder {
+	private long[] latencies = new long[1024];
+	private int count;
+	private long errors;
+	private final Map<Integer, Long> statusCounts = new TreeMap<>();
+
+	synchronized void record(long latencyNanos, int status) {
+		if (count == latencies.length) {
+			latencies = Arrays.copyOf(latencies, count * 2);
+		}
+		latencies[count++] = latencyNanos;
+		statusCounts.merge(status, 1L, Long::sum);
+		if (status < 200 || status >= 300) {
+			errors++;
+		}
+	}
+
+	synchronized Summary summarize() {
+		long[] sorted = Arrays.copyOf(latencies, count);
+		Arrays.sort(sorted);
+		return new Summary(count, errors, count == 0 ? 0 : (double) errors / count,
+			millis(sorted, 0.50), millis(sorted, 0.95), millis(sorted, 0.99), millis(sorted, 0.999),
+			count == 0 ? 0 : sorted[count - 1] / 1_000_000.0, Map.copyOf(statusCounts));
+	}
+
+	private static double millis(long[] sorted, double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		int index = (int) Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(index, 0)] / 1_000_000.0;
+	}
+
+	/**
+	 * @param statusCounts HTTP 상태 코드별 건수, 연결 실패 등 응답을 받지 못한 요청은 0
+	 */
+	record Summary(
+		long count,
+		long errors,
+		double errorRate,
+		double p50Millis,
+		double p95Millis,
+		double p99Millis,
+		double p999Millis,
+		double maxMillis,
+		Map<Integer, Long> statusCounts
+	) {
+	}
+}
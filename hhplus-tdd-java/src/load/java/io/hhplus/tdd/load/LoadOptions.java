@@ -0,0 +1,86 @@
+package io.hhplus.tdd.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * load.* 시스템 프로퍼티로 받는 부하 설정 (./gradlew loadTest -Pload.rate=500 ...)
+ *
+ * @param baseUrl 부하를 보낼 서버, 비어 있으면 애플리케이션을 이 프로세스에서 임의 포트로 띄웁니다.
+ * @param rate 초당 요청 수, 응답을 기다리지 않고 일정한 간격으로 보냅니다. (open-loop)
+ * @param warmupSeconds 결과에서 제외하는 처음 구간
+ * @param durationSeconds warmup 이후 측정 구간
+ * @param users 대상 유저 수 (userId 1 ~ users)
+ * @param distribution uniform | hot-key | zipf
+ * @param hotRatio hot-key 에서 유저 1 로 보내는 요청 비율
+ * @param zipfExponent zipf 지수, 클수록 상위 유저에 몰림
+ * @param mix 충전:사용:조회 비율 (예: 40:30:30)
+ * @param amount 충전/사용 금액
+ * @param maxInFlight 응답을 기다리는 요청 상한, 넘으면 보내지 않고 dropped 로 셉니다.
+ * @param reportDirectory 결과 JSON 을 남길 디렉터리
+ * @param applicationProperties load.app.* 로 받은 애플리케이션 설정 (예: -Pload.app.point.executor.mode=sharded)
+ */
+public record LoadOptions(
+	String baseUrl,
+	double rate,
+	int warmupSeconds,
+	int durationSeconds,
+	int users,
+	UserKeyDistribution.Type distribution,
+	double hotRatio,
+	double zipfExponent,
+	String mix,
+	long amount,
+	int maxInFlight,
+	String reportDirectory,
+	Map<String, String> applicationProperties
+) {
+	private static final String PREFIX = "load.";
+	private static final String APPLICATION_PREFIX = "load.app.";
+
+	public static LoadOptions from(Properties properties) {
+		Map<String, String> applicationProperties = new TreeMap<>();
+		for (String name : properties.stringPropertyNames()) {
+			if (name.startsWith(APPLICATION_PREFIX)) {
+				applicationProperties.put(name.substring(APPLICATION_PREFIX.length()), properties.getProperty(name));
+			}
+		}
+
+		LoadOptions options = new LoadOptions(
+			get(properties, "base-url", ""),
+			Double.parseDouble(get(properties, "rate", "200")),
+			Integer.parseInt(get(properties, "warmup-seconds", "5")),
+			Integer.parseInt(get(properties, "duration-seconds", "30")),
+			Integer.parseInt(get(properties, "users", "1000")),
+			UserKeyDistribution.Type.valueOf(get(properties, "distribution", "zipf").toUpperCase().replace('-', '_')),
+			Double.parseDouble(get(properties, "hot-ratio", "0.5")),
+			Double.parseDouble(get(properties, "zipf-exponent", "1.0")),
+			get(properties, "mix", "40:30:30"),
+			Long.parseLong(get(properties, "amount", "100")),
+			Integer.parseInt(get(properties, "max-in-flight", "1000")),
+			get(properties, "report-directory", "build/reports/load"),
+			applicationProperties
+		);
+		if (options.rate() <= 0 || options.durationSeconds() <= 0 || options.maxInFlight() <= 0) {
+			throw new IllegalArgumentException("load.rate, load.duration-seconds, load.max-in-flight 는 0보다 커야 합니다.");
+		}
+		return options;
+	}
+
+	/**
+	 * 애플리케이션을 직접 띄울 때 넘길 인자, 포트는 비어 있는 포트를 씁니다.
+	 */
+	public String[] applicationArguments() {
+		List<String> arguments = new ArrayList<>();
+		arguments.add("--server.port=0");
+		applicationProperties.forEach((name, value) -> arguments.add("--" + name + "=" + value));
+		return arguments.toArray(String[]::new);
+	}
+
+	private static String get(Properties properties, String name, String defaultValue) {
+		return properties.getProperty(PREFIX + name, defaultValue);
+	}
+}
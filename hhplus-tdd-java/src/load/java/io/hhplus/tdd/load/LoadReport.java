@@ -0,0 +1,23 @@
+package io.hhplus.tdd.load;
+
+import java.util.Map;
+
+/**
+ * 부하 1회 결과, 응답 시간은 요청을 보내기로 예정한 시각부터 측정합니다.
+ * (서버가 밀려 요청이 늦게 나가도 그 대기 시간이 응답 시간에 포함됩니다.)
+ *
+ * @param sent 측정 구간에 보낸 요청 수
+ * @param dropped 응답을 기다리는 요청이 maxInFlight 에 닿아 보내지 못한 요청 수
+ * @param throughputPerSecond 측정 구간 동안 초당 성공(2xx) 응답 수
+ */
+record LoadReport(
+	LoadOptions options,
+	String baseUrl,
+	String startedAt,
+	long sent,
+	long dropped,
+	double throughputPerSecond,
+	LatencyRecorder.Summary total,
+	Map<Operation, LatencyRecorder.Summary> operations
+) {
+}
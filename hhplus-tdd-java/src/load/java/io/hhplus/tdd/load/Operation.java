@@ -0,0 +1,47 @@
+package io.hhplus.tdd.load;
+
+import java.util.SplittableRandom;
+
+/**
+ * 부하 요청 종류
+ * - CHARGE : PATCH /point/{id}/charge
+ * - USE : PATCH /point/{id}/use
+ * - READ : GET /point/{id}
+ */
+enum Operation {
+	CHARGE, USE, READ;
+
+	/**
+	 * "충전:사용:조회" 비율로 요청 종류를 고릅니다.
+	 */
+	static Mix mix(String ratio) {
+		String[] parts = ratio.split(":");
+		if (parts.length != values().length) {
+			throw new IllegalArgumentException("load.mix 는 충전:사용:조회 형식이어야 합니다. mix=" + ratio);
+		}
+
+		int[] cumulative = new int[parts.length];
+		int sum = 0;
+		for (int i = 0; i < parts.length; i++) {
+			sum += Integer.parseInt(parts[i].trim());
+			cumulative[i] = sum;
+		}
+		if (sum <= 0) {
+			throw new IllegalArgumentException("load.mix 비율의 합은 0보다 커야 합니다. mix=" + ratio);
+		}
+		return new Mix(cumulative);
+	}
+
+	record Mix(int[] cumulative) {
+
+		Operation next(SplittableRandom random) {
+			int value = random.nextInt(cumulative[cumulative.length - 1]);
+			for (int i = 0; i < cumulative.length; i++) {
+				if (value < cumulative[i]) {
+					return values()[i];
+				}
+			}
+			throw new IllegalStateException();
+		}
+	}
+}
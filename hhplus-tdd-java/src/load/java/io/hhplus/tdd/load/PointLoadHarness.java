@@ -0,0 +1,178 @@
+package io.hhplus.tdd.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.hhplus.tdd.TddApplication;
+
+/**
+ * PointController 에 HTTP 로 부하를 주고 응답 시간 백분위, 처리량, 오류율을 파일로 남깁니다.
+ * - 요청은 rate 에 맞춘 예정 시각마다 응답을 기다리지 않고 보냅니다. (open-loop)
+ * - 대상 유저는 distribution, 요청 종류는 mix 비율로 고릅니다.
+ * - base-url 이 없으면 load.app.* 설정으로 애플리케이션을 이 프로세스에서 띄워 실행합니다.
+ */
+public class PointLoadHarness {
+	private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+	private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+	private final LoadOptions options;
+	private final String baseUrl;
+	private final UserKeyDistribution distribution;
+	private final Operation.Mix mix;
+	private final Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+	private final LatencyRecorder total = new LatencyRecorder();
+
+	public PointLoadHarness(LoadOptions options, String baseUrl) {
+		this.options = options;
+		this.baseUrl = baseUrl;
+		this.distribution = UserKeyDistribution.of(options.distribution(), options.users(), options.hotRatio(),
+			options.zipfExponent());
+		this.mix = Operation.mix(options.mix());
+		for (Operation operation : Operation.values()) {
+			recorders.put(operation, new LatencyRecorder());
+		}
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadOptions options = LoadOptions.from(System.getProperties());
+
+		ConfigurableApplicationContext context = null;
+		String baseUrl = options.baseUrl();
+		if (baseUrl.isBlank()) {
+			context = SpringApplication.run(TddApplication.class, options.applicationArguments());
+			baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+		}
+
+		try {
+			LoadReport report = new PointLoadHarness(options, baseUrl).run();
+			Path path = write(report);
+			print(report, path);
+		} finally {
+			if (context != null) {
+				context.close();
+			}
+		}
+	}
+
+	LoadReport run() throws InterruptedException {
+		String startedAt = LocalDateTime.now().toString();
+		ExecutorService responseExecutor = Executors.newCachedThreadPool();
+		HttpClient client = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofSeconds(5))
+			.executor(responseExecutor)
+			.build();
+		Semaphore inFlight = new Semaphore(options.maxInFlight());
+		SplittableRandom random = new SplittableRandom();
+
+		long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / options.rate());
+		long start = System.nanoTime();
+		long measureFrom = start + TimeUnit.SECONDS.toNanos(options.warmupSeconds());
+		long end = measureFrom + TimeUnit.SECONDS.toNanos(options.durationSeconds());
+		long sent = 0;
+		long dropped = 0;
+
+		for (long i = 0; ; i++) {
+			long scheduled = start + i * intervalNanos;
+			if (scheduled >= end) {
+				break;
+			}
+			waitUntil(scheduled);
+
+			boolean measured = scheduled >= measureFrom;
+			Operation operation = mix.next(random);
+			long userId = distribution.next(random);
+			if (!inFlight.tryAcquire()) {
+				if (measured) {
+					dropped++;
+				}
+				continue;
+			}
+			if (measured) {
+				sent++;
+			}
+
+			client.sendAsync(request(operation, userId), HttpResponse.BodyHandlers.discarding())
+				.whenComplete((response, error) -> {
+					inFlight.release();
+					if (measured) {
+						long latency = System.nanoTime() - scheduled;
+						int status = error == null ? response.statusCode() : 0;
+						recorders.get(operation).record(latency, status);
+						total.record(latency, status);
+					}
+				});
+		}
+
+		inFlight.tryAcquire(options.maxInFlight(), REQUEST_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+		responseExecutor.shutdown();
+
+		LatencyRecorder.Summary totalSummary = total.summarize();
+		Map<Operation, LatencyRecorder.Summary> operations = new EnumMap<>(Operation.class);
+		recorders.forEach((operation, recorder) -> operations.put(operation, recorder.summarize()));
+		double throughput = (totalSummary.count() - totalSummary.errors()) / (double) options.durationSeconds();
+		return new LoadReport(options, baseUrl, startedAt, sent, dropped, throughput, totalSummary, operations);
+	}
+
+	private HttpRequest request(Operation operation, long userId) {
+		String amount = String.valueOf(options.amount());
+		HttpRequest.Builder builder = switch (operation) {
+			case CHARGE -> HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + userId + "/charge"))
+				.method("PATCH", HttpRequest.BodyPublishers.ofString(amount));
+			case USE -> HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + userId + "/use"))
+				.method("PATCH", HttpRequest.BodyPublishers.ofString(amount));
+			case READ -> HttpRequest.newBuilder(URI.create(baseUrl + "/point/" + userId)).GET();
+		};
+		return builder.header("Content-Type", "application/json")
+			.timeout(REQUEST_TIMEOUT)
+			.build();
+	}
+
+	private static void waitUntil(long deadline) {
+		long remaining;
+		while ((remaining = deadline - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(remaining);
+		}
+	}
+
+	private static Path write(LoadReport report) throws Exception {
+		Path directory = Path.of(report.options().reportDirectory());
+		Files.createDirectories(directory);
+		Path path = directory.resolve("point-load-" + LocalDateTime.now().format(FILE_TIME) + ".json");
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), report);
+		return path;
+	}
+
+	private static void print(LoadReport report, Path path) {
+		LatencyRecorder.Summary total = report.total();
+		System.out.printf("sent=%d dropped=%d throughput=%.1f/s errorRate=%.4f%n",
+			report.sent(), report.dropped(), report.throughputPerSecond(), total.errorRate());
+		System.out.printf("latency(ms) p50=%.2f p95=%.2f p99=%.2f p999=%.2f max=%.2f%n",
+			total.p50Millis(), total.p95Millis(), total.p99Millis(), total.p999Millis(), total.maxMillis());
+		report.operations().forEach((operation, summary) -> System.out.printf(
+			"  %-6s count=%d errors=%d p50=%.2f p99=%.2f%n",
+			operation, summary.count(), summary.errors(), summary.p50Millis(), summary.p99Millis()));
+		System.out.println("report : " + path.toAbsolutePath());
+	}
+}
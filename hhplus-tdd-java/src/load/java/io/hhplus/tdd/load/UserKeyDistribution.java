@@ -0,0 +1,49 @@
+package io.hhplus.tdd.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 요청마다 대상 userId (1 ~ users) 를 고릅니다.
+ * - uniform : 모든 유저가 같은 확률
+ * - hot-key : hotRatio 비율의 요청이 유저 1 에 몰리고, 나머지는 균등
+ * - zipf : k 번째 유저가 1 / k^exponent 에 비례하는 확률 (소수의 유저에 요청이 몰리는 실제 트래픽에 가까움)
+ */
+public interface UserKeyDistribution {
+
+	long next(SplittableRandom random);
+
+	enum Type {
+		UNIFORM, HOT_KEY, ZIPF
+	}
+
+	static UserKeyDistribution of(Type type, int users, double hotRatio, double zipfExponent) {
+		if (users <= 0) {
+			throw new IllegalArgumentException("유저 수는 0보다 커야 합니다.");
+		}
+
+		return switch (type) {
+			case UNIFORM -> random -> 1 + random.nextInt(users);
+			case HOT_KEY -> random -> random.nextDouble() < hotRatio ? 1 : 1 + random.nextInt(users);
+			case ZIPF -> zipf(users, zipfExponent);
+		};
+	}
+
+	/**
+	 * 누적 확률표를 미리 만들어 두고 이진 탐색으로 뽑습니다.
+	 */
+	private static UserKeyDistribution zipf(int users, double exponent) {
+		double[] cumulative = new double[users];
+		double sum = 0;
+		for (int k = 1; k <= users; k++) {
+			sum += 1 / Math.pow(k, exponent);
+			cumulative[k - 1] = sum;
+		}
+		double total = sum;
+
+		return random -> {
+			int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+			return 1 + (index >= 0 ? index : Math.min(-index - 1, users - 1));
+		};
+	}
+}
@@ -1,12 +1,40 @@
 package io.hhplus.tdd;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import io.hhplus.tdd.lock.UserLockTimeoutException;
+import io.hhplus.tdd.point.PointAdmissionProperties;
+import io.hhplus.tdd.point.PointOverloadedException;
+import lombok.RequiredArgsConstructor;
+
 @RestControllerAdvice
+@RequiredArgsConstructor
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+	private final PointAdmissionProperties pointAdmissionProperties;
+
+	/**
+	 * 처리 한도를 넘어 거절한 요청은 Retry-After 와 함께 429 로 응답합니다.
+	 */
+	@ExceptionHandler(value = {PointOverloadedException.class, UserLockTimeoutException.class})
+	public ResponseEntity<ErrorResponse> handleOverloaded(RuntimeException e) {
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+			.header(HttpHeaders.RETRY_AFTER, String.valueOf(pointAdmissionProperties.retryAfterSeconds()))
+			.body(new ErrorResponse("429", e.getMessage()));
+	}
+
+	/**
+	 * 잘못된 금액이나 잔액 부족처럼 요청 자체를 처리할 수 없으면 400 으로 응답합니다. (일괄 요청의 항목별 오류 코드와 같습니다.)
+	 */
+	@ExceptionHandler(value = IllegalArgumentException.class)
+	public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e) {
+		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ErrorResponse("400", e.getMessage()));
+	}
+
 	@ExceptionHandler(value = Exception.class)
 	public ResponseEntity<ErrorResponse> handleException(Exception e) {
 		return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
@@ -0,0 +1,167 @@
+package io.hhplus.tdd.database;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * UserPointTable 앞의 write-through 포인트 캐시
+ * - 크기가 제한된 LRU 캐시를 userId 해시로 나눈 세그먼트에 보관합니다.
+ * - 수정은 테이블에 먼저 쓰고 캐시를 갱신합니다. 충전/사용은 유저 락 안에서 수정하므로 캐시도 락 순서대로 갱신됩니다.
+ * - 캐시에 없는 유저는 같은 유저 락을 잡고 테이블에서 읽어 오므로, 진행 중인 수정보다 오래된 값이 캐시에 올라가지 않습니다.
+ *   수정도 같은 유저 락 안에서 일어나야 하므로 유저 락을 잡지 않는 실행 방식과는 함께 쓰지 않습니다.
+ */
+public class CachingUserPointRepository implements UserPointRepository {
+	private static final int MAX_SEGMENTS = 16;
+
+	private final UserPointRepository delegate;
+	private final UserLockProvider userLockProvider;
+	private final Segment[] segments;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	public CachingUserPointRepository(UserPointRepository delegate, UserLockProvider userLockProvider,
+		int maximumSize) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("캐시 최대 크기는 0보다 커야 합니다.");
+		}
+
+		this.delegate = delegate;
+		this.userLockProvider = userLockProvider;
+
+		int segmentCount = Integer.highestOneBit(Math.min(MAX_SEGMENTS, maximumSize));
+		this.segments = new Segment[segmentCount];
+		for (int i = 0; i < segmentCount; i++) {
+			this.segments[i] = new Segment((maximumSize + segmentCount - 1) / segmentCount);
+		}
+	}
+
+	@Override
+	public UserPoint selectById(long id) {
+		Segment segment = segment(id);
+		UserPoint cached = segment.get(id);
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+
+		try (UserLock ignored = this.userLockProvider.lock(id)) {
+			cached = segment.get(id);
+			if (cached != null) {
+				hits.increment();
+				return cached;
+			}
+
+			misses.increment();
+			UserPoint userPoint = this.delegate.selectById(id);
+			if (userPoint != null) {
+				segment.put(id, userPoint);
+			}
+			return userPoint;
+		}
+	}
+
+	@Override
+	public UserPoint insertOrUpdate(long id, long amount) {
+		UserPoint userPoint = this.delegate.insertOrUpdate(id, amount);
+		segment(id).put(id, userPoint);
+		return userPoint;
+	}
+
+	@Override
+	public UserPoint insertOrUpdate(long id, long amount, long updateMillis) {
+		UserPoint userPoint = this.delegate.insertOrUpdate(id, amount, updateMillis);
+		segment(id).put(id, userPoint);
+		return userPoint;
+	}
+
+	@Override
+	public boolean supportsUpdateMillis() {
+		return this.delegate.supportsUpdateMillis();
+	}
+
+	public long hitCount() {
+		return hits.sum();
+	}
+
+	public long missCount() {
+		return misses.sum();
+	}
+
+	public long evictionCount() {
+		return evictions.sum();
+	}
+
+	public CacheStats stats() {
+		int size = 0;
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		return new CacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+	}
+
+	private Segment segment(long id) {
+		int hash = Long.hashCode(id);
+		return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+	}
+
+	public record CacheStats(
+		long hits,
+		long misses,
+		long evictions,
+		int size
+	) {
+	}
+
+	private class Segment {
+		private final ReentrantLock lock = new ReentrantLock();
+		private final Map<Long, UserPoint> entries;
+
+		Segment(int capacity) {
+			this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Long, UserPoint> eldest) {
+					if (size() > capacity) {
+						evictions.increment();
+						return true;
+					}
+					return false;
+				}
+			};
+		}
+
+		UserPoint get(long id) {
+			lock.lock();
+			try {
+				return entries.get(id);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		void put(long id, UserPoint userPoint) {
+			lock.lock();
+			try {
+				entries.put(id, userPoint);
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		int size() {
+			lock.lock();
+			try {
+				return entries.size();
+			} finally {
+				lock.unlock();
+			}
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.database;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryOrder;
+import io.hhplus.tdd.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저장된 내역을 PointBalanceCheckpoints 의 유저별 잔액에 반영합니다.
+ * - 테이블에 저장된 내역만 반영하므로, 시점 조회 시 체크포인트 뒤로 다시 읽는 내역과 어긋나지 않습니다.
+ */
+@RequiredArgsConstructor
+public class CheckpointPointHistoryRepository implements PointHistoryRepository {
+	private final PointHistoryRepository delegate;
+	private final PointBalanceCheckpoints checkpoints;
+
+	@Override
+	public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+		PointHistory pointHistory = this.delegate.insert(userId, amount, type, updateMillis);
+		this.checkpoints.add(pointHistory);
+		return pointHistory;
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		return this.delegate.selectAllByUserId(userId);
+	}
+
+	@Override
+	public List<PointHistory> selectPageByUserId(long userId, Long cursor, int limit, PointHistoryOrder order) {
+		return this.delegate.selectPageByUserId(userId, cursor, limit, order);
+	}
+
+	@Override
+	public void forEachByUserId(long userId, PointHistoryOrder order, Consumer<PointHistory> consumer) {
+		this.delegate.forEachByUserId(userId, order, consumer);
+	}
+}
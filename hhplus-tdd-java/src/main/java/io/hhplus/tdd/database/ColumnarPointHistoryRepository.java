@@ -0,0 +1,301 @@
+package io.hhplus.tdd.database;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryOrder;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * PointHistoryTable 대신 사용할 수 있는 열(column) 단위 내역 저장소
+ * - 내역마다 PointHistory 객체를 두지 않고 userId, amount, updateMillis 는 long, type 은 byte 열에 나란히 저장합니다.
+ * - 열은 chunkRows 행 단위 chunk 로 늘리므로 기존 행을 복사하지 않고, offHeap 이면 chunk 를 direct buffer 에 둡니다.
+ * - 내역 id 는 1 부터 저장 순서대로 붙으므로 따로 저장하지 않고 행 번호 + 1 로 계산합니다.
+ * - 유저별 조회는 유저마다 행 번호(int)만 모아 둔 색인으로 해당 행만 읽고, PointHistory 는 반환할 때만 만듭니다.
+ * - 저장은 한 번에 하나씩 처리하고, 조회는 행 수를 먼저 읽어 그 이전까지 기록된 행만 읽습니다.
+ */
+public class ColumnarPointHistoryRepository implements PointHistoryRepository {
+	private static final TransactionType[] TYPES = TransactionType.values();
+	private static final byte USE = (byte) TransactionType.USE.ordinal();
+
+	private final int chunkRows;
+	private final boolean offHeap;
+
+	private volatile Chunk[] chunks = new Chunk[0];
+	private volatile int size;
+	private final Map<Long, UserRows> index = new ConcurrentHashMap<>();
+
+	public ColumnarPointHistoryRepository(int chunkRows, boolean offHeap) {
+		if (chunkRows <= 0 || chunkRows > DirectChunk.MAX_ROWS) {
+			throw new IllegalArgumentException("chunk 행 수는 1 이상 " + DirectChunk.MAX_ROWS + " 이하이어야 합니다.");
+		}
+		this.chunkRows = chunkRows;
+		this.offHeap = offHeap;
+	}
+
+	@Override
+	public synchronized PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+		int row = size;
+		if (row == Integer.MAX_VALUE) {
+			throw new IllegalStateException("저장할 수 있는 내역 수를 넘었습니다.");
+		}
+
+		int chunk = row / chunkRows;
+		Chunk[] current = chunks;
+		if (chunk == current.length) {
+			current = Arrays.copyOf(current, chunk + 1);
+			current[chunk] = offHeap ? new DirectChunk(chunkRows) : new HeapChunk(chunkRows);
+			chunks = current;
+		}
+
+		current[chunk].write(row % chunkRows, userId, amount, (byte) type.ordinal(), updateMillis);
+		index.computeIfAbsent(userId, id -> new UserRows()).append(row);
+		size = row + 1;
+		return new PointHistory(row + 1L, userId, amount, type, updateMillis);
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		UserRows rows = index.get(userId);
+		if (rows == null) {
+			return List.of();
+		}
+
+		int count = rows.size;
+		int[] positions = rows.rows;
+		Chunk[] current = chunks;
+		List<PointHistory> histories = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			histories.add(read(current, positions[i]));
+		}
+		return histories;
+	}
+
+	@Override
+	public List<PointHistory> selectPageByUserId(long userId, Long cursor, int limit, PointHistoryOrder order) {
+		UserRows rows = index.get(userId);
+		if (rows == null) {
+			return List.of();
+		}
+
+		int count = rows.size;
+		int[] positions = rows.rows;
+		Chunk[] current = chunks;
+		List<PointHistory> page = new ArrayList<>(Math.min(limit, count));
+		if (order == PointHistoryOrder.ASC) {
+			int from = cursor == null ? 0 : firstIndexAfter(positions, count, cursor);
+			for (int i = from; i < count && page.size() < limit; i++) {
+				page.add(read(current, positions[i]));
+			}
+		} else {
+			int to = cursor == null ? count : firstIndexAfter(positions, count, cursor - 1);
+			for (int i = to - 1; i >= 0 && page.size() < limit; i--) {
+				page.add(read(current, positions[i]));
+			}
+		}
+		return page;
+	}
+
+	@Override
+	public void forEachByUserId(long userId, PointHistoryOrder order, Consumer<PointHistory> consumer) {
+		UserRows rows = index.get(userId);
+		if (rows == null) {
+			return;
+		}
+
+		int count = rows.size;
+		int[] positions = rows.rows;
+		Chunk[] current = chunks;
+		if (order == PointHistoryOrder.ASC) {
+			for (int i = 0; i < count; i++) {
+				consumer.accept(read(current, positions[i]));
+			}
+		} else {
+			for (int i = count - 1; i >= 0; i--) {
+				consumer.accept(read(current, positions[i]));
+			}
+		}
+	}
+
+	/**
+	 * 유저의 잔액, 내역 객체를 만들지 않고 amount/type 열만 읽어 더합니다.
+	 */
+	public long sumSignedAmountByUserId(long userId) {
+		UserRows rows = index.get(userId);
+		if (rows == null) {
+			return 0L;
+		}
+
+		int count = rows.size;
+		int[] positions = rows.rows;
+		Chunk[] current = chunks;
+		long sum = 0L;
+		for (int i = 0; i < count; i++) {
+			int row = positions[i];
+			Chunk chunk = current[row / chunkRows];
+			int offset = row % chunkRows;
+			long amount = chunk.amount(offset);
+			sum += chunk.type(offset) == USE ? -amount : amount;
+		}
+		return sum;
+	}
+
+	/**
+	 * 저장된 내역 수
+	 */
+	public int size() {
+		return size;
+	}
+
+	private PointHistory read(Chunk[] current, int row) {
+		Chunk chunk = current[row / chunkRows];
+		int offset = row % chunkRows;
+		return new PointHistory(row + 1L, chunk.userId(offset), chunk.amount(offset), TYPES[chunk.type(offset)],
+			chunk.updateMillis(offset));
+	}
+
+	/**
+	 * id(행 번호 + 1) 가 historyId 보다 큰 첫 위치
+	 */
+	private static int firstIndexAfter(int[] positions, int count, long historyId) {
+		int low = 0;
+		int high = count;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (positions[middle] + 1L <= historyId) {
+				low = middle + 1;
+			} else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * 유저 한 명의 행 번호 목록, 가득 차면 두 배 크기 배열로 옮깁니다.
+	 * - 배열을 먼저 교체하고 size 를 늘리므로, size 를 먼저 읽은 조회는 그 이전 행이 모두 들어 있는 배열을 봅니다.
+	 */
+	private static class UserRows {
+		private volatile int[] rows = new int[4];
+		private volatile int size;
+
+		void append(int row) {
+			int position = size;
+			int[] current = rows;
+			if (position == current.length) {
+				current = Arrays.copyOf(current, position * 2);
+				rows = current;
+			}
+			current[position] = row;
+			size = position + 1;
+		}
+	}
+
+	private abstract static class Chunk {
+		abstract void write(int offset, long userId, long amount, byte type, long updateMillis);
+
+		abstract long userId(int offset);
+
+		abstract long amount(int offset);
+
+		abstract byte type(int offset);
+
+		abstract long updateMillis(int offset);
+	}
+
+	private static class HeapChunk extends Chunk {
+		private final long[] userIds;
+		private final long[] amounts;
+		private final long[] updateMillis;
+		private final byte[] types;
+
+		HeapChunk(int rows) {
+			this.userIds = new long[rows];
+			this.amounts = new long[rows];
+			this.updateMillis = new long[rows];
+			this.types = new byte[rows];
+		}
+
+		@Override
+		void write(int offset, long userId, long amount, byte type, long updateMillis) {
+			this.userIds[offset] = userId;
+			this.amounts[offset] = amount;
+			this.updateMillis[offset] = updateMillis;
+			this.types[offset] = type;
+		}
+
+		@Override
+		long userId(int offset) {
+			return userIds[offset];
+		}
+
+		@Override
+		long amount(int offset) {
+			return amounts[offset];
+		}
+
+		@Override
+		byte type(int offset) {
+			return types[offset];
+		}
+
+		@Override
+		long updateMillis(int offset) {
+			return updateMillis[offset];
+		}
+	}
+
+	/**
+	 * direct buffer 하나에 열을 차례로 둡니다. [userId * rows][amount * rows][updateMillis * rows][type * rows]
+	 */
+	private static class DirectChunk extends Chunk {
+		private static final int ROW_BYTES = Long.BYTES * 3 + Byte.BYTES;
+		private static final int MAX_ROWS = Integer.MAX_VALUE / ROW_BYTES;
+
+		private final ByteBuffer buffer;
+		private final int amountBase;
+		private final int updateMillisBase;
+		private final int typeBase;
+
+		DirectChunk(int rows) {
+			this.buffer = ByteBuffer.allocateDirect(rows * ROW_BYTES);
+			this.amountBase = rows * Long.BYTES;
+			this.updateMillisBase = rows * Long.BYTES * 2;
+			this.typeBase = rows * Long.BYTES * 3;
+		}
+
+		@Override
+		void write(int offset, long userId, long amount, byte type, long updateMillis) {
+			buffer.putLong(offset * Long.BYTES, userId);
+			buffer.putLong(amountBase + offset * Long.BYTES, amount);
+			buffer.putLong(updateMillisBase + offset * Long.BYTES, updateMillis);
+			buffer.put(typeBase + offset, type);
+		}
+
+		@Override
+		long userId(int offset) {
+			return buffer.getLong(offset * Long.BYTES);
+		}
+
+		@Override
+		long amount(int offset) {
+			return buffer.getLong(amountBase + offset * Long.BYTES);
+		}
+
+		@Override
+		byte type(int offset) {
+			return buffer.get(typeBase + offset);
+		}
+
+		@Override
+		long updateMillis(int offset) {
+			return buffer.getLong(updateMillisBase + offset * Long.BYTES);
+		}
+	}
+}
@@ -0,0 +1,170 @@
+package io.hhplus.tdd.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryOrder;
+import io.hhplus.tdd.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PointHistoryTable 앞에서 유저별 내역 색인을 유지합니다.
+ * - 저장은 테이블에 위임하고, 테이블이 돌려준 내역을 유저별 세그먼트 목록에 저장 순서대로 추가합니다.
+ * - 조회는 전체 테이블을 훑지 않고 해당 유저의 내역 수에 비례하는 비용으로 처리됩니다.
+ */
+@RequiredArgsConstructor
+public class IndexedPointHistoryRepository implements PointHistoryRepository {
+	private final PointHistoryTable pointHistoryTable;
+
+	private final Map<Long, UserHistories> index = new ConcurrentHashMap<>();
+
+	@Override
+	public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+		PointHistory pointHistory = this.pointHistoryTable.insert(userId, amount, type, updateMillis);
+		index.computeIfAbsent(userId, id -> new UserHistories()).append(pointHistory);
+		return pointHistory;
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		UserHistories histories = index.get(userId);
+		return histories == null ? List.of() : histories.toList();
+	}
+
+	@Override
+	public List<PointHistory> selectPageByUserId(long userId, Long cursor, int limit, PointHistoryOrder order) {
+		UserHistories histories = index.get(userId);
+		return histories == null ? List.of() : histories.page(cursor, limit, order);
+	}
+
+	@Override
+	public void forEachByUserId(long userId, PointHistoryOrder order, Consumer<PointHistory> consumer) {
+		UserHistories histories = index.get(userId);
+		if (histories != null) {
+			histories.forEach(order, consumer);
+		}
+	}
+
+	/**
+	 * 유저 한 명의 내역을 세그먼트 단위로 보관합니다.
+	 * - 세그먼트 크기는 8 부터 두 배씩 늘어나 1024 에서 고정되므로, 내역이 적은 유저는 작은 배열 하나만 사용하고
+	 *   내역이 많은 유저도 기존 배열을 복사하지 않고 이어 붙입니다.
+	 * - 추가는 유저 단위로 동기화하고, 조회는 size 를 먼저 읽어 그 이전까지 기록된 내역만 읽습니다.
+	 * - 내역 id 는 저장 순서대로 증가하므로 cursor 위치는 이진 탐색으로 찾습니다.
+	 */
+	static class UserHistories {
+		private static final int FIRST_SEGMENT_SIZE = 8;
+		private static final int GROWING_SEGMENTS = 7;
+		private static final int MAX_SEGMENT_SIZE = FIRST_SEGMENT_SIZE << GROWING_SEGMENTS;
+		private static final int GROWING_CAPACITY = MAX_SEGMENT_SIZE - FIRST_SEGMENT_SIZE;
+
+		private volatile PointHistory[][] segments = new PointHistory[0][];
+		private volatile int size;
+
+		synchronized void append(PointHistory pointHistory) {
+			int position = size;
+			int segment = segmentOf(position);
+
+			PointHistory[][] current = segments;
+			if (segment == current.length) {
+				PointHistory[][] grown = new PointHistory[current.length + 1][];
+				System.arraycopy(current, 0, grown, 0, current.length);
+				grown[segment] = new PointHistory[segmentSize(segment)];
+				segments = grown;
+				current = grown;
+			}
+
+			current[segment][offsetOf(position, segment)] = pointHistory;
+			size = position + 1;
+		}
+
+		List<PointHistory> toList() {
+			int count = size;
+			PointHistory[][] current = segments;
+
+			List<PointHistory> histories = new ArrayList<>(count);
+			for (int position = 0; position < count; position++) {
+				histories.add(get(current, position));
+			}
+			return histories;
+		}
+
+		List<PointHistory> page(Long cursor, int limit, PointHistoryOrder order) {
+			int count = size;
+			PointHistory[][] current = segments;
+
+			List<PointHistory> page = new ArrayList<>(Math.min(limit, count));
+			if (order == PointHistoryOrder.ASC) {
+				int from = cursor == null ? 0 : firstPositionAfter(current, count, cursor);
+				for (int position = from; position < count && page.size() < limit; position++) {
+					page.add(get(current, position));
+				}
+			} else {
+				int to = cursor == null ? count : firstPositionAfter(current, count, cursor - 1);
+				for (int position = to - 1; position >= 0 && page.size() < limit; position--) {
+					page.add(get(current, position));
+				}
+			}
+			return page;
+		}
+
+		void forEach(PointHistoryOrder order, Consumer<PointHistory> consumer) {
+			int count = size;
+			PointHistory[][] current = segments;
+
+			if (order == PointHistoryOrder.ASC) {
+				for (int position = 0; position < count; position++) {
+					consumer.accept(get(current, position));
+				}
+			} else {
+				for (int position = count - 1; position >= 0; position--) {
+					consumer.accept(get(current, position));
+				}
+			}
+		}
+
+		/**
+		 * id 가 historyId 보다 큰 첫 위치
+		 */
+		private static int firstPositionAfter(PointHistory[][] current, int count, long historyId) {
+			int low = 0;
+			int high = count;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (get(current, middle).id() <= historyId) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		private static PointHistory get(PointHistory[][] current, int position) {
+			int segment = segmentOf(position);
+			return current[segment][offsetOf(position, segment)];
+		}
+
+		private static int segmentOf(int position) {
+			if (position < GROWING_CAPACITY) {
+				return 31 - Integer.numberOfLeadingZeros(position / FIRST_SEGMENT_SIZE + 1);
+			}
+			return GROWING_SEGMENTS + (position - GROWING_CAPACITY) / MAX_SEGMENT_SIZE;
+		}
+
+		private static int offsetOf(int position, int segment) {
+			if (segment < GROWING_SEGMENTS) {
+				return position - FIRST_SEGMENT_SIZE * ((1 << segment) - 1);
+			}
+			return (position - GROWING_CAPACITY) % MAX_SEGMENT_SIZE;
+		}
+
+		private static int segmentSize(int segment) {
+			return segment < GROWING_SEGMENTS ? FIRST_SEGMENT_SIZE << segment : MAX_SEGMENT_SIZE;
+		}
+	}
+}
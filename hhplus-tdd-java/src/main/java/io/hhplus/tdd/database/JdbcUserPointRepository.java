@@ -0,0 +1,66 @@
+package io.hhplus.tdd.database;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * point_user_balance 테이블에 잔액을 저장해, 같은 DataSource 를 보는 인스턴스들이 하나의 잔액을 함께 봅니다.
+ * - 유저 임대(point.lock.lease)와 함께 써서, 임대를 가진 인스턴스만 그 유저의 잔액을 읽고 고칩니다.
+ * - 없는 유저는 UserPointTable 과 같이 0 포인트로 조회됩니다.
+ * - 저장은 UPDATE 를 먼저 시도하고, 행이 없을 때만 INSERT 합니다.
+ */
+public class JdbcUserPointRepository implements UserPointRepository {
+	private static final String CREATE_TABLE = """
+		CREATE TABLE IF NOT EXISTS point_user_balance (
+			user_id BIGINT PRIMARY KEY,
+			point BIGINT NOT NULL,
+			update_millis BIGINT NOT NULL
+		)""";
+	private static final String SELECT = "SELECT point, update_millis FROM point_user_balance WHERE user_id = ?";
+	private static final String UPDATE = "UPDATE point_user_balance SET point = ?, update_millis = ? WHERE user_id = ?";
+	private static final String INSERT =
+		"INSERT INTO point_user_balance (user_id, point, update_millis) VALUES (?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public JdbcUserPointRepository(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.jdbcTemplate.execute(CREATE_TABLE);
+	}
+
+	@Override
+	public UserPoint selectById(long id) {
+		List<UserPoint> userPoints = this.jdbcTemplate.query(SELECT,
+			(resultSet, rowNum) -> new UserPoint(id, resultSet.getLong("point"), resultSet.getLong("update_millis")),
+			id);
+		return userPoints.isEmpty() ? UserPoint.empty(id) : userPoints.get(0);
+	}
+
+	@Override
+	public UserPoint insertOrUpdate(long id, long amount) {
+		return insertOrUpdate(id, amount, System.currentTimeMillis());
+	}
+
+	@Override
+	public UserPoint insertOrUpdate(long id, long amount, long updateMillis) {
+		if (this.jdbcTemplate.update(UPDATE, amount, updateMillis, id) == 0) {
+			try {
+				this.jdbcTemplate.update(INSERT, id, amount, updateMillis);
+			} catch (DuplicateKeyException e) {
+				this.jdbcTemplate.update(UPDATE, amount, updateMillis, id);
+			}
+		}
+		return new UserPoint(id, amount, updateMillis);
+	}
+
+	@Override
+	public boolean supportsUpdateMillis() {
+		return true;
+	}
+}
@@ -0,0 +1,367 @@
+package io.hhplus.tdd.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryOrder;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 내역 저장을 유저 락 밖으로 빼내는 비동기 outbox
+ * - insert 는 내역을 크기가 제한된 대기열에 넣고 바로 반환합니다. 대기열이 가득 차면 빈 자리가 생길 때까지 기다리며,
+ *   기다리는 동안 다른 유저의 insert 를 막지 않습니다.
+ * - 대기열은 userId 로 writers 개의 파티션으로 나뉘고, 파티션마다 writer 스레드 하나가 순서대로 꺼내 batch 단위로
+ *   저장하므로 유저별 순서가 유지됩니다.
+ * - 아직 저장되지 않은 내역도 조회 결과에 합쳐서 반환합니다. (read-your-writes)
+ * - 테이블 id 는 저장 순서대로 1씩 증가하므로, 대기 중인 내역에는 저장될 때 받을 id 를 미리 붙입니다.
+ *   테이블에 이미 내역이 있으면(저널 복구 등) 마지막으로 저장된 id 다음부터 붙입니다.
+ *   writers 가 2 이상이면 파티션 사이의 저장 순서가 정해지지 않아, 저장된 id 가 미리 붙인 id 와 달라질 수 있습니다.
+ * - 저장이 maxAttempts 번 연속 실패한 내역은 dead letter 로 옮기고 다음 내역을 저장합니다.
+ */
+public class OutboxPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+	private static final Logger log = LoggerFactory.getLogger(OutboxPointHistoryRepository.class);
+
+	private static final int DEFAULT_WRITERS = 1;
+	private static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+	private final PointHistoryRepository delegate;
+	private final int batchSize;
+	private final int maxAttempts;
+	private final Partition[] partitions;
+
+	private final Map<Long, Queue<PendingHistory>> pendingByUser = new ConcurrentHashMap<>();
+	private final Queue<PointHistory> deadLetters = new ConcurrentLinkedQueue<>();
+	private final AtomicLong nextId;
+	private final AtomicInteger depth = new AtomicInteger();
+	private final AtomicLong drainedCount = new AtomicLong();
+	private final AtomicLong deadLetteredCount = new AtomicLong();
+	private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+
+	private volatile long lastDrainLagMillis;
+	private volatile boolean closed;
+
+	public OutboxPointHistoryRepository(PointHistoryRepository delegate, int capacity, int batchSize) {
+		this(delegate, capacity, batchSize, 0);
+	}
+
+	/**
+	 * @param lastStoredId delegate 에 이미 저장된 마지막 내역 id, 비어 있으면 0
+	 */
+	public OutboxPointHistoryRepository(PointHistoryRepository delegate, int capacity, int batchSize,
+		long lastStoredId) {
+		this(delegate, capacity, batchSize, lastStoredId, DEFAULT_WRITERS, DEFAULT_MAX_ATTEMPTS);
+	}
+
+	/**
+	 * @param lastStoredId delegate 에 이미 저장된 마지막 내역 id, 비어 있으면 0
+	 * @param writers 대기열 파티션(writer 스레드) 수, capacity 는 파티션마다 나눠 가집니다.
+	 * @param maxAttempts 내역 하나를 저장하려고 시도하는 최대 횟수
+	 */
+	public OutboxPointHistoryRepository(PointHistoryRepository delegate, int capacity, int batchSize,
+		long lastStoredId, int writers, int maxAttempts) {
+		if (writers < 1 || maxAttempts < 1) {
+			throw new IllegalArgumentException("writers 와 maxAttempts 는 1 이상이어야 합니다.");
+		}
+
+		this.delegate = delegate;
+		this.batchSize = batchSize;
+		this.maxAttempts = maxAttempts;
+		this.nextId = new AtomicLong(lastStoredId + 1);
+		this.partitions = new Partition[writers];
+		for (int i = 0; i < writers; i++) {
+			this.partitions[i] = new Partition(Math.max(1, capacity / writers), "point-history-outbox-" + i);
+		}
+	}
+
+	@Override
+	public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+		closeLock.readLock().lock();
+		try {
+			if (closed) {
+				throw new IllegalStateException("내역 outbox 가 종료되었습니다.");
+			}
+			return partitionOf(userId).enqueue(userId, amount, type, updateMillis).history();
+		} finally {
+			closeLock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		Queue<PendingHistory> pendings = pendingByUser.get(userId);
+		List<PendingHistory> pendingSnapshot = pendings == null ? List.of() : List.copyOf(pendings);
+		List<PointHistory> persisted = this.delegate.selectAllByUserId(userId);
+		if (pendingSnapshot.isEmpty()) {
+			return persisted;
+		}
+
+		long lastPersistedId = persisted.isEmpty() ? 0 : persisted.get(persisted.size() - 1).id();
+		List<PointHistory> histories = new ArrayList<>(persisted.size() + pendingSnapshot.size());
+		histories.addAll(persisted);
+		for (PendingHistory pending : pendingSnapshot) {
+			PointHistory saved = pending.saved();
+			if (saved == null) {
+				histories.add(pending.history());
+			} else if (saved.id() > lastPersistedId) {
+				histories.add(saved);
+			}
+		}
+		return histories;
+	}
+
+	/**
+	 * 대기 중인 내역이 없으면 저장소의 페이지 조회를 그대로 사용하고, 있으면 합친 목록에서 잘라냅니다.
+	 */
+	@Override
+	public List<PointHistory> selectPageByUserId(long userId, Long cursor, int limit, PointHistoryOrder order) {
+		if (hasPending(userId)) {
+			return PointHistoryRepository.super.selectPageByUserId(userId, cursor, limit, order);
+		}
+		return this.delegate.selectPageByUserId(userId, cursor, limit, order);
+	}
+
+	@Override
+	public void forEachByUserId(long userId, PointHistoryOrder order, Consumer<PointHistory> consumer) {
+		if (hasPending(userId)) {
+			PointHistoryRepository.super.forEachByUserId(userId, order, consumer);
+			return;
+		}
+		this.delegate.forEachByUserId(userId, order, consumer);
+	}
+
+	private boolean hasPending(long userId) {
+		Queue<PendingHistory> pendings = pendingByUser.get(userId);
+		return pendings != null && !pendings.isEmpty();
+	}
+
+	private Partition partitionOf(long userId) {
+		return partitions[Math.floorMod(Long.hashCode(userId), partitions.length)];
+	}
+
+	/**
+	 * 아직 테이블에 저장되지 않은 내역 수
+	 */
+	public int queueDepth() {
+		return depth.get();
+	}
+
+	/**
+	 * 저장되지 않은 내역 중 가장 오래된 내역이 기다린 시간, 없으면 0
+	 */
+	public long pendingAgeMillis() {
+		long oldestMillis = Long.MAX_VALUE;
+		for (Partition partition : partitions) {
+			PendingHistory oldest = partition.writing;
+			if (oldest == null) {
+				oldest = partition.queue.peek();
+			}
+			if (oldest != null) {
+				oldestMillis = Math.min(oldestMillis, oldest.enqueuedMillis());
+			}
+		}
+		return oldestMillis == Long.MAX_VALUE ? 0 : System.currentTimeMillis() - oldestMillis;
+	}
+
+	/**
+	 * 마지막으로 저장된 내역이 대기열에 들어온 뒤 저장되기까지 걸린 시간
+	 */
+	public long lastDrainLagMillis() {
+		return lastDrainLagMillis;
+	}
+
+	public long drainedCount() {
+		return drainedCount.get();
+	}
+
+	public long deadLetteredCount() {
+		return deadLetteredCount.get();
+	}
+
+	/**
+	 * 저장을 포기한 내역, 운영자가 원인을 해결한 뒤 다시 저장할 수 있도록 남겨 둡니다.
+	 */
+	public List<PointHistory> deadLetters() {
+		return List.copyOf(deadLetters);
+	}
+
+	/**
+	 * 새 내역을 받지 않고, 대기 중인 내역을 모두 저장한 뒤 writer 스레드를 종료합니다.
+	 */
+	@Override
+	public void close() {
+		closeLock.writeLock().lock();
+		try {
+			closed = true;
+		} finally {
+			closeLock.writeLock().unlock();
+		}
+		try {
+			for (Partition partition : partitions) {
+				partition.writer.join();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * 대기열 하나와 그 대기열을 저장하는 writer 스레드
+	 * - 빈 자리는 semaphore 로 세어, 대기열이 가득 찬 insert 는 monitor 밖에서 기다립니다.
+	 * - id 를 붙이고 대기열에 넣는 일만 monitor 안에서 하므로, 파티션 안에서는 id 순서와 저장 순서가 같습니다.
+	 */
+	private class Partition {
+		private final BlockingQueue<PendingHistory> queue = new LinkedBlockingQueue<>();
+		private final Semaphore space;
+		private final Thread writer;
+
+		private volatile PendingHistory writing;
+
+		Partition(int capacity, String name) {
+			this.space = new Semaphore(capacity);
+			this.writer = new Thread(this::drainLoop, name);
+			this.writer.setDaemon(true);
+			this.writer.start();
+		}
+
+		PendingHistory enqueue(long userId, long amount, TransactionType type, long updateMillis) {
+			try {
+				space.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("내역 저장 대기 중 인터럽트가 발생했습니다.", e);
+			}
+
+			PendingHistory pending;
+			synchronized (this) {
+				pending = new PendingHistory(
+					new PointHistory(nextId.getAndIncrement(), userId, amount, type, updateMillis),
+					System.currentTimeMillis());
+				pendingByUser.compute(userId, (id, pendings) -> {
+					Queue<PendingHistory> queued = pendings == null ? new ConcurrentLinkedQueue<>() : pendings;
+					queued.add(pending);
+					return queued;
+				});
+				depth.incrementAndGet();
+				queue.add(pending);
+			}
+			return pending;
+		}
+
+		private void drainLoop() {
+			List<PendingHistory> batch = new ArrayList<>(batchSize);
+			while (!closed || !queue.isEmpty()) {
+				try {
+					PendingHistory first = queue.poll(100, TimeUnit.MILLISECONDS);
+					if (first == null) {
+						continue;
+					}
+
+					batch.add(first);
+					queue.drainTo(batch, batchSize - 1);
+					batch.forEach(this::write);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				} finally {
+					batch.clear();
+				}
+			}
+		}
+
+		private void write(PendingHistory pending) {
+			PointHistory history = pending.history();
+			writing = pending;
+			PointHistory saved = null;
+			for (int attempt = 1; saved == null && attempt <= maxAttempts; attempt++) {
+				try {
+					saved = pending.save(delegate);
+				} catch (RuntimeException e) {
+					log.error("내역 저장에 실패했습니다. userId={}, attempt={}/{}", history.userId(), attempt, maxAttempts,
+						e);
+					if (attempt < maxAttempts) {
+						sleepBeforeRetry();
+					}
+				}
+			}
+
+			if (saved == null) {
+				log.error("내역 저장을 포기하고 dead letter 로 옮깁니다. history={}", history);
+				deadLetters.add(history);
+				deadLetteredCount.incrementAndGet();
+			} else {
+				if (partitions.length == 1 && saved.id() != history.id()) {
+					log.warn("outbox 예상 id 와 저장된 id 가 다릅니다. expected={}, actual={}", history.id(), saved.id());
+				}
+				drainedCount.incrementAndGet();
+			}
+
+			pendingByUser.computeIfPresent(history.userId(), (id, pendings) -> {
+				pendings.remove(pending);
+				return pendings.isEmpty() ? null : pendings;
+			});
+			writing = null;
+			depth.decrementAndGet();
+			space.release();
+			lastDrainLagMillis = System.currentTimeMillis() - pending.enqueuedMillis();
+		}
+
+		private void sleepBeforeRetry() {
+			try {
+				TimeUnit.MILLISECONDS.sleep(100);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * saved 는 저장소가 돌려준 내역으로, 저장된 id 가 미리 붙인 id 와 달라도 조회에서 중복되지 않게 합니다.
+	 * - 저장과 saved 기록을 같은 monitor 안에서 하므로, 저장소를 읽은 뒤 saved 를 확인한 조회는
+	 *   저장 중인 내역을 빠뜨리거나 두 번 세지 않습니다.
+	 */
+	private static final class PendingHistory {
+		private final PointHistory history;
+		private final long enqueuedMillis;
+
+		private PointHistory saved;
+
+		PendingHistory(PointHistory history, long enqueuedMillis) {
+			this.history = history;
+			this.enqueuedMillis = enqueuedMillis;
+		}
+
+		PointHistory history() {
+			return history;
+		}
+
+		long enqueuedMillis() {
+			return enqueuedMillis;
+		}
+
+		synchronized PointHistory save(PointHistoryRepository repository) {
+			saved = repository.insert(history.userId(), history.amount(), history.type(), history.updateMillis());
+			return saved;
+		}
+
+		synchronized PointHistory saved() {
+			return saved;
+		}
+	}
+}
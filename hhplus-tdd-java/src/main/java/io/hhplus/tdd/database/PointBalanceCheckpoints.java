@@ -0,0 +1,104 @@
+package io.hhplus.tdd.database;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import io.hhplus.tdd.point.PointHistory;
+
+/**
+ * 유저별 잔액을 내역 spacing 건마다 체크포인트로 남깁니다.
+ * - 체크포인트는 (마지막으로 반영한 내역 id, 그 내역의 시각, 반영 후 잔액) 이며 유저마다 시각순 배열로 보관합니다.
+ * - 시점 조회는 그 시점 이전의 마지막 체크포인트부터 최대 spacing 건의 내역만 다시 적용하면 됩니다.
+ * - 내역 시각은 유저별로 저장 순서대로 증가한다고 봅니다.
+ * - spacing 이 0 이면 체크포인트를 남기지 않습니다.
+ */
+public class PointBalanceCheckpoints {
+	private final int spacing;
+	private final Map<Long, UserCheckpoints> checkpoints = new ConcurrentHashMap<>();
+
+	public PointBalanceCheckpoints(int spacing) {
+		if (spacing < 0) {
+			throw new IllegalArgumentException("체크포인트 간격은 0 이상이어야 합니다.");
+		}
+		this.spacing = spacing;
+	}
+
+	public int spacing() {
+		return spacing;
+	}
+
+	public void add(PointHistory history) {
+		if (spacing > 0) {
+			checkpoints.computeIfAbsent(history.userId(), id -> new UserCheckpoints()).add(history, spacing);
+		}
+	}
+
+	/**
+	 * 시각이 atMillis 이하인 마지막 체크포인트, 없으면 null
+	 */
+	public Checkpoint floor(long userId, long atMillis) {
+		UserCheckpoints userCheckpoints = checkpoints.get(userId);
+		return userCheckpoints == null ? null : userCheckpoints.floor(atMillis);
+	}
+
+	/**
+	 * 남겨 둔 체크포인트를 비우고 source 가 전달하는 내역으로 다시 만듭니다. 새 내역이 저장되기 전에 호출해야 합니다.
+	 */
+	public void rebuild(Consumer<Consumer<PointHistory>> source) {
+		checkpoints.clear();
+		source.accept(this::add);
+	}
+
+	public record Checkpoint(
+		long historyId,
+		long updateMillis,
+		long balance
+	) {
+	}
+
+	/**
+	 * 유저 한 명의 누적 잔액과 체크포인트, 체크포인트는 세 배열의 같은 위치에 나눠 둡니다.
+	 */
+	private static class UserCheckpoints {
+		private long balance;
+		private int pending;
+		private int size;
+		private long[] historyIds = new long[4];
+		private long[] updateMillis = new long[4];
+		private long[] balances = new long[4];
+
+		synchronized void add(PointHistory history, int spacing) {
+			balance += history.signedAmount();
+			if (++pending < spacing) {
+				return;
+			}
+
+			pending = 0;
+			if (size == historyIds.length) {
+				historyIds = Arrays.copyOf(historyIds, size * 2);
+				updateMillis = Arrays.copyOf(updateMillis, size * 2);
+				balances = Arrays.copyOf(balances, size * 2);
+			}
+			historyIds[size] = history.id();
+			updateMillis[size] = history.updateMillis();
+			balances[size] = balance;
+			size++;
+		}
+
+		synchronized Checkpoint floor(long atMillis) {
+			int low = 0;
+			int high = size;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (updateMillis[middle] <= atMillis) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low == 0 ? null : new Checkpoint(historyIds[low - 1], updateMillis[low - 1], balances[low - 1]);
+		}
+	}
+}
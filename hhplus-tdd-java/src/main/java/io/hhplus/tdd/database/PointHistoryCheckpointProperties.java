@@ -0,0 +1,13 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param spacing 유저별 잔액 체크포인트를 남기는 내역 건수 간격, 시점 조회 시 다시 적용하는 내역 수의 상한 (0 이면 처음부터 적용)
+ */
+@ConfigurationProperties(prefix = "point.history.checkpoint")
+public record PointHistoryCheckpointProperties(
+	@DefaultValue("64") int spacing
+) {
+}
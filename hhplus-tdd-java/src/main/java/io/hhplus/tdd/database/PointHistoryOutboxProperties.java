@@ -0,0 +1,14 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "point.history.outbox")
+public record PointHistoryOutboxProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("10000") int capacity,
+	@DefaultValue("100") int batchSize,
+	@DefaultValue("1") int writers,
+	@DefaultValue("5") int maxAttempts
+) {
+}
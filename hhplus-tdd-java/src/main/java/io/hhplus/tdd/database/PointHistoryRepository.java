@@ -0,0 +1,72 @@
+package io.hhplus.tdd.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.hhplus.tdd.point.PointCommand;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryOrder;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 포인트 충전/이용 내역 저장소
+ * - PointService 는 PointHistoryTable 대신 이 인터페이스를 통해 내역을 저장/조회합니다.
+ * - 유저의 내역 id 는 저장 순서대로 증가합니다.
+ */
+public interface PointHistoryRepository {
+
+	PointHistory insert(long userId, long amount, TransactionType type, long updateMillis);
+
+	/**
+	 * 한 번의 포인트 수정으로 승인된 요청들의 내역을 순서대로 저장합니다.
+	 */
+	default List<PointHistory> insertAll(long userId, List<PointCommand> commands, long updateMillis) {
+		List<PointHistory> histories = new ArrayList<>(commands.size());
+		for (PointCommand command : commands) {
+			histories.add(insert(userId, command.amount(), command.type(), updateMillis));
+		}
+		return histories;
+	}
+
+	/**
+	 * 유저의 내역을 저장된 순서대로 반환합니다.
+	 */
+	List<PointHistory> selectAllByUserId(long userId);
+
+	/**
+	 * cursor(이전 페이지 마지막 내역 id) 다음부터 limit 건을 order 순서로 반환합니다. cursor 가 null 이면 처음부터 조회합니다.
+	 */
+	default List<PointHistory> selectPageByUserId(long userId, Long cursor, int limit, PointHistoryOrder order) {
+		List<PointHistory> histories = selectAllByUserId(userId);
+		List<PointHistory> page = new ArrayList<>(Math.min(limit, histories.size()));
+		if (order == PointHistoryOrder.ASC) {
+			for (int i = 0; i < histories.size() && page.size() < limit; i++) {
+				if (cursor == null || histories.get(i).id() > cursor) {
+					page.add(histories.get(i));
+				}
+			}
+		} else {
+			for (int i = histories.size() - 1; i >= 0 && page.size() < limit; i--) {
+				if (cursor == null || histories.get(i).id() < cursor) {
+					page.add(histories.get(i));
+				}
+			}
+		}
+		return page;
+	}
+
+	/**
+	 * 유저의 내역을 order 순서로 하나씩 전달합니다.
+	 */
+	default void forEachByUserId(long userId, PointHistoryOrder order, Consumer<PointHistory> consumer) {
+		List<PointHistory> histories = selectAllByUserId(userId);
+		if (order == PointHistoryOrder.ASC) {
+			histories.forEach(consumer);
+		} else {
+			for (int i = histories.size() - 1; i >= 0; i--) {
+				consumer.accept(histories.get(i));
+			}
+		}
+	}
+}
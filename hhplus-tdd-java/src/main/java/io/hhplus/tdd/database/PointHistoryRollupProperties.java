@@ -0,0 +1,13 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param zone 내역을 날짜별로 나눌 때 기준 시간대
+ */
+@ConfigurationProperties(prefix = "point.history.rollup")
+public record PointHistoryRollupProperties(
+	@DefaultValue("Asia/Seoul") String zone
+) {
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.database;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import io.hhplus.tdd.point.PointDailySummary;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 유저/날짜/거래 종류별 충전·사용 금액과 건수를 내역이 저장될 때마다 더해 둡니다.
+ * - 날짜는 내역의 updateMillis 를 zone 기준으로 나눈 값이며, 유저마다 날짜순 TreeMap 으로 보관합니다.
+ * - 기간 조회는 내역 수와 관계없이 기간 안에 내역이 있는 날 수에 비례하는 비용으로 처리됩니다.
+ * - 시작 시 rebuild 로 복구한 내역에서 다시 만듭니다.
+ */
+public class PointHistoryRollups {
+	private final ZoneId zone;
+	private final Map<Long, UserRollups> rollups = new ConcurrentHashMap<>();
+
+	public PointHistoryRollups(ZoneId zone) {
+		this.zone = zone;
+	}
+
+	public void add(PointHistory history) {
+		long epochDay = LocalDate.ofInstant(Instant.ofEpochMilli(history.updateMillis()), zone).toEpochDay();
+		rollups.computeIfAbsent(history.userId(), id -> new UserRollups()).add(epochDay, history.type(),
+			history.amount());
+	}
+
+	/**
+	 * from ~ to (양 끝 포함) 안에서 내역이 있는 날의 합계를 날짜순으로 반환합니다.
+	 */
+	public List<PointDailySummary> select(long userId, LocalDate from, LocalDate to) {
+		UserRollups userRollups = rollups.get(userId);
+		return userRollups == null ? List.of() : userRollups.select(from.toEpochDay(), to.toEpochDay());
+	}
+
+	/**
+	 * 쌓아 둔 합계를 비우고 source 가 전달하는 내역으로 다시 만듭니다. 새 내역이 저장되기 전에 호출해야 합니다.
+	 */
+	public void rebuild(Consumer<Consumer<PointHistory>> source) {
+		rollups.clear();
+		source.accept(this::add);
+	}
+
+	/**
+	 * 유저 한 명의 날짜별 합계, 날짜마다 [충전 금액, 충전 건수, 사용 금액, 사용 건수] 를 둡니다.
+	 */
+	private static class UserRollups {
+		private final TreeMap<Long, long[]> days = new TreeMap<>();
+
+		synchronized void add(long epochDay, TransactionType type, long amount) {
+			long[] totals = days.computeIfAbsent(epochDay, day -> new long[4]);
+			int offset = type == TransactionType.CHARGE ? 0 : 2;
+			totals[offset] += amount;
+			totals[offset + 1]++;
+		}
+
+		synchronized List<PointDailySummary> select(long fromDay, long toDay) {
+			if (fromDay > toDay) {
+				return List.of();
+			}
+
+			List<PointDailySummary> summaries = new ArrayList<>();
+			days.subMap(fromDay, true, toDay, true).forEach((epochDay, totals) -> summaries.add(
+				new PointDailySummary(LocalDate.ofEpochDay(epochDay), totals[0], totals[1], totals[2], totals[3])));
+			return summaries;
+		}
+	}
+}
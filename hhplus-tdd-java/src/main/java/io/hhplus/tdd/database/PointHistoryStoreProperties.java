@@ -0,0 +1,20 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param type table : PointHistoryTable + 유저별 색인 | columnar : ColumnarPointHistoryRepository
+ * @param chunkRows columnar 저장소가 한 번에 늘리는 행 수
+ * @param offHeap columnar 저장소의 열을 힙 밖(direct buffer)에 둘지 여부
+ */
+@ConfigurationProperties(prefix = "point.history.store")
+public record PointHistoryStoreProperties(
+	@DefaultValue("table") Type type,
+	@DefaultValue("65536") int chunkRows,
+	@DefaultValue("false") boolean offHeap
+) {
+	public enum Type {
+		TABLE, COLUMNAR
+	}
+}
@@ -0,0 +1,153 @@
+package io.hhplus.tdd.database;
+
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.hhplus.tdd.journal.JournalingPointHistoryRepository;
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.hhplus.tdd.point.PointExecutorConfig;
+import io.hhplus.tdd.point.PointHistory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 포인트/내역 저장소를 조립합니다.
+ * - point.store.type 으로 포인트 저장소를, point.history.store.type 으로 내역 저장소를 선택합니다.
+ *   jdbc 포인트 저장소는 여러 인스턴스가 같은 잔액을 보도록 유저 임대(point.lock.lease)와 함께 사용합니다.
+ * - 포인트 캐시는 캐시에 없는 유저를 유저 락 안에서 읽어 오므로, 유저 락을 잡지 않는 optimistic/sharded 실행 방식과
+ *   함께 켜면 시작할 때 실패합니다. 적중/미스/제거 횟수는 point.cache.* 로 집계합니다.
+ * - 저널이 켜져 있으면 캐시/outbox 를 씌우기 전에 테이블에 이전 실행의 잔액과 내역을 복구합니다.
+ *   outbox 는 복구한 마지막 내역 id 다음부터 id 를 붙이므로, 저널에 같은 id 가 다시 기록되지 않습니다.
+ * - 내역 롤업과 잔액 체크포인트는 테이블에 저장된 내역으로 갱신하고, 저널 복구 시 복구한 내역으로 다시 만듭니다.
+ */
+@Configuration
+@EnableConfigurationProperties({UserPointStoreProperties.class, UserPointCacheProperties.class,
+	PointHistoryOutboxProperties.class, PointHistoryRollupProperties.class,
+	PointHistoryCheckpointProperties.class, PointHistoryStoreProperties.class})
+public class PointRepositoryConfig {
+
+	@Bean
+	public UserPointRepository userPointRepository(UserPointTable userPointTable, UserLockProvider userLockProvider,
+		UserPointStoreProperties storeProperties, UserPointCacheProperties cacheProperties, MeterRegistry meterRegistry,
+		ObjectProvider<PointJournal> pointJournal, ObjectProvider<DataSource> dataSource,
+		@Value("${point.executor.mode:lock}") String executorMode) {
+		UserPointRepository store = switch (storeProperties.type()) {
+			case TABLE -> new TableUserPointRepository(userPointTable);
+			case PRIMITIVE -> new PrimitiveUserPointRepository(storeProperties.initialCapacity());
+			case JDBC -> new JdbcUserPointRepository(dataSource.getObject());
+		};
+		UserPointRepository repository = new TimedUserPointRepository(store, meterRegistry);
+		PointJournal journal = pointJournal.getIfAvailable();
+		if (journal != null) {
+			journal.recoveredBalances().forEach(repository::insertOrUpdate);
+		}
+
+		if (cacheProperties.enabled()) {
+			if (PointExecutorConfig.UNLOCKED_MODES.contains(executorMode)) {
+				throw new IllegalStateException(
+					"point.cache 는 유저 락을 잡지 않는 point.executor.mode=" + executorMode + " 와 함께 사용할 수 없습니다.");
+			}
+			CachingUserPointRepository cache = new CachingUserPointRepository(repository, userLockProvider,
+				cacheProperties.maximumSize());
+			registerCacheMeters(cache, meterRegistry);
+			repository = cache;
+		}
+		return repository;
+	}
+
+	@Bean
+	public PointHistoryRollups pointHistoryRollups(PointHistoryRollupProperties rollupProperties) {
+		return new PointHistoryRollups(ZoneId.of(rollupProperties.zone()));
+	}
+
+	@Bean
+	public PointBalanceCheckpoints pointBalanceCheckpoints(PointHistoryCheckpointProperties checkpointProperties) {
+		return new PointBalanceCheckpoints(checkpointProperties.spacing());
+	}
+
+	@Bean
+	public PointHistoryRepository pointHistoryRepository(PointHistoryTable pointHistoryTable,
+		PointHistoryOutboxProperties outboxProperties, PointHistoryRollups pointHistoryRollups,
+		PointBalanceCheckpoints pointBalanceCheckpoints, PointHistoryStoreProperties storeProperties,
+		MeterRegistry meterRegistry, ObjectProvider<PointJournal> pointJournal) {
+		PointHistoryRepository store = switch (storeProperties.type()) {
+			case TABLE -> new IndexedPointHistoryRepository(pointHistoryTable);
+			case COLUMNAR -> new ColumnarPointHistoryRepository(storeProperties.chunkRows(), storeProperties.offHeap());
+		};
+		PointHistoryRepository repository = new TimedPointHistoryRepository(store, meterRegistry);
+		PointJournal journal = pointJournal.getIfAvailable();
+		AtomicLong lastStoredId = new AtomicLong();
+		if (journal != null) {
+			PointHistoryRepository restoreTarget = repository;
+			pointHistoryRollups.rebuild(rollup -> pointBalanceCheckpoints.rebuild(checkpoint ->
+				journal.replay(history -> {
+					PointHistory restored = restoreTarget.insert(history.userId(), history.amount(), history.type(),
+						history.updateMillis());
+					rollup.accept(restored);
+					checkpoint.accept(restored);
+					lastStoredId.set(restored.id());
+				})));
+		}
+		repository = new CheckpointPointHistoryRepository(
+			new RollupPointHistoryRepository(repository, pointHistoryRollups), pointBalanceCheckpoints);
+
+		if (outboxProperties.enabled()) {
+			OutboxPointHistoryRepository outbox = new OutboxPointHistoryRepository(repository,
+				outboxProperties.capacity(), outboxProperties.batchSize(), lastStoredId.get(),
+				outboxProperties.writers(), outboxProperties.maxAttempts());
+			registerOutboxMeters(outbox, meterRegistry);
+			repository = outbox;
+		}
+
+		if (journal != null) {
+			repository = new JournalingPointHistoryRepository(repository, journal);
+		}
+		return repository;
+	}
+
+	private void registerCacheMeters(CachingUserPointRepository cache, MeterRegistry meterRegistry) {
+		FunctionCounter.builder("point.cache.hits", cache, CachingUserPointRepository::hitCount)
+			.description("포인트 캐시에서 바로 찾은 조회 수")
+			.register(meterRegistry);
+		FunctionCounter.builder("point.cache.misses", cache, CachingUserPointRepository::missCount)
+			.description("포인트 캐시에 없어 저장소에서 읽어 온 조회 수")
+			.register(meterRegistry);
+		FunctionCounter.builder("point.cache.evictions", cache, CachingUserPointRepository::evictionCount)
+			.description("최대 크기를 넘어 포인트 캐시에서 밀려난 유저 수")
+			.register(meterRegistry);
+		Gauge.builder("point.cache.size", cache, repository -> repository.stats().size())
+			.description("포인트 캐시에 올라간 유저 수")
+			.register(meterRegistry);
+	}
+
+	private void registerOutboxMeters(OutboxPointHistoryRepository outbox, MeterRegistry meterRegistry) {
+		Gauge.builder("point.history.outbox.depth", outbox, OutboxPointHistoryRepository::queueDepth)
+			.description("outbox 에서 테이블 저장을 기다리는 내역 수")
+			.register(meterRegistry);
+		Gauge.builder("point.history.outbox.pending.age", outbox, OutboxPointHistoryRepository::pendingAgeMillis)
+			.description("저장을 기다리는 내역 중 가장 오래된 내역이 기다린 시간")
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+		Gauge.builder("point.history.outbox.drain.lag", outbox, OutboxPointHistoryRepository::lastDrainLagMillis)
+			.description("마지막으로 저장된 내역이 outbox 에 들어온 뒤 저장되기까지 걸린 시간")
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+		FunctionCounter.builder("point.history.outbox.drained", outbox, OutboxPointHistoryRepository::drainedCount)
+			.description("outbox 가 테이블에 저장한 내역 수")
+			.register(meterRegistry);
+		FunctionCounter.builder("point.history.outbox.dead.lettered", outbox,
+				OutboxPointHistoryRepository::deadLetteredCount)
+			.description("outbox 가 저장을 포기하고 dead letter 로 옮긴 내역 수")
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,195 @@
+package io.hhplus.tdd.database;
+
+import java.util.concurrent.locks.StampedLock;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * UserPointTable 대신 사용할 수 있는 원시 타입 배열 기반 포인트 저장소
+ * - HashMap<Long, UserPoint> 처럼 key 박싱, 엔트리 노드, UserPoint 객체를 보관하지 않고
+ *   userId 는 long[] 에, (point, updateMillis) 는 long[] 에 나란히 저장합니다. (open addressing, linear probing)
+ * - UserPoint 는 조회/수정 결과를 돌려줄 때만 만듭니다.
+ * - userId 해시로 나눈 세그먼트마다 StampedLock 을 두고, 조회는 낙관적 읽기 후 검증에 실패했을 때만 읽기 락을 잡습니다.
+ */
+public class PrimitiveUserPointRepository implements UserPointRepository {
+	private static final int SEGMENTS = 64;
+	private static final int SEGMENT_SHIFT = Long.SIZE - Integer.numberOfTrailingZeros(SEGMENTS);
+	private static final long FREE = 0L;
+
+	private final Segment[] segments = new Segment[SEGMENTS];
+
+	public PrimitiveUserPointRepository(int initialCapacity) {
+		int segmentCapacity = Math.max(16, initialCapacity / SEGMENTS);
+		for (int i = 0; i < SEGMENTS; i++) {
+			segments[i] = new Segment(segmentCapacity);
+		}
+	}
+
+	@Override
+	public UserPoint selectById(long id) {
+		long hash = mix(id);
+		return segmentFor(hash).get(id, hash);
+	}
+
+	@Override
+	public UserPoint insertOrUpdate(long id, long amount) {
+		return insertOrUpdate(id, amount, System.currentTimeMillis());
+	}
+
+	@Override
+	public UserPoint insertOrUpdate(long id, long amount, long updateMillis) {
+		long hash = mix(id);
+		segmentFor(hash).put(id, hash, amount, updateMillis);
+		return new UserPoint(id, amount, updateMillis);
+	}
+
+	@Override
+	public boolean supportsUpdateMillis() {
+		return true;
+	}
+
+	/**
+	 * 저장된 유저 수
+	 */
+	public long size() {
+		long size = 0;
+		for (Segment segment : segments) {
+			size += segment.size();
+		}
+		return size;
+	}
+
+	private Segment segmentFor(long hash) {
+		return segments[(int) (hash >>> SEGMENT_SHIFT)];
+	}
+
+	private static long mix(long id) {
+		long hash = id * 0x9E3779B97F4A7C15L;
+		return hash ^ (hash >>> 29);
+	}
+
+	/**
+	 * 세그먼트 하나의 open addressing 테이블
+	 * - 빈 슬롯은 key 0 으로 표시하고, userId 0 은 별도 필드에 보관합니다.
+	 * - 사용률이 3/4 을 넘으면 두 배 크기의 배열로 옮깁니다. 배열 두 개는 Slots 로 묶어 한 번에 교체합니다.
+	 */
+	private static class Segment {
+		private static final int MAX_LOAD_NUMERATOR = 3;
+		private static final int MAX_LOAD_DENOMINATOR = 4;
+
+		private final StampedLock lock = new StampedLock();
+
+		private Slots slots;
+		private int size;
+		private boolean hasZero;
+		private long zeroPoint;
+		private long zeroUpdateMillis;
+
+		Segment(int capacity) {
+			int slotCount = Math.max(capacity, 2) * MAX_LOAD_DENOMINATOR / MAX_LOAD_NUMERATOR;
+			this.slots = new Slots(Integer.highestOneBit(slotCount * 2 - 1));
+		}
+
+		UserPoint get(long id, long hash) {
+			long stamp = lock.tryOptimisticRead();
+			UserPoint userPoint = read(id, hash);
+			if (lock.validate(stamp)) {
+				return userPoint;
+			}
+
+			stamp = lock.readLock();
+			try {
+				return read(id, hash);
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		void put(long id, long hash, long point, long updateMillis) {
+			long stamp = lock.writeLock();
+			try {
+				if (id == FREE) {
+					size += hasZero ? 0 : 1;
+					hasZero = true;
+					zeroPoint = point;
+					zeroUpdateMillis = updateMillis;
+					return;
+				}
+
+				Slots current = slots;
+				int index = current.indexOf(id, hash);
+				if (current.keys[index] == FREE) {
+					if ((size + 1) * MAX_LOAD_DENOMINATOR > current.keys.length * MAX_LOAD_NUMERATOR) {
+						current = grow(current);
+						index = current.indexOf(id, hash);
+					}
+					current.keys[index] = id;
+					size++;
+				}
+				current.values[index * 2] = point;
+				current.values[index * 2 + 1] = updateMillis;
+			} finally {
+				lock.unlockWrite(stamp);
+			}
+		}
+
+		int size() {
+			long stamp = lock.readLock();
+			try {
+				return size;
+			} finally {
+				lock.unlockRead(stamp);
+			}
+		}
+
+		private UserPoint read(long id, long hash) {
+			if (id == FREE) {
+				return hasZero ? new UserPoint(id, zeroPoint, zeroUpdateMillis) : UserPoint.empty(id);
+			}
+
+			Slots current = slots;
+			int index = current.indexOf(id, hash);
+			if (current.keys[index] != id) {
+				return UserPoint.empty(id);
+			}
+			return new UserPoint(id, current.values[index * 2], current.values[index * 2 + 1]);
+		}
+
+		private Slots grow(Slots current) {
+			Slots grown = new Slots(current.keys.length * 2);
+			for (int index = 0; index < current.keys.length; index++) {
+				long key = current.keys[index];
+				if (key != FREE) {
+					int target = grown.indexOf(key, mix(key));
+					grown.keys[target] = key;
+					grown.values[target * 2] = current.values[index * 2];
+					grown.values[target * 2 + 1] = current.values[index * 2 + 1];
+				}
+			}
+			slots = grown;
+			return grown;
+		}
+	}
+
+	private static class Slots {
+		private final long[] keys;
+		private final long[] values;
+
+		Slots(int capacity) {
+			this.keys = new long[capacity];
+			this.values = new long[capacity * 2];
+		}
+
+		/**
+		 * id 가 있는 슬롯, 없으면 id 를 넣을 빈 슬롯
+		 */
+		int indexOf(long id, long hash) {
+			int mask = keys.length - 1;
+			int index = (int) hash & mask;
+			while (keys[index] != FREE && keys[index] != id) {
+				index = (index + 1) & mask;
+			}
+			return index;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package io.hhplus.tdd.database;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryOrder;
+import io.hhplus.tdd.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저장된 내역을 PointHistoryRollups 에 더합니다.
+ * - 저장소가 돌려준 내역(id, 시각 확정)을 반영하므로 테이블 저장에 실패한 내역은 합계에 들어가지 않습니다.
+ */
+@RequiredArgsConstructor
+public class RollupPointHistoryRepository implements PointHistoryRepository {
+	private final PointHistoryRepository delegate;
+	private final PointHistoryRollups rollups;
+
+	@Override
+	public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+		PointHistory pointHistory = this.delegate.insert(userId, amount, type, updateMillis);
+		this.rollups.add(pointHistory);
+		return pointHistory;
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		return this.delegate.selectAllByUserId(userId);
+	}
+
+	@Override
+	public List<PointHistory> selectPageByUserId(long userId, Long cursor, int limit, PointHistoryOrder order) {
+		return this.delegate.selectPageByUserId(userId, cursor, limit, order);
+	}
+
+	@Override
+	public void forEachByUserId(long userId, PointHistoryOrder order, Consumer<PointHistory> consumer) {
+		this.delegate.forEachByUserId(userId, order, consumer);
+	}
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.database;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+final class TableTimers {
+
+	private TableTimers() {
+	}
+
+	static Timer register(MeterRegistry meterRegistry, String table, String operation) {
+		return Timer.builder("point.table")
+			.description("테이블 호출 시간")
+			.tag("table", table)
+			.tag("operation", operation)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+}
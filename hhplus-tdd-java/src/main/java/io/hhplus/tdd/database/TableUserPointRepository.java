@@ -0,0 +1,19 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class TableUserPointRepository implements UserPointRepository {
+	private final UserPointTable userPointTable;
+
+	@Override
+	public UserPoint selectById(long id) {
+		return this.userPointTable.selectById(id);
+	}
+
+	@Override
+	public UserPoint insertOrUpdate(long id, long amount) {
+		return this.userPointTable.insertOrUpdate(id, amount);
+	}
+}
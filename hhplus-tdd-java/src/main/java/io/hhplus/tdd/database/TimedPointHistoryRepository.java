@@ -0,0 +1,48 @@
+package io.hhplus.tdd.database;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryOrder;
+import io.hhplus.tdd.point.TransactionType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 내역 저장소 호출 시간을 기록합니다. (point.table{table=point_history, operation})
+ * - forEachByUserId 는 응답을 쓰는 시간까지 포함되므로 기록하지 않습니다.
+ */
+public class TimedPointHistoryRepository implements PointHistoryRepository {
+	private final PointHistoryRepository delegate;
+	private final Timer insertTimer;
+	private final Timer selectAllByUserIdTimer;
+	private final Timer selectPageByUserIdTimer;
+
+	public TimedPointHistoryRepository(PointHistoryRepository delegate, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.insertTimer = TableTimers.register(meterRegistry, "point_history", "insert");
+		this.selectAllByUserIdTimer = TableTimers.register(meterRegistry, "point_history", "selectAllByUserId");
+		this.selectPageByUserIdTimer = TableTimers.register(meterRegistry, "point_history", "selectPageByUserId");
+	}
+
+	@Override
+	public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+		return insertTimer.record(() -> this.delegate.insert(userId, amount, type, updateMillis));
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		return selectAllByUserIdTimer.record(() -> this.delegate.selectAllByUserId(userId));
+	}
+
+	@Override
+	public List<PointHistory> selectPageByUserId(long userId, Long cursor, int limit, PointHistoryOrder order) {
+		return selectPageByUserIdTimer.record(() -> this.delegate.selectPageByUserId(userId, cursor, limit, order));
+	}
+
+	@Override
+	public void forEachByUserId(long userId, PointHistoryOrder order, Consumer<PointHistory> consumer) {
+		this.delegate.forEachByUserId(userId, order, consumer);
+	}
+}
@@ -0,0 +1,40 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 포인트 저장소 호출 시간을 기록합니다. (point.table{table=user_point, operation})
+ */
+public class TimedUserPointRepository implements UserPointRepository {
+	private final UserPointRepository delegate;
+	private final Timer selectByIdTimer;
+	private final Timer insertOrUpdateTimer;
+
+	public TimedUserPointRepository(UserPointRepository delegate, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.selectByIdTimer = TableTimers.register(meterRegistry, "user_point", "selectById");
+		this.insertOrUpdateTimer = TableTimers.register(meterRegistry, "user_point", "insertOrUpdate");
+	}
+
+	@Override
+	public UserPoint selectById(long id) {
+		return selectByIdTimer.record(() -> this.delegate.selectById(id));
+	}
+
+	@Override
+	public UserPoint insertOrUpdate(long id, long amount) {
+		return insertOrUpdateTimer.record(() -> this.delegate.insertOrUpdate(id, amount));
+	}
+
+	@Override
+	public UserPoint insertOrUpdate(long id, long amount, long updateMillis) {
+		return insertOrUpdateTimer.record(() -> this.delegate.insertOrUpdate(id, amount, updateMillis));
+	}
+
+	@Override
+	public boolean supportsUpdateMillis() {
+		return this.delegate.supportsUpdateMillis();
+	}
+}
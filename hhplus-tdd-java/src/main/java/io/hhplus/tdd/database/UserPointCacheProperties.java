@@ -0,0 +1,11 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "point.cache")
+public record UserPointCacheProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("100000") int maximumSize
+) {
+}
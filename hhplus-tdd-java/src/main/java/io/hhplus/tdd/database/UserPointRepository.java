@@ -0,0 +1,26 @@
+package io.hhplus.tdd.database;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 유저 포인트 저장소
+ * - PointService 는 UserPointTable 대신 이 인터페이스를 통해 포인트를 조회/수정합니다.
+ */
+public interface UserPointRepository {
+
+	UserPoint selectById(long id);
+
+	UserPoint insertOrUpdate(long id, long amount);
+
+	/**
+	 * 저장 시각을 호출한 쪽이 정한 updateMillis 로 저장합니다.
+	 * - 저장 시각을 스스로 정하는 저장소(UserPointTable)는 지원하지 않으므로, supportsUpdateMillis 로 먼저 확인합니다.
+	 */
+	default UserPoint insertOrUpdate(long id, long amount, long updateMillis) {
+		throw new UnsupportedOperationException("저장 시각을 지정할 수 없는 포인트 저장소입니다.");
+	}
+
+	default boolean supportsUpdateMillis() {
+		return false;
+	}
+}
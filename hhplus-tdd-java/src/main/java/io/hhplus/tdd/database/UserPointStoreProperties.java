@@ -0,0 +1,18 @@
+package io.hhplus.tdd.database;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param type table : UserPointTable | primitive : 원시 타입 배열 기반 저장소 | jdbc : DataSource 의 point_user_balance 테이블
+ * @param initialCapacity primitive 저장소의 초기 유저 수
+ */
+@ConfigurationProperties(prefix = "point.store")
+public record UserPointStoreProperties(
+	@DefaultValue("table") Type type,
+	@DefaultValue("1024") int initialCapacity
+) {
+	public enum Type {
+		TABLE, PRIMITIVE, JDBC
+	}
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.journal;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryOrder;
+import io.hhplus.tdd.point.TransactionType;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 저장된 내역을 저널에도 기록합니다. 조회는 저장소에 그대로 위임합니다.
+ * - 실행기는 유저 락 안에서 내역을 저장하므로, 같은 유저의 내역은 저널에도 처리 순서대로 기록됩니다.
+ */
+@RequiredArgsConstructor
+public class JournalingPointHistoryRepository implements PointHistoryRepository {
+	private final PointHistoryRepository delegate;
+	private final PointJournal pointJournal;
+
+	@Override
+	public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+		PointHistory pointHistory = this.delegate.insert(userId, amount, type, updateMillis);
+		this.pointJournal.append(pointHistory);
+		return pointHistory;
+	}
+
+	@Override
+	public List<PointHistory> selectAllByUserId(long userId) {
+		return this.delegate.selectAllByUserId(userId);
+	}
+
+	@Override
+	public List<PointHistory> selectPageByUserId(long userId, Long cursor, int limit, PointHistoryOrder order) {
+		return this.delegate.selectPageByUserId(userId, cursor, limit, order);
+	}
+
+	@Override
+	public void forEachByUserId(long userId, PointHistoryOrder order, Consumer<PointHistory> consumer) {
+		this.delegate.forEachByUserId(userId, order, consumer);
+	}
+}
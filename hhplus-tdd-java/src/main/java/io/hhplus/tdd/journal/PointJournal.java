@@ -0,0 +1,441 @@
+package io.hhplus.tdd.journal;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+/**
+ * 포인트 충전/사용 내역을 디스크에 남기는 append-only 저널
+ * - 내역은 고정 길이(40 byte) 레코드로 memory-mapped 세그먼트 파일에 순서대로 기록합니다.
+ * - 저널이 반영된 유저별 잔액을 함께 유지하고, snapshotEveryRecords 건마다 전체 잔액을 스냅샷 파일로 남깁니다.
+ * - 재시작 시 가장 최근 스냅샷의 잔액에 그 이후 레코드만 다시 적용해 잔액을 복구합니다.
+ * - 디스크 동기화(fsync)는 sync 스레드 하나가 모아서 수행합니다.
+ *   group : 기록한 스레드는 자신의 레코드가 동기화될 때까지 기다리며, 그 사이 쌓인 레코드는 한 번의 fsync 로 함께 반영됩니다.
+ *   interval : syncIntervalMillis 마다 동기화하고 기록한 스레드는 기다리지 않습니다. (장애 시 최대 한 주기 유실)
+ */
+public class PointJournal implements AutoCloseable {
+	private static final Logger log = LoggerFactory.getLogger(PointJournal.class);
+
+	static final int RECORD_SIZE = 40;
+	private static final int CHECKSUM_OFFSET = 36;
+	private static final int SNAPSHOT_MAGIC = 0x504e5431;
+	private static final int SNAPSHOT_RETAINED = 2;
+
+	private final Path directory;
+	private final int segmentRecords;
+	private final SyncMode syncMode;
+	private final long syncIntervalMillis;
+	private final long snapshotEveryRecords;
+
+	private final Map<Long, Long> balances;
+	private final Map<Long, Long> recoveredBalances;
+	private final long recoveredLastId;
+	private final byte[] scratch = new byte[RECORD_SIZE];
+
+	private long lastId;
+	private int segmentIndex;
+	private FileChannel segmentChannel;
+	private volatile MappedByteBuffer segment;
+	private int writeOffset;
+	private volatile long appended;
+
+	private final Object syncLock = new Object();
+	private long durable;
+	private long snapshotAppended;
+	private volatile RuntimeException syncFailure;
+	private volatile boolean closed;
+	private final Thread syncer;
+
+	public enum SyncMode {
+		GROUP, INTERVAL
+	}
+
+	public PointJournal(Path directory, int segmentRecords, SyncMode syncMode, long syncIntervalMillis,
+		long snapshotEveryRecords) {
+		this.directory = directory;
+		this.segmentRecords = segmentRecords;
+		this.syncMode = syncMode;
+		this.syncIntervalMillis = syncIntervalMillis;
+		this.snapshotEveryRecords = snapshotEveryRecords;
+
+		try {
+			Files.createDirectories(directory);
+			Snapshot snapshot = loadLatestSnapshot();
+			this.balances = new HashMap<>(snapshot.balances());
+			this.lastId = snapshot.lastId();
+			recover(snapshot.lastId());
+		} catch (IOException e) {
+			throw new UncheckedIOException("저널을 열 수 없습니다. directory=" + directory, e);
+		}
+		this.recoveredBalances = Map.copyOf(balances);
+		this.recoveredLastId = lastId;
+
+		this.syncer = new Thread(this::syncLoop, "point-journal-sync");
+		this.syncer.setDaemon(true);
+		this.syncer.start();
+	}
+
+	/**
+	 * 내역을 저널에 기록합니다. group 모드에서는 디스크에 동기화될 때까지 기다립니다.
+	 */
+	public void append(PointHistory history) {
+		long sequence;
+		synchronized (this) {
+			if (closed) {
+				throw new IllegalStateException("저널이 종료되었습니다.");
+			}
+			if (syncFailure != null) {
+				throw new IllegalStateException("저널 동기화에 실패했습니다.", syncFailure);
+			}
+			if (writeOffset == segment.capacity()) {
+				roll();
+			}
+
+			ByteBuffer record = ByteBuffer.wrap(scratch)
+				.putLong(history.id())
+				.putLong(history.userId())
+				.putLong(history.amount())
+				.putLong(history.updateMillis())
+				.putInt(history.type().ordinal());
+			record.putInt(CHECKSUM_OFFSET, checksum(scratch));
+			segment.put(writeOffset, scratch);
+			writeOffset += RECORD_SIZE;
+
+			balances.merge(history.userId(), history.signedAmount(), Long::sum);
+			lastId = history.id();
+			sequence = ++appended;
+		}
+
+		if (syncMode == SyncMode.GROUP) {
+			awaitDurable(sequence);
+		}
+	}
+
+	/**
+	 * 시작 시 복구한 유저별 잔액
+	 */
+	public Map<Long, Long> recoveredBalances() {
+		return recoveredBalances;
+	}
+
+	/**
+	 * 시작 시 복구한 내역을 기록된 순서대로 전달합니다. 새 내역을 기록하기 전에 호출해야 합니다.
+	 */
+	public void replay(Consumer<PointHistory> consumer) {
+		try {
+			for (Path path : segmentPaths()) {
+				try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+					MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+					for (int offset = 0; offset + RECORD_SIZE <= buffer.capacity(); offset += RECORD_SIZE) {
+						PointHistory history = read(buffer, offset);
+						if (history == null || history.id() > recoveredLastId) {
+							break;
+						}
+						consumer.accept(history);
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 새 기록을 받지 않고, 남은 레코드를 동기화하고 스냅샷을 남긴 뒤 종료합니다.
+	 */
+	@Override
+	public void close() {
+		synchronized (this) {
+			closed = true;
+		}
+		synchronized (syncLock) {
+			syncLock.notifyAll();
+		}
+		try {
+			syncer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		synchronized (this) {
+			try {
+				segment.force();
+				segmentChannel.close();
+			} catch (IOException e) {
+				log.warn("저널 세그먼트를 닫지 못했습니다.", e);
+			}
+		}
+	}
+
+	private void awaitDurable(long sequence) {
+		synchronized (syncLock) {
+			syncLock.notifyAll();
+			while (durable < sequence) {
+				if (syncFailure != null) {
+					throw new IllegalStateException("저널 동기화에 실패했습니다.", syncFailure);
+				}
+				try {
+					syncLock.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("저널 동기화를 기다리는 중 중단되었습니다.", e);
+				}
+			}
+		}
+	}
+
+	private void syncLoop() {
+		try {
+			while (true) {
+				synchronized (syncLock) {
+					if (syncMode == SyncMode.INTERVAL && !closed) {
+						syncLock.wait(syncIntervalMillis);
+					}
+					while (!closed && appended == durable) {
+						syncLock.wait(syncIntervalMillis);
+					}
+				}
+
+				sync();
+				if (appended - snapshotAppended >= snapshotEveryRecords || closed) {
+					writeSnapshot();
+				}
+				if (closed && appended == durable) {
+					return;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (IOException e) {
+			fail(new UncheckedIOException(e));
+		} catch (RuntimeException e) {
+			fail(e);
+		}
+	}
+
+	private void fail(RuntimeException e) {
+		log.error("저널 동기화에 실패했습니다.", e);
+		syncFailure = e;
+		synchronized (syncLock) {
+			syncLock.notifyAll();
+		}
+	}
+
+	/**
+	 * 지금까지 기록된 레코드를 디스크에 반영합니다.
+	 * - 목표 위치를 세그먼트보다 먼저 읽으므로, 목표 이전 레코드는 읽은 세그먼트나 roll 때 이미 반영된 이전 세그먼트에 있습니다.
+	 */
+	private void sync() {
+		long target = appended;
+		segment.force();
+		synchronized (syncLock) {
+			if (target > durable) {
+				durable = target;
+				syncLock.notifyAll();
+			}
+		}
+	}
+
+	private void writeSnapshot() throws IOException {
+		Map<Long, Long> copy;
+		long snapshotLastId;
+		long snapshotSequence;
+		synchronized (this) {
+			if (appended == snapshotAppended) {
+				return;
+			}
+			copy = new HashMap<>(balances);
+			snapshotLastId = lastId;
+			snapshotSequence = appended;
+		}
+		sync();
+
+		ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES + Long.BYTES + Integer.BYTES
+			+ copy.size() * 2 * Long.BYTES + Long.BYTES);
+		buffer.putInt(SNAPSHOT_MAGIC).putLong(snapshotLastId).putInt(copy.size());
+		copy.forEach((userId, balance) -> buffer.putLong(userId).putLong(balance));
+		CRC32 crc = new CRC32();
+		crc.update(buffer.array(), 0, buffer.position());
+		buffer.putLong(crc.getValue()).flip();
+
+		Path target = directory.resolve(snapshotName(snapshotLastId));
+		Path temporary = directory.resolve(target.getFileName() + ".tmp");
+		try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+			StandardOpenOption.TRUNCATE_EXISTING)) {
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(true);
+		}
+		Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		snapshotAppended = snapshotSequence;
+
+		List<Path> snapshots = snapshotPaths();
+		for (int i = 0; i < snapshots.size() - SNAPSHOT_RETAINED; i++) {
+			Files.deleteIfExists(snapshots.get(i));
+		}
+	}
+
+	private Snapshot loadLatestSnapshot() throws IOException {
+		List<Path> snapshots = snapshotPaths();
+		for (int i = snapshots.size() - 1; i >= 0; i--) {
+			Snapshot snapshot = readSnapshot(snapshots.get(i));
+			if (snapshot != null) {
+				return snapshot;
+			}
+			log.warn("손상된 스냅샷을 건너뜁니다. path={}", snapshots.get(i));
+		}
+		return new Snapshot(0, Map.of());
+	}
+
+	private Snapshot readSnapshot(Path path) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+		if (buffer.remaining() < Integer.BYTES + Long.BYTES + Integer.BYTES + Long.BYTES
+			|| buffer.getInt() != SNAPSHOT_MAGIC) {
+			return null;
+		}
+		long snapshotLastId = buffer.getLong();
+		int count = buffer.getInt();
+		if (count < 0 || buffer.remaining() != count * 2L * Long.BYTES + Long.BYTES) {
+			return null;
+		}
+
+		Map<Long, Long> snapshotBalances = new HashMap<>(count * 2);
+		for (int i = 0; i < count; i++) {
+			snapshotBalances.put(buffer.getLong(), buffer.getLong());
+		}
+		CRC32 crc = new CRC32();
+		crc.update(buffer.array(), 0, buffer.position());
+		return crc.getValue() == buffer.getLong() ? new Snapshot(snapshotLastId, snapshotBalances) : null;
+	}
+
+	/**
+	 * 세그먼트를 순서대로 읽어 스냅샷 이후 레코드를 잔액에 적용하고, 마지막 세그먼트의 유효한 레코드 끝에서 이어 씁니다.
+	 * - 체크섬이 맞지 않는 레코드(기록 도중 종료)부터는 버립니다.
+	 */
+	private void recover(long snapshotLastId) throws IOException {
+		List<Path> segments = segmentPaths();
+		if (segments.isEmpty()) {
+			openSegment(0, 0);
+			return;
+		}
+
+		int lastOffset = 0;
+		for (Path path : segments) {
+			try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+				int offset = 0;
+				for (; offset + RECORD_SIZE <= buffer.capacity(); offset += RECORD_SIZE) {
+					PointHistory history = read(buffer, offset);
+					if (history == null) {
+						break;
+					}
+					if (history.id() > snapshotLastId) {
+						balances.merge(history.userId(), history.signedAmount(), Long::sum);
+					}
+					lastId = history.id();
+				}
+				lastOffset = offset;
+			}
+		}
+
+		Path last = segments.get(segments.size() - 1);
+		openSegment(segmentIndexOf(last), lastOffset);
+	}
+
+	private void roll() {
+		try {
+			segment.force();
+			segmentChannel.close();
+			openSegment(segmentIndex + 1, 0);
+		} catch (IOException e) {
+			throw new UncheckedIOException("저널 세그먼트를 교체할 수 없습니다.", e);
+		}
+	}
+
+	private void openSegment(int index, int offset) throws IOException {
+		Path path = directory.resolve(segmentName(index));
+		segmentChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+			StandardOpenOption.WRITE);
+		segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRecords * RECORD_SIZE);
+		segmentIndex = index;
+		writeOffset = offset;
+	}
+
+	private static PointHistory read(ByteBuffer buffer, int offset) {
+		byte[] bytes = new byte[RECORD_SIZE];
+		buffer.get(offset, bytes);
+		ByteBuffer record = ByteBuffer.wrap(bytes);
+		if (record.getInt(CHECKSUM_OFFSET) != checksum(bytes)) {
+			return null;
+		}
+
+		int type = record.getInt(32);
+		if (type < 0 || type >= TransactionType.values().length) {
+			return null;
+		}
+		return new PointHistory(record.getLong(0), record.getLong(8), record.getLong(16),
+			TransactionType.values()[type], record.getLong(24));
+	}
+
+	private static int checksum(byte[] record) {
+		CRC32 crc = new CRC32();
+		crc.update(record, 0, CHECKSUM_OFFSET);
+		return (int) crc.getValue();
+	}
+
+	private List<Path> segmentPaths() throws IOException {
+		return list("journal-", ".log");
+	}
+
+	private List<Path> snapshotPaths() throws IOException {
+		return list("snapshot-", ".bin");
+	}
+
+	private List<Path> list(String prefix, String suffix) throws IOException {
+		try (Stream<Path> paths = Files.list(directory)) {
+			return paths
+				.filter(path -> path.getFileName().toString().startsWith(prefix))
+				.filter(path -> path.getFileName().toString().endsWith(suffix))
+				.sorted()
+				.toList();
+		}
+	}
+
+	private static String segmentName(int index) {
+		return String.format("journal-%010d.log", index);
+	}
+
+	private static int segmentIndexOf(Path path) {
+		String name = path.getFileName().toString();
+		return Integer.parseInt(name.substring("journal-".length(), name.length() - ".log".length()));
+	}
+
+	private static String snapshotName(long snapshotLastId) {
+		return String.format("snapshot-%020d.bin", snapshotLastId);
+	}
+
+	private record Snapshot(
+		long lastId,
+		Map<Long, Long> balances
+	) {
+	}
+}
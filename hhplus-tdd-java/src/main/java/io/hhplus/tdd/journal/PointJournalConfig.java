@@ -0,0 +1,23 @@
+package io.hhplus.tdd.journal;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * point.journal.enabled 설정 시 저널을 열고 이전 실행의 잔액/내역을 복구합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(PointJournalProperties.class)
+public class PointJournalConfig {
+
+	@Bean
+	@ConditionalOnProperty(name = "point.journal.enabled", havingValue = "true")
+	public PointJournal pointJournal(PointJournalProperties properties) {
+		return new PointJournal(Path.of(properties.directory()), properties.segmentRecords(), properties.syncMode(),
+			properties.syncIntervalMillis(), properties.snapshotEveryRecords());
+	}
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "point.journal")
+public record PointJournalProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("data/journal") String directory,
+	@DefaultValue("1048576") int segmentRecords,
+	@DefaultValue("group") PointJournal.SyncMode syncMode,
+	@DefaultValue("10") long syncIntervalMillis,
+	@DefaultValue("100000") long snapshotEveryRecords
+) {
+}
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 락 대기 시간을 timeoutMillis 로 제한합니다.
+ * - lock 은 timeoutMillis 안에 획득하지 못하면 UserLockTimeoutException 을 던집니다.
+ * - 한 유저에 요청이 몰려도 요청 스레드가 락 앞에서 끝없이 묶이지 않습니다.
+ */
+public class BoundedWaitUserLockProvider implements UserLockProvider, AutoCloseable {
+	private final UserLockProvider delegate;
+	private final long timeoutMillis;
+
+	public BoundedWaitUserLockProvider(UserLockProvider delegate, long timeoutMillis) {
+		if (timeoutMillis <= 0) {
+			throw new IllegalArgumentException("유저 락 대기 시간은 0보다 커야 합니다.");
+		}
+
+		this.delegate = delegate;
+		this.timeoutMillis = timeoutMillis;
+	}
+
+	@Override
+	public UserLock lock(long userId) {
+		UserLock lock = this.delegate.tryLock(userId, timeoutMillis, TimeUnit.MILLISECONDS);
+		if (lock == null) {
+			throw new UserLockTimeoutException(
+				"유저 락을 " + timeoutMillis + "ms 안에 획득하지 못했습니다. userId=" + userId);
+		}
+		return lock;
+	}
+
+	@Override
+	public UserLock tryLock(long userId, long timeout, TimeUnit unit) {
+		return this.delegate.tryLock(userId, timeout, unit);
+	}
+
+	@Override
+	public int size() {
+		return this.delegate.size();
+	}
+
+	@Override
+	public void close() throws Exception {
+		if (this.delegate instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.lock;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * point_user_lease 테이블에 유저별 임대를 저장합니다.
+ * - 획득/연장/반납은 유저 수와 관계없이 JDBC batch 한 번으로 처리하고, 행 단위 조건부 UPDATE 로 소유권을 넘깁니다.
+ * - 반납한 행은 지우지 않고 만료만 시키므로, 처음 보는 유저가 아니면 INSERT 없이 UPDATE 만으로 다시 획득합니다.
+ * - 만료 판단은 각 노드의 시계를 쓰므로 노드 간 시계 오차는 guard 시간보다 작아야 합니다.
+ */
+public class JdbcUserLeaseStore implements UserLeaseStore {
+	private static final String CREATE_TABLE = """
+		CREATE TABLE IF NOT EXISTS point_user_lease (
+			user_id BIGINT PRIMARY KEY,
+			owner VARCHAR(64) NOT NULL,
+			expires_at BIGINT NOT NULL
+		)""";
+	private static final String ACQUIRE =
+		"UPDATE point_user_lease SET owner = ?, expires_at = ? WHERE user_id = ? AND (owner = ? OR expires_at <= ?)";
+	private static final String INSERT = "INSERT INTO point_user_lease (user_id, owner, expires_at) VALUES (?, ?, ?)";
+	private static final String RENEW = "UPDATE point_user_lease SET expires_at = ? WHERE user_id = ? AND owner = ?";
+	private static final String RELEASE = "UPDATE point_user_lease SET expires_at = 0 WHERE user_id = ? AND owner = ?";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public JdbcUserLeaseStore(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.jdbcTemplate.execute(CREATE_TABLE);
+	}
+
+	@Override
+	public Set<Long> acquire(Collection<Long> userIds, String owner, long now, long expiresAt) {
+		List<Long> ids = List.copyOf(userIds);
+		List<Object[]> args = new ArrayList<>(ids.size());
+		for (Long userId : ids) {
+			args.add(new Object[] {owner, expiresAt, userId, owner, now});
+		}
+
+		Set<Long> acquired = applied(ids, this.jdbcTemplate.batchUpdate(ACQUIRE, args));
+		for (Long userId : ids) {
+			if (!acquired.contains(userId) && insert(userId, owner, expiresAt)) {
+				acquired.add(userId);
+			}
+		}
+		return acquired;
+	}
+
+	@Override
+	public Set<Long> renew(Collection<Long> userIds, String owner, long expiresAt) {
+		List<Long> ids = List.copyOf(userIds);
+		List<Object[]> args = new ArrayList<>(ids.size());
+		for (Long userId : ids) {
+			args.add(new Object[] {expiresAt, userId, owner});
+		}
+		return applied(ids, this.jdbcTemplate.batchUpdate(RENEW, args));
+	}
+
+	@Override
+	public void release(Collection<Long> userIds, String owner) {
+		List<Object[]> args = new ArrayList<>(userIds.size());
+		for (Long userId : userIds) {
+			args.add(new Object[] {userId, owner});
+		}
+		this.jdbcTemplate.batchUpdate(RELEASE, args);
+	}
+
+	/**
+	 * 행이 없는 (처음 보는) 유저만 INSERT 로 획득합니다. 다른 노드가 먼저 넣었다면 실패합니다.
+	 */
+	private boolean insert(long userId, String owner, long expiresAt) {
+		try {
+			return this.jdbcTemplate.update(INSERT, userId, owner, expiresAt) == 1;
+		} catch (DuplicateKeyException e) {
+			return false;
+		}
+	}
+
+	private Set<Long> applied(List<Long> ids, int[] counts) {
+		Set<Long> applied = new HashSet<>();
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] > 0) {
+				applied.add(ids.get(i));
+			}
+		}
+		return applied;
+	}
+}
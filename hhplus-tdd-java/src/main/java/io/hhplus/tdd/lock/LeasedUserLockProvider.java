@@ -0,0 +1,342 @@
+package io.hhplus.tdd.lock;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 인스턴스 안의 유저 락에 인스턴스 간 임대(lease)를 더해, 여러 인스턴스 중 한 곳에서만 같은 유저를 처리하게 합니다.
+ * - 인스턴스 안에서는 감싼 provider 의 락으로 직렬화하고, 임대는 인스턴스(owner) 단위로 가집니다.
+ * - 한 번 가져온 임대는 캐시해 두고 renew 스레드가 renewIntervalMillis 마다 한 번에 연장하므로,
+ *   임대를 가진 유저의 요청은 저장소 왕복 없이 처리됩니다.
+ * - 임대가 없는 유저의 요청이 동시에 몰리면 먼저 온 스레드가 대기 중인 유저를 모아 한 번에 가져옵니다.
+ * - idleMillis 동안 쓰이지 않은 임대는 반납해 다른 인스턴스가 가져갈 수 있게 합니다.
+ * - 만료 guardMillis 전부터는 임대가 없는 것으로 보고 다시 가져오므로, 락을 잡은 구간은 guardMillis 보다 짧아야 합니다.
+ */
+public class LeasedUserLockProvider implements UserLockProvider, AutoCloseable {
+	private static final Logger log = LoggerFactory.getLogger(LeasedUserLockProvider.class);
+
+	private final UserLockProvider delegate;
+	private final UserLeaseStore store;
+	private final String owner;
+	private final long leaseMillis;
+	private final long guardMillis;
+	private final long renewIntervalMillis;
+	private final long idleMillis;
+	private final Clock clock;
+
+	private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+
+	private final Object batchLock = new Object();
+	private Set<Long> requested = new HashSet<>();
+	private boolean batching;
+
+	private volatile boolean closed;
+	private final Thread renewer;
+
+	public LeasedUserLockProvider(UserLockProvider delegate, UserLeaseStore store, String owner, long leaseMillis,
+		long guardMillis, long renewIntervalMillis, long idleMillis) {
+		this(delegate, store, owner, leaseMillis, guardMillis, renewIntervalMillis, idleMillis, Clock.systemUTC());
+	}
+
+	/**
+	 * @param clock 임대 만료와 유휴 시간을 판단할 시계, 저장소에 넘기는 시각도 이 시계로 정합니다.
+	 */
+	public LeasedUserLockProvider(UserLockProvider delegate, UserLeaseStore store, String owner, long leaseMillis,
+		long guardMillis, long renewIntervalMillis, long idleMillis, Clock clock) {
+		if (renewIntervalMillis <= 0 || renewIntervalMillis >= leaseMillis - guardMillis) {
+			throw new IllegalArgumentException("임대 연장 주기는 0보다 크고 임대 시간에서 guard 시간을 뺀 값보다 작아야 합니다.");
+		}
+
+		this.delegate = delegate;
+		this.store = store;
+		this.owner = owner;
+		this.leaseMillis = leaseMillis;
+		this.guardMillis = guardMillis;
+		this.renewIntervalMillis = renewIntervalMillis;
+		this.idleMillis = idleMillis;
+		this.clock = clock;
+
+		this.renewer = new Thread(this::renewLoop, "point-lease-renewer");
+		this.renewer.setDaemon(true);
+		this.renewer.start();
+	}
+
+	@Override
+	public UserLock lock(long userId) {
+		Lease lease = pin(userId);
+		UserLock local;
+		try {
+			local = this.delegate.lock(userId);
+		} catch (RuntimeException e) {
+			unpin(userId);
+			throw e;
+		}
+		return leased(userId, lease, local, Long.MAX_VALUE);
+	}
+
+	/**
+	 * 인스턴스 안의 락과 임대를 합쳐 timeout 동안 기다립니다.
+	 */
+	@Override
+	public UserLock tryLock(long userId, long timeout, TimeUnit unit) {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		Lease lease = pin(userId);
+		UserLock local;
+		try {
+			local = this.delegate.tryLock(userId, timeout, unit);
+		} catch (RuntimeException e) {
+			unpin(userId);
+			throw e;
+		}
+		if (local == null) {
+			unpin(userId);
+			return null;
+		}
+		return leased(userId, lease, local, deadline);
+	}
+
+	@Override
+	public int size() {
+		return this.delegate.size();
+	}
+
+	/**
+	 * 이 인스턴스가 가진 것으로 캐시한 임대 수
+	 */
+	public int leaseCount() {
+		long now = clock.millis();
+		return (int) leases.values().stream().filter(lease -> lease.usable(now, guardMillis)).count();
+	}
+
+	/**
+	 * renew 스레드를 멈추고 가진 임대를 모두 반납합니다.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		LockSupport.unpark(renewer);
+		try {
+			renewer.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		beginBatch();
+		try {
+			List<Long> held = new ArrayList<>(leases.keySet());
+			leases.clear();
+			if (!held.isEmpty()) {
+				this.store.release(held, owner);
+			}
+		} finally {
+			endBatch();
+		}
+	}
+
+	private Lease pin(long userId) {
+		return leases.compute(userId, (id, current) -> {
+			Lease lease = current == null ? new Lease() : current;
+			lease.pins++;
+			return lease;
+		});
+	}
+
+	private void unpin(long userId) {
+		leases.computeIfPresent(userId, (id, lease) -> {
+			lease.pins--;
+			lease.lastUsedMillis = clock.millis();
+			return lease;
+		});
+	}
+
+	private UserLock leased(long userId, Lease lease, UserLock local, long deadline) {
+		boolean leased;
+		try {
+			leased = awaitLease(userId, lease, deadline);
+		} catch (RuntimeException e) {
+			local.close();
+			unpin(userId);
+			throw e;
+		}
+		if (!leased) {
+			local.close();
+			unpin(userId);
+			return null;
+		}
+		return () -> {
+			local.close();
+			unpin(userId);
+		};
+	}
+
+	/**
+	 * 임대를 가질 때까지 기다립니다. deadline (System.nanoTime 기준) 이 지나면 false 를 반환합니다.
+	 */
+	private boolean awaitLease(long userId, Lease lease, long deadline) {
+		long backoffMillis = 1;
+		while (!lease.usable(clock.millis(), guardMillis)) {
+			if (closed) {
+				throw new IllegalStateException("유저 임대 provider 가 종료되었습니다.");
+			}
+			if (deadline != Long.MAX_VALUE && deadline - System.nanoTime() <= 0) {
+				return false;
+			}
+			acquire(userId);
+			if (lease.usable(clock.millis(), guardMillis)) {
+				return true;
+			}
+
+			try {
+				Thread.sleep(backoffMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("유저 임대를 기다리는 중 중단되었습니다.", e);
+			}
+			backoffMillis = Math.min(backoffMillis * 2, renewIntervalMillis);
+		}
+		return true;
+	}
+
+	/**
+	 * 임대를 가져올 유저를 등록하고, 진행 중인 batch 가 없으면 등록된 유저를 모아 한 번에 가져옵니다.
+	 * - 진행 중인 batch 가 있으면 끝날 때까지 기다렸다가, 그 사이 다른 스레드가 대신 처리했는지 확인합니다.
+	 */
+	private void acquire(long userId) {
+		Set<Long> batch;
+		synchronized (batchLock) {
+			requested.add(userId);
+			while (batching) {
+				try {
+					batchLock.wait();
+				} catch (InterruptedException e) {
+					requested.remove(userId);
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException("유저 임대를 기다리는 중 중단되었습니다.", e);
+				}
+				if (!requested.contains(userId)) {
+					return;
+				}
+			}
+			batch = requested;
+			requested = new HashSet<>();
+			batching = true;
+		}
+
+		try {
+			long now = clock.millis();
+			Set<Long> acquired = this.store.acquire(batch, owner, now, now + leaseMillis);
+			for (Long id : acquired) {
+				Lease lease = leases.get(id);
+				if (lease != null) {
+					lease.expiresAtMillis = now + leaseMillis;
+				}
+			}
+		} finally {
+			endBatch();
+		}
+	}
+
+	private void beginBatch() {
+		boolean interrupted = false;
+		synchronized (batchLock) {
+			while (batching) {
+				try {
+					batchLock.wait();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			batching = true;
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void endBatch() {
+		synchronized (batchLock) {
+			batching = false;
+			batchLock.notifyAll();
+		}
+	}
+
+	private void renewLoop() {
+		while (true) {
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(renewIntervalMillis));
+			if (closed) {
+				return;
+			}
+
+			try {
+				renewAndReleaseIdle();
+			} catch (RuntimeException e) {
+				log.error("유저 임대 연장에 실패했습니다. 만료 전까지 다시 시도합니다. owner={}", owner, e);
+			}
+		}
+	}
+
+	/**
+	 * 쓰이는 임대는 한 번에 연장하고, idleMillis 동안 쓰이지 않은 임대는 캐시에서 빼고 한 번에 반납합니다.
+	 * - 획득 batch 와 같은 순서로 실행되므로, 반납한 유저를 다시 가져오는 요청은 반납 뒤에 처리됩니다.
+	 * - renew 스레드가 주기적으로 호출하며, 테스트는 시계를 옮긴 뒤 직접 호출합니다.
+	 */
+	void renewAndReleaseIdle() {
+		beginBatch();
+		try {
+			long now = clock.millis();
+			List<Long> renewing = new ArrayList<>();
+			List<Long> releasing = new ArrayList<>();
+			for (Long userId : leases.keySet()) {
+				boolean[] removed = new boolean[1];
+				Lease lease = leases.computeIfPresent(userId, (id, current) -> {
+					if (current.pins == 0 && now - current.lastUsedMillis >= idleMillis) {
+						removed[0] = true;
+						return null;
+					}
+					return current;
+				});
+
+				if (removed[0]) {
+					releasing.add(userId);
+				} else if (lease != null && lease.expiresAtMillis > now) {
+					renewing.add(userId);
+				}
+			}
+
+			if (!renewing.isEmpty()) {
+				Set<Long> renewed = this.store.renew(renewing, owner, now + leaseMillis);
+				for (Long userId : renewing) {
+					Lease lease = leases.get(userId);
+					if (lease != null) {
+						lease.expiresAtMillis = renewed.contains(userId) ? now + leaseMillis : 0;
+					}
+				}
+			}
+			if (!releasing.isEmpty()) {
+				this.store.release(releasing, owner);
+			}
+		} finally {
+			endBatch();
+		}
+	}
+
+	private static class Lease {
+		private volatile long expiresAtMillis;
+		private volatile long lastUsedMillis;
+		private int pins;
+
+		private boolean usable(long now, long guardMillis) {
+			return expiresAtMillis - guardMillis > now;
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.lock;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 유저별 락을 참조 수와 함께 보관합니다.
+ * - 락을 잡거나 기다리는 스레드가 참조 수를 올리고, 해제 시 참조 수가 0이 되면 맵에서 제거합니다.
+ * - 참조 수는 ConcurrentHashMap.compute 안에서만 변경되므로 제거와 재획득이 겹치지 않습니다.
+ */
+public class RefCountedUserLockProvider implements UserLockProvider {
+	private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+	@Override
+	public UserLock lock(long userId) {
+		Entry entry = reference(userId);
+		entry.lock.lock();
+		return () -> release(userId, entry);
+	}
+
+	@Override
+	public UserLock tryLock(long userId, long timeout, TimeUnit unit) {
+		Entry entry = reference(userId);
+		boolean acquired = false;
+		try {
+			acquired = entry.lock.tryLock(timeout, unit);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		if (!acquired) {
+			dereference(userId);
+			return null;
+		}
+		return () -> release(userId, entry);
+	}
+
+	@Override
+	public int size() {
+		return entries.size();
+	}
+
+	private Entry reference(long userId) {
+		return entries.compute(userId, (id, current) -> {
+			Entry acquired = current == null ? new Entry() : current;
+			acquired.references++;
+			return acquired;
+		});
+	}
+
+	private void release(long userId, Entry entry) {
+		entry.lock.unlock();
+		dereference(userId);
+	}
+
+	private void dereference(long userId) {
+		entries.computeIfPresent(userId, (id, current) -> --current.references == 0 ? null : current);
+	}
+
+	private static class Entry {
+		private final ReentrantLock lock = new ReentrantLock();
+		private int references;
+	}
+}
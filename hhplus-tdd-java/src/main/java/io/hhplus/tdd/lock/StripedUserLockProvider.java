@@ -0,0 +1,54 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 고정 크기 락 배열을 userId 해시로 나눠 씁니다.
+ * - 메모리는 stripe 수만큼만 사용하지만, 같은 stripe 에 속한 서로 다른 유저끼리는 대기가 발생할 수 있습니다.
+ */
+public class StripedUserLockProvider implements UserLockProvider {
+	private final ReentrantLock[] locks;
+	private final int mask;
+
+	public StripedUserLockProvider(int stripes) {
+		if (stripes <= 0) {
+			throw new IllegalArgumentException("락 stripe 수는 0보다 커야 합니다.");
+		}
+
+		int size = Integer.highestOneBit(stripes - 1) << 1;
+		this.locks = new ReentrantLock[Math.max(size, 1)];
+		this.mask = this.locks.length - 1;
+		for (int i = 0; i < this.locks.length; i++) {
+			this.locks[i] = new ReentrantLock();
+		}
+	}
+
+	@Override
+	public UserLock lock(long userId) {
+		ReentrantLock lock = stripe(userId);
+		lock.lock();
+		return lock::unlock;
+	}
+
+	@Override
+	public UserLock tryLock(long userId, long timeout, TimeUnit unit) {
+		ReentrantLock lock = stripe(userId);
+		try {
+			return lock.tryLock(timeout, unit) ? lock::unlock : null;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+	}
+
+	@Override
+	public int size() {
+		return locks.length;
+	}
+
+	private ReentrantLock stripe(long userId) {
+		int hash = Long.hashCode(userId);
+		return locks[(hash ^ (hash >>> 16)) & mask];
+	}
+}
@@ -0,0 +1,86 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 유저 락 대기/점유 시간을 기록합니다.
+ * - point.lock.wait : lock 호출부터 획득까지 걸린 시간
+ * - point.lock.hold : 획득부터 해제까지 걸린 시간
+ * - point.lock.live : 보관 중인 락 수, point.lock.waiters : 락 획득을 기다리는 스레드 수
+ * - 감싼 provider 가 종료가 필요한 경우(AutoCloseable) close 를 전달합니다.
+ */
+public class TimedUserLockProvider implements UserLockProvider, AutoCloseable {
+	private final UserLockProvider delegate;
+	private final MeterRegistry meterRegistry;
+	private final Timer waitTimer;
+	private final Timer holdTimer;
+	private final AtomicInteger waiters = new AtomicInteger();
+
+	public TimedUserLockProvider(UserLockProvider delegate, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.meterRegistry = meterRegistry;
+		this.waitTimer = Timer.builder("point.lock.wait")
+			.description("유저 락 획득 대기 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		this.holdTimer = Timer.builder("point.lock.hold")
+			.description("유저 락 점유 시간")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+		Gauge.builder("point.lock.live", delegate, UserLockProvider::size)
+			.description("보관 중인 유저 락 수")
+			.register(meterRegistry);
+		Gauge.builder("point.lock.waiters", waiters, AtomicInteger::get)
+			.description("유저 락 획득을 기다리는 스레드 수")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public UserLock lock(long userId) {
+		return timed(() -> this.delegate.lock(userId));
+	}
+
+	@Override
+	public UserLock tryLock(long userId, long timeout, TimeUnit unit) {
+		return timed(() -> this.delegate.tryLock(userId, timeout, unit));
+	}
+
+	private UserLock timed(Supplier<UserLock> acquire) {
+		Timer.Sample waitSample = Timer.start(meterRegistry);
+		waiters.incrementAndGet();
+		UserLock lock;
+		try {
+			lock = acquire.get();
+		} finally {
+			waiters.decrementAndGet();
+			waitSample.stop(waitTimer);
+		}
+		if (lock == null) {
+			return null;
+		}
+
+		Timer.Sample holdSample = Timer.start(meterRegistry);
+		return () -> {
+			holdSample.stop(holdTimer);
+			lock.close();
+		};
+	}
+
+	@Override
+	public int size() {
+		return this.delegate.size();
+	}
+
+	@Override
+	public void close() throws Exception {
+		if (this.delegate instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package io.hhplus.tdd.lock;
+
+import java.util.UUID;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param nodeId 임대 소유자로 기록할 인스턴스 이름, 비어 있으면 실행마다 새로 만듭니다.
+ * @param leaseMillis 한 번 가져오거나 연장한 임대가 유지되는 시간
+ * @param guardMillis 만료 이 시간 전부터는 임대가 없는 것으로 봅니다. (락 점유 시간 + 노드 간 시계 오차보다 커야 함)
+ * @param renewIntervalMillis 가진 임대를 한 번에 연장하는 주기
+ * @param idleMillis 이 시간 동안 쓰이지 않은 임대는 반납합니다.
+ */
+@ConfigurationProperties(prefix = "point.lock.lease")
+public record UserLeaseProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("") String nodeId,
+	@DefaultValue("5000") long leaseMillis,
+	@DefaultValue("2000") long guardMillis,
+	@DefaultValue("1000") long renewIntervalMillis,
+	@DefaultValue("3000") long idleMillis
+) {
+	public String owner() {
+		return nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+	}
+}
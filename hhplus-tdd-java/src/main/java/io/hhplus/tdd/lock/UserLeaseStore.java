@@ -0,0 +1,27 @@
+package io.hhplus.tdd.lock;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 여러 인스턴스가 함께 보는 유저별 임대(lease) 저장소
+ * - 유저마다 소유 노드(owner)와 만료 시각(expiresAt, epoch millis)을 하나씩 둡니다.
+ * - 모든 메서드는 여러 유저를 한 번의 왕복으로 처리하고, 실제로 반영된 userId 만 돌려줍니다.
+ */
+public interface UserLeaseStore {
+
+	/**
+	 * 비어 있거나, 만료되었거나, 이미 owner 가 가진 임대를 expiresAt 까지 가져옵니다.
+	 */
+	Set<Long> acquire(Collection<Long> userIds, String owner, long now, long expiresAt);
+
+	/**
+	 * owner 가 아직 가진 임대의 만료 시각을 expiresAt 으로 늘립니다.
+	 */
+	Set<Long> renew(Collection<Long> userIds, String owner, long expiresAt);
+
+	/**
+	 * owner 가 가진 임대를 즉시 만료시켜 다른 노드가 가져갈 수 있게 합니다.
+	 */
+	void release(Collection<Long> userIds, String owner);
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 획득한 유저 락, close 시 락을 해제합니다.
+ */
+public interface UserLock extends AutoCloseable {
+
+	@Override
+	void close();
+}
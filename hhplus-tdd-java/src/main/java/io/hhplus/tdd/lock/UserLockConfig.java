@@ -0,0 +1,73 @@
+package io.hhplus.tdd.lock;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+import io.hhplus.tdd.database.UserPointCacheProperties;
+import io.hhplus.tdd.database.UserPointStoreProperties;
+import io.hhplus.tdd.journal.PointJournalProperties;
+import io.hhplus.tdd.point.PointExecutorConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * point.lock.mode 설정으로 유저 락 제공 방식을 선택합니다. (ref-counted | striped)
+ * - point.lock.lease.enabled 설정 시 DataSource 의 point_user_lease 테이블로 인스턴스 간 임대를 함께 잡습니다.
+ *   잔액이 인스턴스마다 따로 있으면 임대가 옮겨 갈 때 이중 사용이 생기므로, 시작할 때 아래 조건을 확인하고 맞지 않으면 실패합니다.
+ *   잔액은 같은 DataSource 에 저장(point.store.type=jdbc)하고, 인스턴스 메모리에 잔액을 두는 캐시와 저널은 끕니다.
+ *   유저 락을 잡지 않는 optimistic/sharded 실행 방식은 임대를 거치지 않으므로 함께 쓸 수 없습니다.
+ *   JDBC 의존성은 기본 빌드에 포함되지 않으므로 ./gradlew bootJar -Ppoint.lease 로 빌드합니다.
+ * - point.lock.timeout-millis 가 있으면 그 시간 안에 획득하지 못한 요청은 UserLockTimeoutException 으로 실패합니다.
+ * - 선택한 방식과 관계없이 락 대기/점유 시간을 기록합니다.
+ */
+@Configuration
+@EnableConfigurationProperties({UserLockProperties.class, UserLeaseProperties.class})
+public class UserLockConfig {
+
+	@Bean
+	public UserLockProvider userLockProvider(UserLockProperties properties, UserLeaseProperties leaseProperties,
+		ObjectProvider<DataSource> dataSource, MeterRegistry meterRegistry,
+		UserPointStoreProperties storeProperties, UserPointCacheProperties cacheProperties,
+		PointJournalProperties journalProperties, @Value("${point.executor.mode:lock}") String executorMode) {
+		UserLockProvider provider = switch (properties.mode()) {
+			case STRIPED -> new StripedUserLockProvider(properties.stripes());
+			case REF_COUNTED -> new RefCountedUserLockProvider();
+		};
+		if (leaseProperties.enabled()) {
+			requireSharedState(storeProperties, cacheProperties, journalProperties, executorMode);
+			DataSource leaseDataSource = dataSource.getIfAvailable();
+			if (leaseDataSource == null) {
+				throw new IllegalStateException("point.lock.lease 는 spring.datasource 설정이 필요합니다.");
+			}
+			provider = new LeasedUserLockProvider(provider, new JdbcUserLeaseStore(leaseDataSource),
+				leaseProperties.owner(), leaseProperties.leaseMillis(), leaseProperties.guardMillis(),
+				leaseProperties.renewIntervalMillis(), leaseProperties.idleMillis());
+		}
+		if (properties.timeoutMillis() > 0) {
+			provider = new BoundedWaitUserLockProvider(provider, properties.timeoutMillis());
+		}
+		return new TimedUserLockProvider(provider, meterRegistry);
+	}
+
+	private void requireSharedState(UserPointStoreProperties storeProperties, UserPointCacheProperties cacheProperties,
+		PointJournalProperties journalProperties, String executorMode) {
+		if (!ClassUtils.isPresent("org.springframework.jdbc.core.JdbcTemplate", getClass().getClassLoader())) {
+			throw new IllegalStateException("point.lock.lease 는 JDBC 의존성이 필요합니다. -Ppoint.lease 로 빌드해주세요.");
+		}
+		if (storeProperties.type() != UserPointStoreProperties.Type.JDBC) {
+			throw new IllegalStateException("point.lock.lease 는 point.store.type=jdbc 와 함께 사용해야 합니다.");
+		}
+		if (cacheProperties.enabled() || journalProperties.enabled()) {
+			throw new IllegalStateException("point.lock.lease 는 point.cache, point.journal 과 함께 사용할 수 없습니다.");
+		}
+		if (PointExecutorConfig.UNLOCKED_MODES.contains(executorMode)) {
+			throw new IllegalStateException(
+				"point.lock.lease 는 유저 락을 잡지 않는 point.executor.mode=" + executorMode + " 와 함께 사용할 수 없습니다.");
+		}
+	}
+}
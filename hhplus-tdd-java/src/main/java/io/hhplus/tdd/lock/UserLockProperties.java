@@ -0,0 +1,18 @@
+package io.hhplus.tdd.lock;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param timeoutMillis 유저 락을 기다리는 최대 시간, 넘으면 429 로 응답합니다. 0(기본)이면 획득할 때까지 기다립니다.
+ */
+@ConfigurationProperties(prefix = "point.lock")
+public record UserLockProperties(
+	@DefaultValue("ref-counted") Mode mode,
+	@DefaultValue("1024") int stripes,
+	@DefaultValue("0") long timeoutMillis
+) {
+	public enum Mode {
+		STRIPED, REF_COUNTED
+	}
+}
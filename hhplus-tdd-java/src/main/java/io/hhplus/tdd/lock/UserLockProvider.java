@@ -0,0 +1,26 @@
+package io.hhplus.tdd.lock;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 단위 락을 제공합니다.
+ * - striped : 고정 크기 락 배열에서 userId 해시로 락을 선택
+ * - ref-counted : 유저별 락을 만들고, 잡고 있거나 기다리는 스레드가 없으면 제거
+ */
+public interface UserLockProvider {
+
+	/**
+	 * 유저 락을 획득할 때까지 대기합니다.
+	 */
+	UserLock lock(long userId);
+
+	/**
+	 * timeout 동안 유저 락 획득을 기다리고, 획득하지 못하면 null 을 반환합니다.
+	 */
+	UserLock tryLock(long userId, long timeout, TimeUnit unit);
+
+	/**
+	 * 현재 보관 중인 락 수
+	 */
+	int size();
+}
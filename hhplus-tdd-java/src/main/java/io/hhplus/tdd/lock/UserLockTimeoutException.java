@@ -0,0 +1,11 @@
+package io.hhplus.tdd.lock;
+
+/**
+ * 정해진 시간 안에 유저 락을 획득하지 못했습니다.
+ */
+public class UserLockTimeoutException extends RuntimeException {
+
+	public UserLockTimeoutException(String message) {
+		super(message);
+	}
+}
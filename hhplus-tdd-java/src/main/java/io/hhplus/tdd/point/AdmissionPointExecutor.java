@@ -0,0 +1,121 @@
+package io.hhplus.tdd.point;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import io.hhplus.tdd.lock.UserLockTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 충전/사용 요청을 받기 전에 한도를 확인하고, 넘치면 기다리지 않고 PointOverloadedException 으로 거절합니다.
+ * - 유저별로 처리 중이거나 기다리는 요청이 maxPerUser 개면 거절해, 한 유저에 몰린 요청이 요청 스레드를 모두 묶지 않게 합니다.
+ * - 서버 전체 동시 요청이 maxConcurrent 개면 acquireTimeoutMillis 동안만 기다립니다.
+ * - 유저 락 대기 시간 초과(UserLockTimeoutException)도 같은 예외로 바꿔 알립니다.
+ * - 거절 수를 사유별로 집계합니다. (point.admission.rejections{reason})
+ */
+public class AdmissionPointExecutor implements PointExecutor, AutoCloseable {
+	private final PointExecutor delegate;
+	private final int maxPerUser;
+	private final long acquireTimeoutMillis;
+	private final Semaphore permits;
+	private final Map<Long, Integer> admitted = new ConcurrentHashMap<>();
+	private final Map<PointOverloadedException.Reason, Counter> rejections =
+		new EnumMap<>(PointOverloadedException.Reason.class);
+
+	public AdmissionPointExecutor(PointExecutor delegate, int maxConcurrent, int maxPerUser,
+		long acquireTimeoutMillis, MeterRegistry meterRegistry) {
+		if (maxConcurrent <= 0 || maxPerUser <= 0) {
+			throw new IllegalArgumentException("동시 요청 한도는 0보다 커야 합니다.");
+		}
+
+		this.delegate = delegate;
+		this.maxPerUser = maxPerUser;
+		this.acquireTimeoutMillis = acquireTimeoutMillis;
+		this.permits = new Semaphore(maxConcurrent);
+		for (PointOverloadedException.Reason reason : PointOverloadedException.Reason.values()) {
+			rejections.put(reason, Counter.builder("point.admission.rejections")
+				.description("처리 한도를 넘어 거절된 충전/사용 요청 수")
+				.tag("reason", reason.name())
+				.register(meterRegistry));
+		}
+	}
+
+	@Override
+	public UserPoint execute(PointCommand command) {
+		long userId = command.userId();
+		if (!admit(userId)) {
+			throw reject(PointOverloadedException.Reason.USER_WAITERS,
+				"같은 유저의 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.");
+		}
+
+		try {
+			if (!acquirePermit()) {
+				throw reject(PointOverloadedException.Reason.CONCURRENCY_LIMIT,
+					"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+			}
+			try {
+				return this.delegate.execute(command);
+			} catch (UserLockTimeoutException e) {
+				rejections.get(PointOverloadedException.Reason.LOCK_TIMEOUT).increment();
+				throw new PointOverloadedException(PointOverloadedException.Reason.LOCK_TIMEOUT,
+					"같은 유저의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.", e);
+			} finally {
+				permits.release();
+			}
+		} finally {
+			leave(userId);
+		}
+	}
+
+	/**
+	 * 현재 처리 중이거나 기다리는 유저 수
+	 */
+	int admittedUsers() {
+		return admitted.size();
+	}
+
+	@Override
+	public void close() throws Exception {
+		if (this.delegate instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+	private boolean admit(long userId) {
+		boolean[] accepted = new boolean[1];
+		admitted.compute(userId, (id, count) -> {
+			int current = count == null ? 0 : count;
+			if (current >= maxPerUser) {
+				return count;
+			}
+			accepted[0] = true;
+			return current + 1;
+		});
+		return accepted[0];
+	}
+
+	private void leave(long userId) {
+		admitted.computeIfPresent(userId, (id, count) -> count == 1 ? null : count - 1);
+	}
+
+	private boolean acquirePermit() {
+		if (acquireTimeoutMillis <= 0) {
+			return permits.tryAcquire();
+		}
+		try {
+			return permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private PointOverloadedException reject(PointOverloadedException.Reason reason, String message) {
+		rejections.get(reason).increment();
+		return new PointOverloadedException(reason, message);
+	}
+}
@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockProvider;
+
+/**
+ * 같은 유저에 몰린 요청을 모아서 처리합니다. (group commit)
+ * - 요청은 유저별 대기열에 도착 순서대로 쌓이고, 유저 락을 잡은 스레드가 대기열 전체를 꺼내 한 번에 처리합니다.
+ * - 포인트 조회 1회, 최종 포인트 수정 1회, 승인된 요청의 내역 저장으로 묶이며
+ *   각 요청은 도착 순서대로 검증되어 자신의 결과 또는 실패 사유를 돌려받습니다.
+ * - 유저 락 획득이 실패하면(대기 시간 초과 등) 아직 꺼내지지 않은 자신의 요청을 대기열에서 빼고 실패합니다.
+ *   이미 다른 스레드가 꺼내 처리 중이면 그 결과를 기다립니다.
+ */
+public class CombiningPointExecutor implements PointExecutor {
+	private final UserLockProvider userLockProvider;
+	private final PointGroupCommit groupCommit;
+
+	private final Map<Long, List<PendingPointCommand>> pendingMap = new ConcurrentHashMap<>();
+
+	public CombiningPointExecutor(UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository, PointSnapshots pointSnapshots,
+		UserLockProvider userLockProvider) {
+		this.userLockProvider = userLockProvider;
+		this.groupCommit = new PointGroupCommit(userPointRepository, pointHistoryRepository, pointSnapshots);
+	}
+
+	@Override
+	public UserPoint execute(PointCommand command) {
+		PendingPointCommand pending = new PendingPointCommand(command);
+		enqueue(pending);
+
+		while (!pending.result().isDone()) {
+			UserLock lock;
+			try {
+				lock = this.userLockProvider.lock(command.userId());
+			} catch (RuntimeException e) {
+				if (withdraw(pending)) {
+					pending.result().completeExceptionally(e);
+					throw e;
+				}
+				break;
+			}
+
+			try (UserLock ignored = lock) {
+				if (!pending.result().isDone()) {
+					combine(command.userId());
+				}
+			}
+		}
+
+		return pending.await();
+	}
+
+	int pendingCount(long userId) {
+		int[] count = new int[1];
+		pendingMap.computeIfPresent(userId, (id, pendings) -> {
+			count[0] = pendings.size();
+			return pendings;
+		});
+		return count[0];
+	}
+
+	private void enqueue(PendingPointCommand pending) {
+		pendingMap.compute(pending.command().userId(), (id, pendings) -> {
+			List<PendingPointCommand> queue = pendings == null ? new ArrayList<>() : pendings;
+			queue.add(pending);
+			return queue;
+		});
+	}
+
+	/**
+	 * 아직 대기열에 남아 있는 요청이면 빼내고 true 를 반환합니다.
+	 */
+	private boolean withdraw(PendingPointCommand pending) {
+		boolean[] removed = new boolean[1];
+		pendingMap.computeIfPresent(pending.command().userId(), (id, pendings) -> {
+			removed[0] = pendings.removeIf(queued -> queued == pending);
+			return pendings.isEmpty() ? null : pendings;
+		});
+		return removed[0];
+	}
+
+	private void combine(long userId) {
+		List<PendingPointCommand> batch = pendingMap.remove(userId);
+		if (batch != null) {
+			this.groupCommit.commit(userId, batch);
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 여러 생산자, 하나의 소비자가 사용하는 크기 고정 링 버퍼 (Disruptor 방식)
+ * - 생산자는 tail 을 CAS 로 증가시켜 슬롯을 선점하고, 값을 쓴 뒤 슬롯에 자신의 순번을 기록해 발행합니다.
+ * - 소비자는 head 부터 발행된 슬롯만 순서대로 꺼냅니다. 락을 사용하지 않습니다.
+ * - 버퍼가 가득 차면 생산자는 소비자가 자리를 비울 때까지 잠시씩 대기합니다. (back pressure)
+ *   대기 중에 소비자가 종료되면 더 기다리지 않고 포기합니다.
+ */
+class CommandRing<E> {
+	private static final long PARK_NANOS = 1_000L;
+
+	private final Object[] slots;
+	private final AtomicLongArray published;
+	private final int mask;
+	private final AtomicLong tail = new AtomicLong();
+	private volatile long head;
+
+	CommandRing(int capacity) {
+		int size = Integer.highestOneBit(Math.max(capacity, 2) * 2 - 1);
+		this.slots = new Object[size];
+		this.published = new AtomicLongArray(size);
+		this.mask = size - 1;
+		for (int i = 0; i < size; i++) {
+			published.set(i, -1);
+		}
+	}
+
+	/**
+	 * @param closed 소비자가 종료되었는지 여부. 버퍼가 가득 차 기다리는 동안 true 가 되면 넣지 않고 false 를 반환합니다.
+	 */
+	boolean put(E element, BooleanSupplier closed) {
+		while (true) {
+			long sequence = tail.get();
+			if (sequence - head >= slots.length) {
+				if (closed.getAsBoolean()) {
+					return false;
+				}
+				LockSupport.parkNanos(PARK_NANOS);
+			} else if (tail.compareAndSet(sequence, sequence + 1)) {
+				int index = (int) sequence & mask;
+				slots[index] = element;
+				published.set(index, sequence);
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * 발행된 원소를 최대 max 개까지 순서대로 꺼냅니다. 소비자 스레드에서만 호출합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	int drainTo(List<E> target, int max) {
+		long sequence = head;
+		int drained = 0;
+		while (drained < max && published.get((int) sequence & mask) == sequence) {
+			int index = (int) sequence & mask;
+			target.add((E) slots[index]);
+			slots[index] = null;
+			sequence++;
+			drained++;
+		}
+		head = sequence;
+		return drained;
+	}
+
+	boolean isEmpty() {
+		return published.get((int) head & mask) != head;
+	}
+
+	int size() {
+		return (int) Math.max(0, tail.get() - head);
+	}
+
+	int capacity() {
+		return slots.length;
+	}
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockProvider;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class LockPointExecutor implements PointExecutor {
+	private final UserPointRepository userPointRepository;
+	private final PointHistoryRepository pointHistoryRepository;
+	private final PointSnapshots pointSnapshots;
+	private final UserLockProvider userLockProvider;
+
+	@Override
+	public UserPoint execute(PointCommand command) {
+		try (UserLock ignored = this.userLockProvider.lock(command.userId())) {
+			UserPoint user = this.userPointRepository.selectById(command.userId());
+			long updateAmount = command.apply(user);
+
+			UserPoint updatedUserPoint = this.userPointRepository.insertOrUpdate(command.userId(), updateAmount);
+			PointHistory pointHistory = this.pointHistoryRepository.insert(command.userId(), command.amount(),
+				command.type(), updatedUserPoint.updateMillis());
+			this.pointSnapshots.publish(updatedUserPoint, pointHistory);
+
+			return updatedUserPoint;
+		}
+	}
+}
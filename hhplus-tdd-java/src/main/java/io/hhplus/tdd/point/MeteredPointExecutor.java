@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 거절된 충전/사용 요청을 사유별로 집계합니다. (point.rejections{type, reason})
+ * - 감싼 실행기가 종료가 필요한 경우(AutoCloseable) close 를 전달합니다.
+ */
+public class MeteredPointExecutor implements PointExecutor, AutoCloseable {
+	private final PointExecutor delegate;
+	private final Map<TransactionType, Map<PointRejectedException.Reason, Counter>> rejections =
+		new EnumMap<>(TransactionType.class);
+
+	public MeteredPointExecutor(PointExecutor delegate, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		for (TransactionType type : TransactionType.values()) {
+			Map<PointRejectedException.Reason, Counter> counters = new EnumMap<>(PointRejectedException.Reason.class);
+			for (PointRejectedException.Reason reason : PointRejectedException.Reason.values()) {
+				counters.put(reason, Counter.builder("point.rejections")
+					.description("잔액 규칙으로 거절된 충전/사용 요청 수")
+					.tag("type", type.name())
+					.tag("reason", reason.name())
+					.register(meterRegistry));
+			}
+			rejections.put(type, counters);
+		}
+	}
+
+	@Override
+	public UserPoint execute(PointCommand command) {
+		try {
+			return this.delegate.execute(command);
+		} catch (PointRejectedException e) {
+			rejections.get(command.type()).get(e.reason()).increment();
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() throws Exception {
+		if (this.delegate instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+}
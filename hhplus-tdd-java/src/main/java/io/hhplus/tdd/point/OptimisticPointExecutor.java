@@ -0,0 +1,129 @@
+package io.hhplus.tdd.point;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 유저 락 없이 메모리의 잔액을 compare-and-set 으로 갱신합니다. (optimistic)
+ * - 요청 중인 유저마다 메모리에 잔액 슬롯을 두고, 새 잔액을 계산해 CAS 로 커밋합니다.
+ *   다른 요청이 먼저 커밋했다면 최대 MAX_BACKOFF_NANOS 까지 늘어나는 임의 대기 후 다시 계산합니다.
+ * - 커밋한 잔액마다 저장 완료 future 를 두고, 바로 이전 잔액의 future 가 완료되면 이어서 저장소에 반영합니다.
+ *   충돌이 없으면 이전 future 가 이미 완료되어 있으므로 어떤 스레드도 대기하지 않습니다.
+ * - 저장이 실패하면 슬롯을 비워 다음 요청이 저장소에서 다시 읽게 하고, 그 잔액 위에 이미 커밋한 요청들도 실패시킵니다.
+ * - 슬롯은 참조 수가 0 이 되면 제거되고, 다음 요청이 저장소에서 다시 읽어 옵니다.
+ */
+@RequiredArgsConstructor
+public class OptimisticPointExecutor implements PointExecutor {
+	private static final long MIN_BACKOFF_NANOS = 1_000L;
+	private static final long MAX_BACKOFF_NANOS = 1_000_000L;
+
+	private final UserPointRepository userPointRepository;
+	private final PointHistoryRepository pointHistoryRepository;
+	private final PointSnapshots pointSnapshots;
+
+	private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+	@Override
+	public UserPoint execute(PointCommand command) {
+		Slot slot = acquire(command.userId());
+		try {
+			long backoff = MIN_BACKOFF_NANOS;
+			while (true) {
+				Balance current = load(slot, command.userId());
+				UserPoint updated = new UserPoint(command.userId(), command.apply(current.userPoint()),
+					current.userPoint() == null ? 0 : current.userPoint().updateMillis());
+				Balance next = new Balance(updated, new CompletableFuture<>());
+				if (slot.balance.compareAndSet(current, next)) {
+					return persist(slot, command, current, next);
+				}
+
+				LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(backoff) + 1);
+				backoff = Math.min(backoff * 2, MAX_BACKOFF_NANOS);
+			}
+		} finally {
+			release(command.userId());
+		}
+	}
+
+	/**
+	 * 메모리에 보관 중인 유저 슬롯 수
+	 */
+	int size() {
+		return slots.size();
+	}
+
+	private Slot acquire(long userId) {
+		return slots.compute(userId, (id, current) -> {
+			Slot acquired = current == null ? new Slot() : current;
+			acquired.references++;
+			return acquired;
+		});
+	}
+
+	private void release(long userId) {
+		slots.computeIfPresent(userId, (id, current) -> --current.references == 0 ? null : current);
+	}
+
+	/**
+	 * 새로 만들었거나 저장 실패로 비워진 슬롯은 저장소에서 잔액을 읽어 채웁니다. 동시에 여러 요청이 읽어도 같은 값이므로 먼저 채운 값을 사용합니다.
+	 */
+	private Balance load(Slot slot, long userId) {
+		Balance current = slot.balance.get();
+		if (current != null) {
+			return current;
+		}
+
+		Balance loaded = new Balance(this.userPointRepository.selectById(userId),
+			CompletableFuture.completedFuture(null));
+		return slot.balance.compareAndSet(null, loaded) ? loaded : slot.balance.get();
+	}
+
+	/**
+	 * 바로 이전 잔액이 저장소에 반영될 때까지 기다린 뒤 잔액과 내역을 저장하고, 다음 잔액에 차례를 넘깁니다.
+	 * - 이전 잔액의 저장이 실패했다면 저장하지 않고 실패합니다.
+	 * - 직접 저장하다 실패하면 슬롯을 비워, 실패한 잔액 위에서 새 잔액을 계산하지 않도록 합니다.
+	 */
+	private UserPoint persist(Slot slot, PointCommand command, Balance previous, Balance committed) {
+		try {
+			previous.persisted().join();
+		} catch (CompletionException e) {
+			IllegalStateException failure = new IllegalStateException("이전 요청의 포인트 저장이 실패했습니다.", e.getCause());
+			committed.persisted().completeExceptionally(failure);
+			throw failure;
+		}
+
+		try {
+			UserPoint updatedUserPoint = this.userPointRepository.insertOrUpdate(command.userId(),
+				committed.userPoint().point());
+			PointHistory pointHistory = this.pointHistoryRepository.insert(command.userId(), command.amount(),
+				command.type(), updatedUserPoint.updateMillis());
+			this.pointSnapshots.publish(updatedUserPoint, pointHistory);
+			committed.persisted().complete(null);
+			return updatedUserPoint;
+		} catch (RuntimeException | Error e) {
+			slot.balance.set(null);
+			committed.persisted().completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private record Balance(
+		UserPoint userPoint,
+		CompletableFuture<Void> persisted
+	) {
+	}
+
+	private static class Slot {
+		private final AtomicReference<Balance> balance = new AtomicReference<>();
+		private int references;
+	}
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param ioThreads 포인트 수정과 동시에 내역을 저장할 스레드 수, 락을 잡고 동시에 실행 중인 요청 수만큼 필요합니다.
+ */
+@ConfigurationProperties(prefix = "point.executor.overlapped")
+public record OverlappedExecutorProperties(
+	@DefaultValue("64") int ioThreads
+) {
+}
@@ -0,0 +1,146 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockProvider;
+
+/**
+ * 유저 락 안에서 포인트 수정과 내역 저장을 동시에 실행합니다.
+ * - 저장 시각을 미리 정해 두 저장에 함께 넘기므로, 내역 시각과 저장된 포인트 시각이 같습니다.
+ * - 락 점유 시간이 두 저장 지연의 합에서 둘 중 긴 쪽으로 줄어듭니다.
+ * - 내역 저장은 ioExecutor 에서, 포인트 수정은 호출 스레드에서 실행하고 둘 다 끝나면 스냅샷을 교체한 뒤 락을 해제합니다.
+ * - 한쪽만 실패하면 보상합니다.
+ *   포인트 수정만 실패하면 반대 거래 내역을 남기고, 내역 저장만 실패하면 포인트를 이전 잔액으로 되돌립니다.
+ * - 잔액이 0 인 유저(처음 충전하는 유저 포함)는 내역을 먼저 저장한 뒤 포인트를 저장하므로,
+ *   충전이 실패해도 되돌릴 포인트가 없어 0 포인트 행이 새로 생기지 않습니다.
+ * - 저장 시각을 지정할 수 없는 포인트 저장소(UserPointTable)는 동시에 실행하지 않고 LockPointExecutor 처럼
+ *   포인트를 먼저 저장한 뒤 그 시각으로 내역을 저장합니다. 이 저장소는 행을 지울 수 없어 내역 저장이 실패하면
+ *   처음 충전한 유저도 0 포인트로 되돌립니다.
+ */
+public class OverlappedPointExecutor implements PointExecutor, AutoCloseable {
+	private final UserPointRepository userPointRepository;
+	private final PointHistoryRepository pointHistoryRepository;
+	private final PointSnapshots pointSnapshots;
+	private final UserLockProvider userLockProvider;
+	private final ExecutorService ioExecutor;
+
+	public OverlappedPointExecutor(UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository, PointSnapshots pointSnapshots,
+		UserLockProvider userLockProvider, ExecutorService ioExecutor) {
+		this.userPointRepository = userPointRepository;
+		this.pointHistoryRepository = pointHistoryRepository;
+		this.pointSnapshots = pointSnapshots;
+		this.userLockProvider = userLockProvider;
+		this.ioExecutor = ioExecutor;
+	}
+
+	@Override
+	public UserPoint execute(PointCommand command) {
+		try (UserLock ignored = this.userLockProvider.lock(command.userId())) {
+			UserPoint user = this.userPointRepository.selectById(command.userId());
+			long updateAmount = command.apply(user);
+			long previousAmount = user == null ? 0L : user.point();
+
+			UserPoint updatedUserPoint;
+			PointHistory pointHistory;
+			if (!this.userPointRepository.supportsUpdateMillis()) {
+				updatedUserPoint = this.userPointRepository.insertOrUpdate(command.userId(), updateAmount);
+				pointHistory = insertHistory(command, updatedUserPoint.updateMillis(), previousAmount);
+			} else if (previousAmount == 0L) {
+				long updateMillis = System.currentTimeMillis();
+				pointHistory = this.pointHistoryRepository.insert(command.userId(), command.amount(), command.type(),
+					updateMillis);
+				updatedUserPoint = updatePoint(command, updateAmount, updateMillis,
+					CompletableFuture.completedFuture(pointHistory), previousAmount);
+			} else {
+				long updateMillis = System.currentTimeMillis();
+				CompletableFuture<PointHistory> history = CompletableFuture.supplyAsync(
+					() -> this.pointHistoryRepository.insert(command.userId(), command.amount(), command.type(),
+						updateMillis), this.ioExecutor);
+				updatedUserPoint = updatePoint(command, updateAmount, updateMillis, history, previousAmount);
+				try {
+					pointHistory = history.join();
+				} catch (CompletionException e) {
+					RuntimeException cause = unwrap(e);
+					restorePoint(command.userId(), previousAmount, cause);
+					throw cause;
+				}
+			}
+			this.pointSnapshots.publish(updatedUserPoint, pointHistory);
+			return updatedUserPoint;
+		}
+	}
+
+	private PointHistory insertHistory(PointCommand command, long updateMillis, long previousAmount) {
+		try {
+			return this.pointHistoryRepository.insert(command.userId(), command.amount(), command.type(),
+				updateMillis);
+		} catch (RuntimeException e) {
+			restorePoint(command.userId(), previousAmount, e);
+			throw e;
+		}
+	}
+
+	private UserPoint updatePoint(PointCommand command, long updateAmount, long updateMillis,
+		CompletableFuture<PointHistory> history, long previousAmount) {
+		try {
+			return this.userPointRepository.insertOrUpdate(command.userId(), updateAmount, updateMillis);
+		} catch (RuntimeException e) {
+			reverseHistory(command, history, previousAmount, e);
+			throw e;
+		}
+	}
+
+	/**
+	 * 포인트 수정이 실패한 경우, 저장된 내역을 반대 거래 내역으로 상쇄하고 이전 잔액을 다시 저장합니다.
+	 * - 내역은 지우지 않고 더하기만 하므로, 저널 복구나 롤업처럼 내역을 합산하는 쪽도 잔액과 어긋나지 않습니다.
+	 */
+	private void reverseHistory(PointCommand command, CompletableFuture<PointHistory> history, long previousAmount,
+		RuntimeException failure) {
+		try {
+			history.join();
+		} catch (CompletionException e) {
+			failure.addSuppressed(unwrap(e));
+			restorePoint(command.userId(), previousAmount, failure);
+			return;
+		}
+
+		try {
+			TransactionType reversed = command.type() == TransactionType.CHARGE
+				? TransactionType.USE : TransactionType.CHARGE;
+			this.pointHistoryRepository.insert(command.userId(), command.amount(), reversed,
+				System.currentTimeMillis());
+		} catch (RuntimeException e) {
+			failure.addSuppressed(e);
+		}
+		restorePoint(command.userId(), previousAmount, failure);
+	}
+
+	/**
+	 * 잔액이 0 인 유저는 포인트를 마지막에 저장해 되돌릴 값이 없으므로, 0 포인트 행을 만들지 않도록 건너뜁니다.
+	 */
+	private void restorePoint(long userId, long previousAmount, RuntimeException failure) {
+		if (previousAmount == 0L && this.userPointRepository.supportsUpdateMillis()) {
+			return;
+		}
+		try {
+			this.userPointRepository.insertOrUpdate(userId, previousAmount);
+		} catch (RuntimeException e) {
+			failure.addSuppressed(e);
+		}
+	}
+
+	private static RuntimeException unwrap(CompletionException e) {
+		return e.getCause() instanceof RuntimeException cause ? cause : e;
+	}
+
+	@Override
+	public void close() {
+		this.ioExecutor.shutdown();
+	}
+}
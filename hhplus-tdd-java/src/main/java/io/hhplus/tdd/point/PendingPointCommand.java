@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 다른 스레드가 처리할 포인트 요청과 그 결과
+ */
+record PendingPointCommand(
+	PointCommand command,
+	CompletableFuture<UserPoint> result
+) {
+	PendingPointCommand(PointCommand command) {
+		this(command, new CompletableFuture<>());
+	}
+
+	/**
+	 * 처리 결과를 기다리고, 실패했다면 처리 중 발생한 예외를 그대로 던집니다.
+	 */
+	UserPoint await() {
+		try {
+			return result.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+}
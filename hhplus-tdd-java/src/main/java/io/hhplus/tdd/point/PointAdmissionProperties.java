@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param enabled 기본은 꺼져 있어 기존처럼 모든 요청이 차례를 기다립니다. overload 프로필에서 켭니다.
+ * @param maxConcurrent 서버 전체에서 동시에 처리하거나 기다릴 수 있는 충전/사용 요청 수
+ * @param maxPerUser 한 유저에 대해 동시에 처리하거나 기다릴 수 있는 요청 수
+ * @param acquireTimeoutMillis 전체 한도에 걸렸을 때 자리가 나기를 기다리는 시간, 0 이면 바로 거절
+ * @param retryAfterSeconds 거절 응답의 Retry-After 값
+ */
+@ConfigurationProperties(prefix = "point.admission")
+public record PointAdmissionProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("150") int maxConcurrent,
+	@DefaultValue("20") int maxPerUser,
+	@DefaultValue("0") long acquireTimeoutMillis,
+	@DefaultValue("1") long retryAfterSeconds
+) {
+}
@@ -0,0 +1,58 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import io.hhplus.tdd.database.PointBalanceCheckpoints;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 특정 시점의 잔액을 내역으로 다시 계산합니다.
+ * - 시점 이전의 마지막 체크포인트 잔액에서 시작해 그 뒤의 내역만 시점까지 적용하므로,
+ *   읽는 내역 수는 전체 내역 수가 아니라 체크포인트 간격(spacing)에 비례합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointAsOfService {
+	private static final int REPLAY_PAGE_SIZE = 1000;
+
+	private final PointHistoryRepository pointHistoryRepository;
+	private final PointBalanceCheckpoints pointBalanceCheckpoints;
+
+	/**
+	 * atMillis 시점까지 저장된 내역을 반영한 잔액, updateMillis 는 마지막으로 반영한 내역의 시각입니다.
+	 */
+	public UserPoint getUserPointAt(long userId, long atMillis) {
+		if (userId <= 0) {
+			throw new IllegalArgumentException("사용자 아이디는 0보다 큰 숫자이어야 합니다.");
+		}
+		if (atMillis < 0) {
+			throw new IllegalArgumentException("조회 시점은 0 이상이어야 합니다.");
+		}
+
+		PointBalanceCheckpoints.Checkpoint checkpoint = this.pointBalanceCheckpoints.floor(userId, atMillis);
+		long balance = checkpoint == null ? 0L : checkpoint.balance();
+		long updateMillis = checkpoint == null ? 0L : checkpoint.updateMillis();
+		Long cursor = checkpoint == null ? null : checkpoint.historyId();
+
+		int pageSize = this.pointBalanceCheckpoints.spacing() > 0 ? this.pointBalanceCheckpoints.spacing()
+			: REPLAY_PAGE_SIZE;
+		while (true) {
+			List<PointHistory> page = this.pointHistoryRepository.selectPageByUserId(userId, cursor, pageSize,
+				PointHistoryOrder.ASC);
+			for (PointHistory history : page) {
+				if (history.updateMillis() > atMillis) {
+					return new UserPoint(userId, balance, updateMillis);
+				}
+				balance += history.signedAmount();
+				updateMillis = history.updateMillis();
+			}
+			if (page.size() < pageSize) {
+				return new UserPoint(userId, balance, updateMillis);
+			}
+			cursor = page.get(page.size() - 1).id();
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(PointAsyncProperties.class)
+public class PointAsyncConfig {
+
+	@Bean
+	public PointAsyncService pointAsyncService(PointService pointService, PointAsyncProperties properties,
+		MeterRegistry meterRegistry) {
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(properties.threads(), properties.threads(),
+			0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(properties.queueCapacity()),
+			new CustomizableThreadFactory("point-async-"), new ThreadPoolExecutor.AbortPolicy());
+		Gauge.builder("point.async.queue.depth", executor, pool -> pool.getQueue().size())
+			.description("비동기 API 스레드 풀에서 처리를 기다리는 요청 수")
+			.register(meterRegistry);
+		return new PointAsyncService(pointService, executor, meterRegistry);
+	}
+}
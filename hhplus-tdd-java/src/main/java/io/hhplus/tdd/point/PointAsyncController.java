@@ -0,0 +1,59 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PointController 의 조회/충전/사용 API 를 비동기로 처리합니다.
+ * - 요청 스레드는 처리를 PointAsyncService 에 넘기고 바로 반환되며, 결과가 나오면 응답합니다.
+ * - 요청/응답 형식과 에러 응답은 동기 API 와 같습니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/point/async")
+public class PointAsyncController {
+
+	private final PointAsyncService pointAsyncService;
+
+	@GetMapping("{id}")
+	public CompletableFuture<UserPoint> point(
+		@PathVariable long id
+	) {
+		return this.pointAsyncService.getUserPoint(id);
+	}
+
+	@GetMapping("{id}/histories")
+	public CompletableFuture<List<PointHistory>> history(
+		@PathVariable long id
+	) {
+		return this.pointAsyncService.getPointHistories(id);
+	}
+
+	@PatchMapping("{id}/charge")
+	public CompletableFuture<UserPoint> charge(
+		@PathVariable long id,
+		@RequestBody long amount,
+		@RequestHeader(value = PointController.IDEMPOTENCY_KEY, required = false) String idempotencyKey
+	) {
+		return this.pointAsyncService.charge(id, amount, idempotencyKey);
+	}
+
+	@PatchMapping("{id}/use")
+	public CompletableFuture<UserPoint> use(
+		@PathVariable long id,
+		@RequestBody long amount,
+		@RequestHeader(value = PointController.IDEMPOTENCY_KEY, required = false) String idempotencyKey
+	) {
+		return this.pointAsyncService.use(id, amount, idempotencyKey);
+	}
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param threads 비동기 API 처리 스레드 수, 락/테이블 대기 시간 동안 스레드가 묶이므로 CPU 코어 수보다 크게 잡습니다.
+ * @param queueCapacity 스레드가 모두 사용 중일 때 대기할 수 있는 요청 수, 넘치면 429 로 거절
+ */
+@ConfigurationProperties(prefix = "point.async")
+public record PointAsyncProperties(
+	@DefaultValue("64") int threads,
+	@DefaultValue("1000") int queueCapacity
+) {
+}
@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * PointService 호출을 별도 스레드 풀에서 실행하고 결과를 CompletableFuture 로 돌려줍니다.
+ * - 요청 스레드는 유저 락이나 테이블을 기다리지 않고 바로 반환되며, 실제 처리는 크기가 정해진 풀에서 합니다.
+ * - 실패는 CompletionException 으로 감싸지 않고 PointService 가 던진 예외 그대로 전달하므로, 동기 API 와 같은 응답으로 변환됩니다.
+ * - 풀의 스레드와 대기열이 모두 차면 기다리지 않고 PointOverloadedException(429) 으로 거절합니다.
+ */
+public class PointAsyncService implements AutoCloseable {
+	private final PointService pointService;
+	private final ExecutorService executor;
+	private final Counter rejections;
+
+	public PointAsyncService(PointService pointService, ExecutorService executor, MeterRegistry meterRegistry) {
+		this.pointService = pointService;
+		this.executor = executor;
+		this.rejections = Counter.builder("point.admission.rejections")
+			.description("처리 한도를 넘어 거절된 충전/사용 요청 수")
+			.tag("reason", PointOverloadedException.Reason.ASYNC_QUEUE_FULL.name())
+			.register(meterRegistry);
+	}
+
+	public CompletableFuture<UserPoint> getUserPoint(long userId) {
+		return supply(() -> this.pointService.getUserPoint(userId));
+	}
+
+	public CompletableFuture<List<PointHistory>> getPointHistories(long userId) {
+		return supply(() -> this.pointService.getPointHistories(userId));
+	}
+
+	public CompletableFuture<UserPoint> charge(long userId, Long amount, String idempotencyKey) {
+		return supply(() -> this.pointService.charge(userId, amount, idempotencyKey));
+	}
+
+	public CompletableFuture<UserPoint> use(long userId, Long amount, String idempotencyKey) {
+		return supply(() -> this.pointService.use(userId, amount, idempotencyKey));
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	private <T> CompletableFuture<T> supply(Supplier<T> task) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		try {
+			executor.execute(() -> {
+				try {
+					future.complete(task.get());
+				} catch (Throwable e) {
+					future.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			rejections.increment();
+			future.completeExceptionally(new PointOverloadedException(PointOverloadedException.Reason.ASYNC_QUEUE_FULL,
+				"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", e));
+		}
+		return future;
+	}
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+@Configuration
+@EnableConfigurationProperties(PointBatchProperties.class)
+public class PointBatchConfig {
+
+	@Bean
+	public PointBatchService pointBatchService(PointService pointService, PointBatchProperties properties) {
+		ExecutorService executor = new ThreadPoolExecutor(properties.threadCount(), properties.threadCount(),
+			0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(properties.queueCapacity()),
+			new CustomizableThreadFactory("point-batch-"), new ThreadPoolExecutor.CallerRunsPolicy());
+		return new PointBatchService(pointService, executor, properties.maxItems());
+	}
+}
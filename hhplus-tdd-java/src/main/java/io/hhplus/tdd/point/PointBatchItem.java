@@ -0,0 +1,8 @@
+package io.hhplus.tdd.point;
+
+public record PointBatchItem(
+	long userId,
+	TransactionType type,
+	long amount
+) {
+}
@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param threads 일괄 처리 스레드 수, 0 이면 CPU 코어 수
+ * @param queueCapacity 스레드가 모두 사용 중일 때 대기할 수 있는 유저 작업 수, 넘치면 요청 스레드가 직접 처리
+ * @param maxItems 한 번에 받을 수 있는 요청 수
+ */
+@ConfigurationProperties(prefix = "point.batch")
+public record PointBatchProperties(
+	@DefaultValue("0") int threads,
+	@DefaultValue("1000") int queueCapacity,
+	@DefaultValue("10000") int maxItems
+) {
+	public int threadCount() {
+		return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+	}
+}
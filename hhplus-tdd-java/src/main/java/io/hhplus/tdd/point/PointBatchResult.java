@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+
+/**
+ * 일괄 처리 요청 한 건의 결과, 성공하면 userPoint 가 실패하면 error 가 채워집니다.
+ */
+public record PointBatchResult(
+	long userId,
+	TransactionType type,
+	long amount,
+	UserPoint userPoint,
+	ErrorResponse error
+) {
+	public static PointBatchResult success(PointBatchItem item, UserPoint userPoint) {
+		return new PointBatchResult(item.userId(), item.type(), item.amount(), userPoint, null);
+	}
+
+	public static PointBatchResult failure(PointBatchItem item, ErrorResponse error) {
+		return new PointBatchResult(item.userId(), item.type(), item.amount(), null, error);
+	}
+}
@@ -0,0 +1,75 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.lock.UserLockTimeoutException;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 유저의 충전/사용 요청을 한 번에 처리합니다.
+ * - 요청을 유저별로 묶어 유저 단위 작업으로 만들고, 서로 다른 유저의 작업은 스레드 풀에서 병렬로 실행합니다.
+ * - 같은 유저의 요청은 한 작업 안에서 받은 순서대로 실행되며, PointService 의 유저 락으로 다른 요청과도 직렬화됩니다.
+ */
+@RequiredArgsConstructor
+public class PointBatchService implements AutoCloseable {
+	private final PointService pointService;
+	private final ExecutorService executor;
+	private final int maxItems;
+
+	public List<PointBatchResult> execute(List<PointBatchItem> items) {
+		if (items == null || items.isEmpty()) {
+			throw new IllegalArgumentException("일괄 처리 요청이 비어 있습니다.");
+		} else if (items.size() > maxItems) {
+			throw new IllegalArgumentException("일괄 처리 요청은 " + maxItems + "건을 초과할 수 없습니다.");
+		}
+
+		Map<Long, List<Integer>> positionsByUser = new LinkedHashMap<>();
+		for (int position = 0; position < items.size(); position++) {
+			positionsByUser.computeIfAbsent(items.get(position).userId(), id -> new ArrayList<>()).add(position);
+		}
+
+		PointBatchResult[] results = new PointBatchResult[items.size()];
+		List<CompletableFuture<Void>> futures = new ArrayList<>(positionsByUser.size());
+		for (List<Integer> positions : positionsByUser.values()) {
+			futures.add(CompletableFuture.runAsync(() -> {
+				for (int position : positions) {
+					results[position] = executeItem(items.get(position));
+				}
+			}, executor));
+		}
+
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		return List.of(results);
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+
+	private PointBatchResult executeItem(PointBatchItem item) {
+		try {
+			if (item.type() == null) {
+				throw new IllegalArgumentException("요청 종류(CHARGE, USE)를 입력해야 합니다.");
+			}
+
+			UserPoint userPoint = switch (item.type()) {
+				case CHARGE -> this.pointService.charge(item.userId(), item.amount());
+				case USE -> this.pointService.use(item.userId(), item.amount());
+			};
+			return PointBatchResult.success(item, userPoint);
+		} catch (IllegalArgumentException e) {
+			return PointBatchResult.failure(item, new ErrorResponse("400", e.getMessage()));
+		} catch (PointOverloadedException | UserLockTimeoutException e) {
+			return PointBatchResult.failure(item, new ErrorResponse("429", e.getMessage()));
+		} catch (RuntimeException e) {
+			return PointBatchResult.failure(item, new ErrorResponse("500", "에러가 발생했습니다."));
+		}
+	}
+}
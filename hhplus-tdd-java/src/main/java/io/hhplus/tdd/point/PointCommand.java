@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전/사용 요청
+ * - 잔액 검증 규칙을 한 곳에 모아 실행 방식(PointExecutor)과 관계없이 동일하게 적용합니다.
+ */
+public record PointCommand(
+	long userId,
+	long amount,
+	TransactionType type
+) {
+	public static final long MAX_POINT = 100000L;
+
+	public static PointCommand charge(long userId, long amount) {
+		return new PointCommand(userId, amount, TransactionType.CHARGE);
+	}
+
+	public static PointCommand use(long userId, long amount) {
+		return new PointCommand(userId, amount, TransactionType.USE);
+	}
+
+	/**
+	 * 현재 포인트에 요청을 적용한 결과 포인트를 반환합니다.
+	 */
+	public long apply(UserPoint current) {
+		if (type == TransactionType.USE) {
+			if (current == null) {
+				throw new PointRejectedException(PointRejectedException.Reason.USER_NOT_FOUND,
+					"사용자가 존재하지 않습니다.");
+			} else if (current.point() < amount) {
+				throw new PointRejectedException(PointRejectedException.Reason.INSUFFICIENT_BALANCE,
+					"사용 포인트가 부족합니다.");
+			}
+			return current.point() - amount;
+		}
+
+		long updateAmount = amount;
+		if (current != null) {
+			updateAmount = current.point() + amount;
+		}
+
+		if (updateAmount > MAX_POINT) {
+			throw new PointRejectedException(PointRejectedException.Reason.MAX_BALANCE_EXCEEDED,
+				"충전 금액은 100000포인트를 초과할 수 없습니다.");
+		}
+		return updateAmount;
+	}
+}
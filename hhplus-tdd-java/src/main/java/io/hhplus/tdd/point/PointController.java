@@ -1,15 +1,27 @@
 package io.hhplus.tdd.point;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -20,37 +32,113 @@ public class PointController {
 
 	private static final Logger log = LoggerFactory.getLogger(PointController.class);
 
+	/**
+	 * 충전/사용 재시도 시 같은 값을 보내면 한 번만 처리됩니다.
+	 */
+	public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
 	private final PointService pointService;
+	private final PointBatchService pointBatchService;
+	private final PointSummaryService pointSummaryService;
+	private final PointAsOfService pointAsOfService;
+	private final PointVersionRegistry pointVersionRegistry;
+	private final ObjectMapper objectMapper;
 
 	/**
 	 * TODO - 특정 유저의 포인트를 조회하는 기능을 작성해주세요.
+	 * - at(epoch millis) 을 주면 그 시점까지 저장된 내역으로 계산한 잔액을 조회합니다.
+	 * - 현재 잔액에는 ETag 를 붙이고, If-None-Match 가 같으면 포인트를 조회하지 않고 304 로 응답합니다.
 	 */
 	@GetMapping("{id}")
 	public UserPoint point(
-		@PathVariable long id
+		@PathVariable long id,
+		@RequestParam(required = false) Long at,
+		WebRequest request
 	) {
+		if (at != null) {
+			return this.pointAsOfService.getUserPointAt(id, at);
+		}
+		if (request.checkNotModified(this.pointVersionRegistry.pointETag(id))) {
+			return null;
+		}
 		return this.pointService.getUserPoint(id);
 	}
 
 	/**
 	 * TODO - 특정 유저의 포인트 충전/이용 내역을 조회하는 기능을 작성해주세요.
+	 * - 마지막 내역 id 로 만든 ETag 를 붙이고, If-None-Match 가 같으면 내역을 조회하지 않고 304 로 응답합니다.
 	 */
 	@GetMapping("{id}/histories")
 	public List<PointHistory> history(
-		@PathVariable long id
+		@PathVariable long id,
+		WebRequest request
 	) {
+		if (request.checkNotModified(this.pointVersionRegistry.historyETag(id))) {
+			return null;
+		}
 		return this.pointService.getPointHistories(id);
 	}
 
+	/**
+	 * 특정 유저의 포인트 충전/이용 내역을 cursor 기반으로 나눠 조회합니다.
+	 */
+	@GetMapping("{id}/histories/page")
+	public PointHistoryPage historyPage(
+		@PathVariable long id,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "100") int limit,
+		@RequestParam(defaultValue = "DESC") PointHistoryOrder order
+	) {
+		return this.pointService.getPointHistoryPage(id, cursor, limit, order);
+	}
+
+	/**
+	 * 특정 유저의 기간(from ~ to, yyyy-MM-dd, 양 끝 포함) 내 날짜별 충전/사용 합계를 조회합니다.
+	 */
+	@GetMapping("{id}/histories/summary")
+	public PointSummary historySummary(
+		@PathVariable long id,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+	) {
+		return this.pointSummaryService.getPointSummary(id, from, to);
+	}
+
+	/**
+	 * 특정 유저의 포인트 충전/이용 내역 전체를 한 줄에 하나씩 (NDJSON) 내려줍니다.
+	 */
+	@GetMapping(value = "{id}/histories/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public StreamingResponseBody historyStream(
+		@PathVariable long id,
+		@RequestParam(defaultValue = "DESC") PointHistoryOrder order
+	) {
+		if (id <= 0) {
+			throw new IllegalArgumentException("사용자 아이디는 0보다 큰 숫자이어야 합니다.");
+		}
+
+		return outputStream -> {
+			this.pointService.forEachPointHistory(id, order, history -> {
+				try {
+					outputStream.write(this.objectMapper.writeValueAsBytes(history));
+					outputStream.write('\n');
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			outputStream.flush();
+		};
+	}
+
 	/**
 	 * TODO - 특정 유저의 포인트를 충전하는 기능을 작성해주세요.
 	 */
 	@PatchMapping("{id}/charge")
 	public UserPoint charge(
 		@PathVariable long id,
-		@RequestBody long amount
+		@RequestBody long amount,
+		@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
 	) {
-		return this.pointService.charge(id, amount);
+		return this.pointService.charge(id, amount, idempotencyKey);
 	}
 
 	/**
@@ -59,8 +147,19 @@ public class PointController {
 	@PatchMapping("{id}/use")
 	public UserPoint use(
 		@PathVariable long id,
-		@RequestBody long amount
+		@RequestBody long amount,
+		@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
+	) {
+		return this.pointService.use(id, amount, idempotencyKey);
+	}
+
+	/**
+	 * 여러 유저의 포인트 충전/사용을 한 번에 처리합니다. 결과는 요청 순서대로 반환됩니다.
+	 */
+	@PostMapping("batch")
+	public List<PointBatchResult> batch(
+		@RequestBody List<PointBatchItem> items
 	) {
-		return this.pointService.use(id, amount);
+		return this.pointBatchService.execute(items);
 	}
 }
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point;
+
+import java.time.LocalDate;
+
+/**
+ * 유저의 하루 충전/사용 합계
+ */
+public record PointDailySummary(
+	LocalDate date,
+	long chargedAmount,
+	long chargeCount,
+	long usedAmount,
+	long useCount
+) {
+}
@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전/사용 요청을 유저 단위로 직렬화해 실행합니다.
+ * - lock : 요청마다 유저 락을 잡고 조회/수정/내역 저장을 수행 (기본값)
+ * - combining : 같은 유저에 대기 중인 요청을 모아 한 번의 조회/수정과 내역 일괄 저장으로 처리
+ * - optimistic : 락 없이 버전이 붙은 잔액을 CAS 로 갱신하고, 충돌 시 잠시 대기 후 재시도
+ */
+public interface PointExecutor {
+
+	UserPoint execute(PointCommand command);
+}
@@ -0,0 +1,115 @@
+package io.hhplus.tdd.point;
+
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.lock.UserLockProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * point.executor.mode 설정으로 포인트 충전/사용 실행 방식을 선택합니다. (lock | overlapped | combining | optimistic | sharded)
+ * - 선택한 방식과 관계없이 거절된 요청을 사유별로 집계합니다.
+ * - 어떤 방식이든 완료된 충전/사용은 PointSnapshots 에 스냅샷으로 반영되어 잔액 조회와 ETag 에 사용됩니다.
+ * - point.admission.enabled 설정 시 유저별/전체 동시 요청 한도를 넘는 요청은 기다리지 않고 429 로 거절합니다.
+ */
+@Configuration
+@EnableConfigurationProperties({ShardedExecutorProperties.class, OverlappedExecutorProperties.class,
+	PointAdmissionProperties.class})
+public class PointExecutorConfig {
+	/**
+	 * 유저 락을 잡지 않고 포인트를 수정하는 실행 방식, 유저 락에 기대는 설정과 함께 쓸 수 없습니다.
+	 */
+	public static final Set<String> UNLOCKED_MODES = Set.of("optimistic", "sharded");
+
+	@Bean
+	public PointVersionRegistry pointVersionRegistry() {
+		return new PointVersionRegistry();
+	}
+
+	@Bean
+	public PointSnapshots pointSnapshots(PointVersionRegistry pointVersionRegistry) {
+		return new PointSnapshots(pointVersionRegistry);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "point.executor.mode", havingValue = "lock", matchIfMissing = true)
+	public PointExecutor lockPointExecutor(UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository, PointSnapshots pointSnapshots,
+		UserLockProvider userLockProvider, PointAdmissionProperties admissionProperties,
+		MeterRegistry meterRegistry) {
+		return decorate(new LockPointExecutor(userPointRepository, pointHistoryRepository, pointSnapshots,
+			userLockProvider), admissionProperties, meterRegistry);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "point.executor.mode", havingValue = "overlapped")
+	public PointExecutor overlappedPointExecutor(UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository, PointSnapshots pointSnapshots,
+		UserLockProvider userLockProvider, OverlappedExecutorProperties properties,
+		PointAdmissionProperties admissionProperties, MeterRegistry meterRegistry) {
+		return decorate(new OverlappedPointExecutor(userPointRepository, pointHistoryRepository, pointSnapshots,
+				userLockProvider,
+				Executors.newFixedThreadPool(properties.ioThreads(), new CustomizableThreadFactory("point-io-"))),
+			admissionProperties, meterRegistry);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "point.executor.mode", havingValue = "combining")
+	public PointExecutor combiningPointExecutor(UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository, PointSnapshots pointSnapshots,
+		UserLockProvider userLockProvider, PointAdmissionProperties admissionProperties,
+		MeterRegistry meterRegistry) {
+		return decorate(new CombiningPointExecutor(userPointRepository, pointHistoryRepository, pointSnapshots,
+			userLockProvider), admissionProperties, meterRegistry);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "point.executor.mode", havingValue = "optimistic")
+	public PointExecutor optimisticPointExecutor(UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository, PointSnapshots pointSnapshots,
+		PointAdmissionProperties admissionProperties, MeterRegistry meterRegistry) {
+		return decorate(new OptimisticPointExecutor(userPointRepository, pointHistoryRepository, pointSnapshots),
+			admissionProperties, meterRegistry);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "point.executor.mode", havingValue = "sharded")
+	public PointExecutor shardedPointExecutor(UserPointRepository userPointRepository,
+		PointHistoryRepository pointHistoryRepository, PointSnapshots pointSnapshots,
+		ShardedExecutorProperties properties, PointAdmissionProperties admissionProperties,
+		MeterRegistry meterRegistry) {
+		ShardedPointExecutor executor = new ShardedPointExecutor(userPointRepository, pointHistoryRepository,
+			pointSnapshots, properties.shardCount(), properties.ringSize());
+		for (int shard = 0; shard < executor.shardCount(); shard++) {
+			int index = shard;
+			Gauge.builder("point.shard.queue.depth", executor, sharded -> sharded.queueDepth(index))
+				.description("샤드 링 버퍼에서 처리를 기다리는 요청 수")
+				.tag("shard", String.valueOf(index))
+				.register(meterRegistry);
+			FunctionCounter.builder("point.shard.processed", executor, sharded -> sharded.processedCount(index))
+				.description("샤드가 처리한 요청 수")
+				.tag("shard", String.valueOf(index))
+				.register(meterRegistry);
+		}
+		return decorate(executor, admissionProperties, meterRegistry);
+	}
+
+	private PointExecutor decorate(PointExecutor executor, PointAdmissionProperties admissionProperties,
+		MeterRegistry meterRegistry) {
+		if (admissionProperties.enabled()) {
+			executor = new AdmissionPointExecutor(executor, admissionProperties.maxConcurrent(),
+				admissionProperties.maxPerUser(), admissionProperties.acquireTimeoutMillis(), meterRegistry);
+		}
+		return new MeteredPointExecutor(executor, meterRegistry);
+	}
+}
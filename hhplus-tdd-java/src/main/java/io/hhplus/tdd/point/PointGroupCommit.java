@@ -0,0 +1,57 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한 유저의 요청 여러 건을 한 번에 반영합니다. (group commit)
+ * - 포인트 조회 1회 후 요청을 도착 순서대로 검증하고, 최종 포인트 수정 1회와 승인된 요청의 내역 저장으로 묶습니다.
+ * - 각 요청은 자신의 결과 또는 실패 사유를 돌려받습니다.
+ * - 마지막 내역까지 저장한 뒤 최종 포인트로 스냅샷을 한 번만 교체하므로, 중간 잔액은 조회되지 않습니다.
+ * - 호출하는 쪽에서 같은 유저에 대해 한 번에 하나만 실행되도록 보장해야 합니다.
+ */
+@RequiredArgsConstructor
+class PointGroupCommit {
+	private final UserPointRepository userPointRepository;
+	private final PointHistoryRepository pointHistoryRepository;
+	private final PointSnapshots pointSnapshots;
+
+	void commit(long userId, List<PendingPointCommand> commands) {
+		try {
+			UserPoint current = this.userPointRepository.selectById(userId);
+
+			List<PendingPointCommand> accepted = new ArrayList<>(commands.size());
+			List<Long> balances = new ArrayList<>(commands.size());
+			for (PendingPointCommand pending : commands) {
+				try {
+					long updateAmount = pending.command().apply(current);
+					current = new UserPoint(userId, updateAmount, current == null ? 0 : current.updateMillis());
+					accepted.add(pending);
+					balances.add(updateAmount);
+				} catch (IllegalArgumentException e) {
+					pending.result().completeExceptionally(e);
+				}
+			}
+
+			if (accepted.isEmpty()) {
+				return;
+			}
+
+			UserPoint updatedUserPoint = this.userPointRepository.insertOrUpdate(userId, current.point());
+			List<PointHistory> histories = this.pointHistoryRepository.insertAll(userId,
+				accepted.stream().map(PendingPointCommand::command).toList(), updatedUserPoint.updateMillis());
+			this.pointSnapshots.publish(updatedUserPoint, histories.get(histories.size() - 1));
+
+			for (int i = 0; i < accepted.size(); i++) {
+				accepted.get(i).result()
+					.complete(new UserPoint(userId, balances.get(i), updatedUserPoint.updateMillis()));
+			}
+		} catch (RuntimeException e) {
+			commands.forEach(pending -> pending.result().completeExceptionally(e));
+		}
+	}
+}
@@ -8,4 +8,11 @@ public record PointHistory(
 	TransactionType type,
 	long updateMillis
 ) {
+
+	/**
+	 * 잔액에 더해지는 금액, 사용 내역은 음수입니다.
+	 */
+	public long signedAmount() {
+		return type == TransactionType.USE ? -amount : amount;
+	}
 }
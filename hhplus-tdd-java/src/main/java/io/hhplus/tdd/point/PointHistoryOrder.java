@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 내역 정렬 순서
+ * - ASC : 오래된 내역부터
+ * - DESC : 최근 내역부터
+ */
+public enum PointHistoryOrder {
+	ASC, DESC
+}
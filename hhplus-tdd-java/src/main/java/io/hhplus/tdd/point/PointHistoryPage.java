@@ -0,0 +1,12 @@
+package io.hhplus.tdd.point;
+
+import java.util.List;
+
+/**
+ * 포인트 내역 한 페이지, 다음 페이지가 없으면 nextCursor 는 null 입니다.
+ */
+public record PointHistoryPage(
+	List<PointHistory> histories,
+	Long nextCursor
+) {
+}
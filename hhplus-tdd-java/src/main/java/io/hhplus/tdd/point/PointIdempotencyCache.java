@@ -0,0 +1,96 @@
+package io.hhplus.tdd.point;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 별 충전/사용 결과를 보관합니다.
+ * - 처음 들어온 요청만 실행하고, 같은 키로 다시 들어온 요청은 유저 락을 잡지 않고 그 결과를 돌려받습니다.
+ *   실행 중이라면 끝날 때까지 같은 결과를 기다립니다.
+ * - 잔액 규칙으로 거절된 결과도 보관하고, 그 밖의 예외로 실패하면 키를 지워 다시 시도할 수 있게 합니다.
+ * - 결과는 ttlMillis 동안 보관하며, maximumSize 를 넘으면 끝난 결과부터 오래된 순으로 지웁니다.
+ */
+public class PointIdempotencyCache {
+	private final int maximumSize;
+	private final long ttlNanos;
+	private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+	public PointIdempotencyCache(int maximumSize, long ttlMillis) {
+		if (maximumSize <= 0) {
+			throw new IllegalArgumentException("Idempotency-Key 보관 개수는 0보다 커야 합니다.");
+		}
+
+		this.maximumSize = maximumSize;
+		this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+	}
+
+	public UserPoint execute(String key, PointCommand command, Supplier<UserPoint> action) {
+		Entry entry;
+		boolean first;
+		synchronized (entries) {
+			long now = System.nanoTime();
+			evict(now);
+
+			entry = entries.get(key);
+			first = entry == null;
+			if (first) {
+				entry = new Entry(new PendingPointCommand(command), now);
+				entries.put(key, entry);
+			} else if (!entry.pending().command().equals(command)) {
+				throw new IllegalArgumentException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+			}
+		}
+
+		return first ? run(key, entry, action) : entry.pending().await();
+	}
+
+	public int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	private UserPoint run(String key, Entry entry, Supplier<UserPoint> action) {
+		CompletableFuture<UserPoint> result = entry.pending().result();
+		try {
+			UserPoint userPoint = action.get();
+			result.complete(userPoint);
+			return userPoint;
+		} catch (PointRejectedException e) {
+			result.completeExceptionally(e);
+			throw e;
+		} catch (RuntimeException e) {
+			synchronized (entries) {
+				entries.remove(key, entry);
+			}
+			result.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private void evict(long now) {
+		Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+		int overflow = entries.size() + 1 - maximumSize;
+		while (iterator.hasNext()) {
+			Entry entry = iterator.next().getValue();
+			boolean expired = now - entry.createdNanos() >= ttlNanos;
+			if (!expired && overflow <= 0) {
+				return;
+			}
+			if (entry.pending().result().isDone()) {
+				iterator.remove();
+				overflow--;
+			}
+		}
+	}
+
+	private record Entry(
+		PendingPointCommand pending,
+		long createdNanos
+	) {
+	}
+}
@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PointIdempotencyProperties.class)
+public class PointIdempotencyConfig {
+
+	@Bean
+	public PointIdempotencyCache pointIdempotencyCache(PointIdempotencyProperties properties) {
+		return new PointIdempotencyCache(properties.maximumSize(), properties.ttlMillis());
+	}
+}
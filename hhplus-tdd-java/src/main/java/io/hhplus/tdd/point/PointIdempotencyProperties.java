@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param maximumSize 보관할 Idempotency-Key 최대 개수
+ * @param ttlMillis 결과를 보관하는 시간, 지나면 같은 키로 다시 실행됩니다.
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record PointIdempotencyProperties(
+	@DefaultValue("100000") int maximumSize,
+	@DefaultValue("600000") long ttlMillis
+) {
+}
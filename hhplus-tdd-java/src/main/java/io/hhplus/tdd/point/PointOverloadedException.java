@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 처리 한도를 넘어 받지 않은 충전/사용 요청, 잠시 후 다시 시도하면 처리될 수 있습니다. (429)
+ */
+public class PointOverloadedException extends RuntimeException {
+	private final Reason reason;
+
+	public PointOverloadedException(Reason reason, String message) {
+		super(message);
+		this.reason = reason;
+	}
+
+	public PointOverloadedException(Reason reason, String message, Throwable cause) {
+		super(message, cause);
+		this.reason = reason;
+	}
+
+	public Reason reason() {
+		return reason;
+	}
+
+	/**
+	 * - CONCURRENCY_LIMIT : 서버 전체 동시 처리 한도 초과
+	 * - USER_WAITERS : 같은 유저에 대기 중인 요청 수 한도 초과
+	 * - LOCK_TIMEOUT : 유저 락 대기 시간 초과
+	 * - ASYNC_QUEUE_FULL : 비동기 요청 처리 스레드와 대기열이 모두 참
+	 */
+	public enum Reason {
+		CONCURRENCY_LIMIT, USER_WAITERS, LOCK_TIMEOUT, ASYNC_QUEUE_FULL
+	}
+}
@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 잔액 규칙에 맞지 않아 거절된 충전/사용 요청
+ * - 기존과 같이 IllegalArgumentException 으로 처리되며, 거절 사유별 집계를 위해 reason 을 함께 가집니다.
+ */
+public class PointRejectedException extends IllegalArgumentException {
+	private final Reason reason;
+
+	public PointRejectedException(Reason reason, String message) {
+		super(message);
+		this.reason = reason;
+	}
+
+	public Reason reason() {
+		return reason;
+	}
+
+	public enum Reason {
+		USER_NOT_FOUND, INSUFFICIENT_BALANCE, MAX_BALANCE_EXCEEDED
+	}
+}
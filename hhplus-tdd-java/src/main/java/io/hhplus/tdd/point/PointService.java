@@ -1,96 +1,129 @@
 package io.hhplus.tdd.point;
 
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class PointService {
-	private final UserPointTable userPointTable;
-	private final PointHistoryTable pointHistoryTable;
+	public static final int MAX_PAGE_SIZE = 1000;
 
-	private final Map<Long, ReentrantLock> lockMap = new ConcurrentHashMap<>();
+	private final UserPointRepository userPointRepository;
+	private final PointHistoryRepository pointHistoryRepository;
+	private final PointExecutor pointExecutor;
+	private final PointIdempotencyCache pointIdempotencyCache;
+	private final PointSnapshots pointSnapshots;
 
 	public UserPoint use(Long userId, Long amount) {
+		return use(userId, amount, null);
+	}
+
+	/**
+	 * idempotencyKey 가 있으면 같은 키로 이미 처리했거나 처리 중인 요청의 결과를 돌려줍니다.
+	 */
+	public UserPoint use(Long userId, Long amount, String idempotencyKey) {
 		if (amount == null || amount <= 0) {
 			throw new IllegalArgumentException("사용 금액은 0보다 큰 숫자이어야 합니다.");
 		}
 
-		ReentrantLock lock = getUserLock(userId);
-
-		lock.lock();
-		try {
-			UserPoint user = this.userPointTable.selectById(userId);
-			if (user == null) {
-				throw new IllegalArgumentException("사용자가 존재하지 않습니다.");
-			} else if (user.point() < amount) {
-				throw new IllegalArgumentException("사용 포인트가 부족합니다.");
-			} else {
-				UserPoint updatedUserPoint = this.userPointTable.insertOrUpdate(userId, user.point() - amount);
-				this.pointHistoryTable.insert(userId, amount, TransactionType.USE, updatedUserPoint.updateMillis());
-
-				return updatedUserPoint;
-			}
-		} finally {
-			lock.unlock();
-		}
-
+		return execute(PointCommand.use(userId, amount), idempotencyKey);
 	}
 
+	/**
+	 * 마지막으로 완료된 충전/사용의 스냅샷을 락이나 저장소 조회 없이 반환합니다.
+	 * - 진행 중인 충전/사용을 기다리지 않으며, 시작 후 완료된 충전/사용이 없는 유저만 저장소에서 조회합니다.
+	 */
 	public UserPoint getUserPoint(Long userId) {
 		if (userId <= 0) {
 			throw new IllegalArgumentException("사용자 아이디는 0보다 큰 숫자이어야 합니다.");
 		}
 
-		return this.userPointTable.selectById(userId);
+		PointSnapshots.Snapshot snapshot = this.pointSnapshots.get(userId);
+		if (snapshot != null) {
+			return snapshot.userPoint();
+		}
+		return this.userPointRepository.selectById(userId);
 	}
 
 	public UserPoint charge(Long userId, Long amount) {
+		return charge(userId, amount, null);
+	}
+
+	/**
+	 * idempotencyKey 가 있으면 같은 키로 이미 처리했거나 처리 중인 요청의 결과를 돌려줍니다.
+	 */
+	public UserPoint charge(Long userId, Long amount, String idempotencyKey) {
 		if (amount == null || amount <= 0) {
 			throw new IllegalArgumentException("충전 금액은 0보다 큰 숫자이어야 합니다.");
 		}
 
-		ReentrantLock lock = getUserLock(userId);
+		return execute(PointCommand.charge(userId, amount), idempotencyKey);
+	}
+
+	/**
+	 * 스냅샷의 마지막 내역까지만 반환해, 아직 잔액 조회에 반영되지 않은 진행 중인 충전/사용의 내역은 보이지 않게 합니다.
+	 */
+	public List<PointHistory> getPointHistories(Long userId) {
+		if (userId <= 0) {
+			throw new IllegalArgumentException("사용자 아이디는 0보다 큰 숫자이어야 합니다.");
+		}
 
-		lock.lock();
-		try {
-			long updateAmount = amount;
-			UserPoint user = this.userPointTable.selectById(userId);
-			if (user != null) {
-				updateAmount = user.point() + amount;
-			}
+		PointSnapshots.Snapshot snapshot = this.pointSnapshots.get(userId);
+		List<PointHistory> histories = this.pointHistoryRepository.selectAllByUserId(userId);
+		if (snapshot == null) {
+			return histories;
+		}
 
-			if (updateAmount > 100000) {
-				throw new IllegalArgumentException("충전 금액은 100000포인트를 초과할 수 없습니다.");
-			}
+		int committed = histories.size();
+		while (committed > 0 && histories.get(committed - 1).id() > snapshot.lastHistoryId()) {
+			committed--;
+		}
+		return committed == histories.size() ? histories : List.copyOf(histories.subList(0, committed));
+	}
 
-			UserPoint updatedUserPoint = this.userPointTable.insertOrUpdate(userId, updateAmount);
-			this.pointHistoryTable.insert(userId, amount, TransactionType.CHARGE, updatedUserPoint.updateMillis());
+	/**
+	 * 내역을 cursor 기반으로 나눠 조회합니다.
+	 * - cursor 는 이전 페이지의 nextCursor 이며, 해당 내역 다음부터 조회합니다.
+	 * - limit + 1 건을 조회해 다음 페이지가 있을 때만 nextCursor 를 채웁니다.
+	 */
+	public PointHistoryPage getPointHistoryPage(Long userId, Long cursor, int limit, PointHistoryOrder order) {
+		if (userId <= 0) {
+			throw new IllegalArgumentException("사용자 아이디는 0보다 큰 숫자이어야 합니다.");
+		}
+		if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+			throw new IllegalArgumentException("조회 건수는 1 이상 " + MAX_PAGE_SIZE + " 이하이어야 합니다.");
+		}
 
-			return updatedUserPoint;
-		} finally {
-			lock.unlock();
+		List<PointHistory> histories = this.pointHistoryRepository.selectPageByUserId(userId, cursor, limit + 1, order);
+		if (histories.size() <= limit) {
+			return new PointHistoryPage(histories, null);
 		}
 
+		List<PointHistory> page = histories.subList(0, limit);
+		return new PointHistoryPage(List.copyOf(page), page.get(limit - 1).id());
 	}
 
-	public List<PointHistory> getPointHistories(Long userId) {
+	/**
+	 * 내역 전체를 목록으로 모으지 않고 하나씩 전달합니다.
+	 */
+	public void forEachPointHistory(Long userId, PointHistoryOrder order, Consumer<PointHistory> consumer) {
 		if (userId <= 0) {
 			throw new IllegalArgumentException("사용자 아이디는 0보다 큰 숫자이어야 합니다.");
 		}
 
-		return this.pointHistoryTable.selectAllByUserId(userId);
+		this.pointHistoryRepository.forEachByUserId(userId, order, consumer);
 	}
 
-	private ReentrantLock getUserLock(Long userId) {
-		return lockMap.computeIfAbsent(userId, id -> new ReentrantLock());
+	private UserPoint execute(PointCommand command, String idempotencyKey) {
+		if (idempotencyKey == null || idempotencyKey.isBlank()) {
+			return this.pointExecutor.execute(command);
+		}
+		return this.pointIdempotencyCache.execute(idempotencyKey, command, () -> this.pointExecutor.execute(command));
 	}
 }
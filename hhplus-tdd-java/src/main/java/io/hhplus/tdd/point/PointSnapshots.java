@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 유저별로 마지막으로 완료된 충전/사용의 결과(스냅샷)를 보관합니다.
+ * - PointExecutor 가 포인트와 내역 저장을 모두 마친 뒤, 실제로 저장한 포인트와 마지막 내역으로 publish 합니다.
+ * - 스냅샷은 (포인트, 마지막 내역 id) 이며, 내역 id 가 더 큰 스냅샷만 기존 스냅샷을 교체합니다.
+ * - 저장 도중 실패한 충전/사용은 스냅샷을 바꾸지 않고, 다음에 완료된 충전/사용이 그 시점의 저장 결과로 다시 맞춥니다.
+ * - 조회는 락이나 테이블 없이 map 에서 읽기만 하며, 스냅샷을 교체한 뒤 PointVersionRegistry 의 유저 버전을 올립니다.
+ */
+public class PointSnapshots {
+	private final PointVersionRegistry versionRegistry;
+	private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+	public PointSnapshots(PointVersionRegistry versionRegistry) {
+		this.versionRegistry = versionRegistry;
+	}
+
+	/**
+	 * 완료된 충전/사용이 없으면 null
+	 */
+	public Snapshot get(long userId) {
+		return snapshots.get(userId);
+	}
+
+	public void publish(UserPoint userPoint, PointHistory lastHistory) {
+		Snapshot snapshot = new Snapshot(userPoint, lastHistory.id());
+		Snapshot current = snapshots.merge(userPoint.id(), snapshot,
+			(previous, next) -> previous.lastHistoryId() >= next.lastHistoryId() ? previous : next);
+		if (current == snapshot) {
+			this.versionRegistry.snapshotPublished(snapshot);
+		}
+	}
+
+	public record Snapshot(
+		UserPoint userPoint,
+		long lastHistoryId
+	) {
+	}
+}
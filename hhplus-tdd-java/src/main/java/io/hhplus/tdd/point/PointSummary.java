@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간 안의 충전/사용 합계, days 에는 내역이 있는 날만 날짜순으로 담깁니다.
+ */
+public record PointSummary(
+	long userId,
+	LocalDate from,
+	LocalDate to,
+	long chargedAmount,
+	long usedAmount,
+	long count,
+	List<PointDailySummary> days
+) {
+}
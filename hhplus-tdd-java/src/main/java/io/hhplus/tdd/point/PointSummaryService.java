@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+
+import io.hhplus.tdd.database.PointHistoryRollups;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 내역을 다시 훑지 않고 PointHistoryRollups 의 날짜별 합계로 기간 합계를 만듭니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PointSummaryService {
+	public static final int MAX_SUMMARY_DAYS = 366;
+
+	private final PointHistoryRollups pointHistoryRollups;
+
+	public PointSummary getPointSummary(long userId, LocalDate from, LocalDate to) {
+		if (userId <= 0) {
+			throw new IllegalArgumentException("사용자 아이디는 0보다 큰 숫자이어야 합니다.");
+		}
+		if (from == null || to == null || from.isAfter(to)) {
+			throw new IllegalArgumentException("조회 시작일은 종료일보다 늦을 수 없습니다.");
+		}
+		if (ChronoUnit.DAYS.between(from, to) >= MAX_SUMMARY_DAYS) {
+			throw new IllegalArgumentException("조회 기간은 " + MAX_SUMMARY_DAYS + "일을 넘을 수 없습니다.");
+		}
+
+		List<PointDailySummary> days = this.pointHistoryRollups.select(userId, from, to);
+		long chargedAmount = 0;
+		long usedAmount = 0;
+		long count = 0;
+		for (PointDailySummary day : days) {
+			chargedAmount += day.chargedAmount();
+			usedAmount += day.usedAmount();
+			count += day.chargeCount() + day.useCount();
+		}
+		return new PointSummary(userId, from, to, chargedAmount, usedAmount, count, days);
+	}
+}
@@ -0,0 +1,69 @@
+package io.hhplus.tdd.point;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 포인트/내역 버전, 조회 API 의 ETag 로 사용합니다.
+ * - 포인트 버전은 저장된 UserPoint 의 updateMillis 이며, 같은 밀리초에 여러 번 저장되면 1 씩 늘려 항상 증가시킵니다.
+ * - 내역 버전은 마지막으로 저장된 내역 id 입니다.
+ * - 버전은 저장이 끝난 뒤 올리므로, 조회는 버전을 먼저 읽고 데이터를 읽어야 오래된 본문에 새 ETag 가 붙지 않습니다.
+ * - ETag 에 이 인스턴스의 시작 시각을 넣어, 재시작 전에 받은 ETag 는 일치하지 않게 합니다.
+ */
+public class PointVersionRegistry {
+	private final String epoch;
+	private final Map<Long, Versions> versions = new ConcurrentHashMap<>();
+
+	public PointVersionRegistry() {
+		this(Clock.systemUTC());
+	}
+
+	/**
+	 * @param clock 인스턴스 시작 시각(ETag epoch)을 읽을 시계
+	 */
+	public PointVersionRegistry(Clock clock) {
+		this.epoch = Long.toString(clock.millis(), Character.MAX_RADIX);
+	}
+
+	public void pointUpdated(UserPoint userPoint) {
+		versionsOf(userPoint.id()).point.accumulateAndGet(userPoint.updateMillis(),
+			(previous, updateMillis) -> Math.max(previous + 1, updateMillis));
+	}
+
+	public void historyInserted(PointHistory history) {
+		versionsOf(history.userId()).history.accumulateAndGet(history.id(), Math::max);
+	}
+
+	/**
+	 * 스냅샷이 교체되면 스냅샷의 포인트와 마지막 내역 id 로 두 버전을 함께 올립니다.
+	 */
+	public void snapshotPublished(PointSnapshots.Snapshot snapshot) {
+		pointUpdated(snapshot.userPoint());
+		versionsOf(snapshot.userPoint().id()).history.accumulateAndGet(snapshot.lastHistoryId(), Math::max);
+	}
+
+	public String pointETag(long userId) {
+		Versions userVersions = versions.get(userId);
+		return eTag(userVersions == null ? 0L : userVersions.point.get());
+	}
+
+	public String historyETag(long userId) {
+		Versions userVersions = versions.get(userId);
+		return eTag(userVersions == null ? 0L : userVersions.history.get());
+	}
+
+	private Versions versionsOf(long userId) {
+		return versions.computeIfAbsent(userId, id -> new Versions());
+	}
+
+	private String eTag(long version) {
+		return "\"" + epoch + "-" + Long.toString(version, Character.MAX_RADIX) + "\"";
+	}
+
+	private static class Versions {
+		private final AtomicLong point = new AtomicLong();
+		private final AtomicLong history = new AtomicLong();
+	}
+}
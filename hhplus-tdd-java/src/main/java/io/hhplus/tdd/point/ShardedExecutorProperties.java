@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * @param shards 샤드(전담 스레드) 수, 0 이면 CPU 코어 수
+ * @param ringSize 샤드마다 처리를 기다릴 수 있는 요청 수, 넘치면 요청 스레드가 자리가 날 때까지 대기
+ */
+@ConfigurationProperties(prefix = "point.executor.sharded")
+public record ShardedExecutorProperties(
+	@DefaultValue("0") int shards,
+	@DefaultValue("1024") int ringSize
+) {
+	public int shardCount() {
+		return shards > 0 ? shards : Runtime.getRuntime().availableProcessors();
+	}
+}
@@ -0,0 +1,175 @@
+package io.hhplus.tdd.point;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+
+/**
+ * 유저를 해시로 나눈 샤드마다 전담 스레드 하나가 요청을 처리합니다. (single writer)
+ * - 요청 스레드는 유저가 속한 샤드의 링 버퍼에 요청을 넣고 결과를 기다리기만 하므로 유저 락이 필요 없습니다.
+ * - 샤드 스레드는 링 버퍼에서 꺼낸 요청을 유저별로 묶어 PointGroupCommit 으로 처리합니다.
+ * - 샤드 수를 늘리면 서로 다른 유저의 요청을 더 많이 병렬로 처리합니다.
+ * - 종료와 겹쳐 샤드 스레드가 꺼내지 못한 요청은, 요청 스레드가 샤드 스레드의 종료를 기다린 뒤 실패시킵니다.
+ */
+public class ShardedPointExecutor implements PointExecutor, AutoCloseable {
+	private static final int SPINS_BEFORE_PARK = 1000;
+
+	private final PointGroupCommit groupCommit;
+	private final Shard[] shards;
+
+	private volatile boolean closed;
+
+	public ShardedPointExecutor(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+		PointSnapshots pointSnapshots, int shardCount, int ringSize) {
+		this.groupCommit = new PointGroupCommit(userPointRepository, pointHistoryRepository, pointSnapshots);
+		this.shards = new Shard[shardCount];
+		for (int i = 0; i < shardCount; i++) {
+			shards[i] = new Shard(i, ringSize);
+		}
+		for (Shard shard : shards) {
+			shard.worker.start();
+		}
+	}
+
+	@Override
+	public UserPoint execute(PointCommand command) {
+		if (closed) {
+			throw closedException();
+		}
+
+		PendingPointCommand pending = new PendingPointCommand(command);
+		shardOf(command.userId()).submit(pending);
+		return pending.await();
+	}
+
+	public int shardCount() {
+		return shards.length;
+	}
+
+	/**
+	 * 샤드 링 버퍼에 쌓여 처리를 기다리는 요청 수
+	 */
+	public int queueDepth(int shard) {
+		return shards[shard].ring.size();
+	}
+
+	/**
+	 * 샤드가 처리를 마친 요청 수
+	 */
+	public long processedCount(int shard) {
+		return shards[shard].processed.get();
+	}
+
+	/**
+	 * 새 요청을 받지 않고, 링 버퍼에 남은 요청을 모두 처리한 뒤 샤드 스레드를 종료합니다.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		for (Shard shard : shards) {
+			LockSupport.unpark(shard.worker);
+		}
+		for (Shard shard : shards) {
+			try {
+				shard.worker.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private static IllegalStateException closedException() {
+		return new IllegalStateException("포인트 처리 샤드가 종료되었습니다.");
+	}
+
+	private Shard shardOf(long userId) {
+		long hash = userId * 0x9E3779B97F4A7C15L;
+		return shards[(int) Math.floorMod(hash ^ (hash >>> 32), (long) shards.length)];
+	}
+
+	private void process(List<PendingPointCommand> batch) {
+		Map<Long, List<PendingPointCommand>> byUser = new LinkedHashMap<>();
+		for (PendingPointCommand pending : batch) {
+			byUser.computeIfAbsent(pending.command().userId(), id -> new ArrayList<>()).add(pending);
+		}
+		byUser.forEach(this.groupCommit::commit);
+	}
+
+	private class Shard {
+		private final CommandRing<PendingPointCommand> ring;
+		private final AtomicLong processed = new AtomicLong();
+		private final Thread worker;
+		private volatile boolean sleeping;
+
+		Shard(int index, int ringSize) {
+			this.ring = new CommandRing<>(ringSize);
+			this.worker = new Thread(this::run, "point-shard-" + index);
+			this.worker.setDaemon(true);
+		}
+
+		/**
+		 * 넣은 뒤에 종료된 것을 보면, 샤드 스레드가 이 요청을 꺼내기 전에 끝났을 수 있으므로 종료를 기다린 뒤
+		 * 아직 처리되지 않은 요청을 실패시킵니다. 이미 처리된 요청의 결과는 바뀌지 않습니다.
+		 */
+		void submit(PendingPointCommand pending) {
+			if (!ring.put(pending, () -> closed)) {
+				throw closedException();
+			}
+			if (sleeping) {
+				LockSupport.unpark(worker);
+			}
+			if (closed) {
+				awaitTermination();
+				pending.result().completeExceptionally(closedException());
+			}
+		}
+
+		/**
+		 * 샤드 스레드는 남은 요청을 처리하면 바로 끝나므로, 인터럽트되어도 끝까지 기다린 뒤 인터럽트 상태를 되살립니다.
+		 */
+		private void awaitTermination() {
+			boolean interrupted = false;
+			while (worker.isAlive()) {
+				try {
+					worker.join();
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+			if (interrupted) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		/**
+		 * 비어 있으면 잠시 spin 한 뒤 park 합니다. sleeping 을 먼저 기록하고 다시 확인하므로 깨우는 신호를 놓치지 않습니다.
+		 */
+		private void run() {
+			List<PendingPointCommand> batch = new ArrayList<>(ring.capacity());
+			int idle = 0;
+			while (!closed || !ring.isEmpty()) {
+				if (ring.drainTo(batch, ring.capacity()) > 0) {
+					process(batch);
+					processed.addAndGet(batch.size());
+					batch.clear();
+					idle = 0;
+				} else if (++idle < SPINS_BEFORE_PARK) {
+					Thread.onSpinWait();
+				} else {
+					sleeping = true;
+					if (ring.isEmpty() && !closed) {
+						LockSupport.park(this);
+					}
+					sleeping = false;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,78 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
+import io.hhplus.tdd.point.UserPoint;
+
+class CachingUserPointRepositoryTest {
+
+	@Test
+	@DisplayName("캐시된 유저의 포인트는 테이블을 조회하지 않습니다.")
+	public void selectCachedUserPoint() {
+		// given
+		CountingUserPointTable userPointTable = new CountingUserPointTable();
+		CachingUserPointRepository repository = new CachingUserPointRepository(
+			new TableUserPointRepository(userPointTable), new RefCountedUserLockProvider(), 100);
+		repository.selectById(1L);
+
+		// when
+		UserPoint userPoint = repository.selectById(1L);
+
+		// then
+		assertEquals(0L, userPoint.point());
+		assertEquals(1, userPointTable.selectCount.get());
+		assertEquals(new CachingUserPointRepository.CacheStats(1, 1, 0, 1), repository.stats());
+	}
+
+	@Test
+	@DisplayName("포인트 수정은 테이블과 캐시에 함께 반영됩니다.")
+	public void writeThrough() {
+		// given
+		CountingUserPointTable userPointTable = new CountingUserPointTable();
+		CachingUserPointRepository repository = new CachingUserPointRepository(
+			new TableUserPointRepository(userPointTable), new RefCountedUserLockProvider(), 100);
+
+		// when
+		repository.insertOrUpdate(1L, 1000L);
+
+		// then
+		assertEquals(1000L, repository.selectById(1L).point());
+		assertEquals(1000L, userPointTable.selectById(1L).point());
+		assertEquals(1, userPointTable.selectCount.get());
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 가장 오래 사용하지 않은 유저를 캐시에서 제거합니다.")
+	public void evictLeastRecentlyUsed() {
+		// given
+		CountingUserPointTable userPointTable = new CountingUserPointTable();
+		CachingUserPointRepository repository = new CachingUserPointRepository(
+			new TableUserPointRepository(userPointTable), new RefCountedUserLockProvider(), 1);
+		repository.insertOrUpdate(1L, 1000L);
+
+		// when
+		repository.insertOrUpdate(2L, 2000L);
+		repository.selectById(1L);
+
+		// then
+		assertEquals(2, repository.stats().evictions());
+		assertEquals(1, repository.stats().misses());
+		assertEquals(1, repository.stats().size());
+	}
+
+	private static class CountingUserPointTable extends UserPointTable {
+		private final AtomicInteger selectCount = new AtomicInteger();
+
+		@Override
+		public UserPoint selectById(Long id) {
+			selectCount.incrementAndGet();
+			return super.selectById(id);
+		}
+	}
+}
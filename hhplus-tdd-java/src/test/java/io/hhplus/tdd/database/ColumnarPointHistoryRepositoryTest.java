@@ -0,0 +1,118 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryOrder;
+import io.hhplus.tdd.point.TransactionType;
+
+class ColumnarPointHistoryRepositoryTest {
+
+	@Test
+	@DisplayName("chunk 경계를 넘어도 유저별 내역을 저장된 순서대로 조회합니다.")
+	public void selectAllByUserIdAcrossChunks() {
+		for (boolean offHeap : new boolean[] {false, true}) {
+			// given
+			ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository(3, offHeap);
+			List<PointHistory> expected = new ArrayList<>();
+
+			// when
+			for (int i = 0; i < 20; i++) {
+				TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+				PointHistory history = repository.insert(i % 3 == 0 ? 1L : 2L, 100L + i, type, 1000L + i);
+				if (history.userId() == 1L) {
+					expected.add(history);
+				}
+			}
+
+			// then
+			assertEquals(expected, repository.selectAllByUserId(1L));
+			assertEquals(new PointHistory(4L, 1L, 103L, TransactionType.USE, 1003L), expected.get(1));
+			assertEquals(20, repository.size());
+			assertEquals(List.of(), repository.selectAllByUserId(3L));
+		}
+	}
+
+	@Test
+	@DisplayName("cursor 다음 내역부터 정렬 순서대로 나눠 조회합니다.")
+	public void selectPageByUserId() {
+		// given
+		ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository(4, false);
+		for (int i = 0; i < 40; i++) {
+			repository.insert(i % 2 == 0 ? 1L : 2L, 100L, TransactionType.CHARGE, i);
+		}
+
+		// when
+		List<PointHistory> ascending = repository.selectPageByUserId(1L, 10L, 3, PointHistoryOrder.ASC);
+		List<PointHistory> descending = repository.selectPageByUserId(1L, 10L, 3, PointHistoryOrder.DESC);
+		List<PointHistory> latest = repository.selectPageByUserId(1L, null, 2, PointHistoryOrder.DESC);
+
+		// then
+		assertEquals(List.of(11L, 13L, 15L), ascending.stream().map(PointHistory::id).toList());
+		assertEquals(List.of(9L, 7L, 5L), descending.stream().map(PointHistory::id).toList());
+		assertEquals(List.of(39L, 37L), latest.stream().map(PointHistory::id).toList());
+	}
+
+	@Test
+	@DisplayName("내역 객체를 만들지 않고 열만 읽어 유저의 잔액을 계산합니다.")
+	public void sumSignedAmountByUserId() {
+		// given
+		ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository(2, true);
+		repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+		repository.insert(2L, 500L, TransactionType.CHARGE, 2L);
+		repository.insert(1L, 300L, TransactionType.USE, 3L);
+		repository.insert(1L, 50L, TransactionType.CHARGE, 4L);
+
+		// when
+		long balance = repository.sumSignedAmountByUserId(1L);
+
+		// then
+		assertEquals(750L, balance);
+		assertEquals(0L, repository.sumSignedAmountByUserId(3L));
+	}
+
+	@Test
+	@DisplayName("여러 스레드에서 동시에 저장해도 id 가 겹치지 않고 유저별 순서가 유지됩니다.")
+	public void concurrentInsert() throws Exception {
+		// given
+		ColumnarPointHistoryRepository repository = new ColumnarPointHistoryRepository(64, false);
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		int users = 8;
+		int perUser = 1000;
+
+		// when
+		List<Future<?>> futures = new ArrayList<>();
+		for (long userId = 1; userId <= users; userId++) {
+			long id = userId;
+			futures.add(executorService.submit(() -> {
+				for (int i = 0; i < perUser; i++) {
+					repository.insert(id, i, TransactionType.CHARGE, i);
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executorService.shutdown();
+
+		// then
+		assertEquals(users * perUser, repository.size());
+		for (long userId = 1; userId <= users; userId++) {
+			List<PointHistory> histories = repository.selectAllByUserId(userId);
+			assertEquals(perUser, histories.size());
+			for (int i = 0; i < perUser; i++) {
+				assertEquals(i, histories.get(i).amount());
+				assertTrue(i == 0 || histories.get(i - 1).id() < histories.get(i).id());
+			}
+		}
+	}
+}
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.PointHistoryOrder;
+import io.hhplus.tdd.point.TransactionType;
+
+class IndexedPointHistoryRepositoryTest {
+
+	@Test
+	@DisplayName("유저별 내역을 저장된 순서대로 조회합니다.")
+	public void selectAllByUserId() {
+		// given
+		PointHistoryTable pointHistoryTable = new PointHistoryTable();
+		IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(pointHistoryTable);
+
+		// when
+		PointHistory first = repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+		repository.insert(2L, 500L, TransactionType.CHARGE, 2L);
+		PointHistory second = repository.insert(1L, 300L, TransactionType.USE, 3L);
+
+		// then
+		assertEquals(List.of(first, second), repository.selectAllByUserId(1L));
+		assertEquals(1, repository.selectAllByUserId(2L).size());
+		assertEquals(pointHistoryTable.selectAllByUserId(1L), repository.selectAllByUserId(1L));
+	}
+
+	@Test
+	@DisplayName("내역이 없는 유저는 빈 목록을 조회합니다.")
+	public void selectAllByUnknownUserId() {
+		// given
+		IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(new PointHistoryTable());
+
+		// when
+		List<PointHistory> histories = repository.selectAllByUserId(1L);
+
+		// then
+		assertTrue(histories.isEmpty());
+	}
+
+	@Test
+	@DisplayName("세그먼트 경계를 넘어도 내역 순서가 유지됩니다.")
+	public void appendAcrossSegments() {
+		// given
+		IndexedPointHistoryRepository.UserHistories histories = new IndexedPointHistoryRepository.UserHistories();
+		int count = 5000;
+
+		// when
+		for (int i = 0; i < count; i++) {
+			histories.append(new PointHistory(i, 1L, i, TransactionType.CHARGE, i));
+		}
+
+		// then
+		List<PointHistory> result = histories.toList();
+		assertEquals(count, result.size());
+		for (int i = 0; i < count; i++) {
+			assertEquals(i, result.get(i).id());
+		}
+	}
+
+	@Test
+	@DisplayName("cursor 다음 내역부터 정렬 순서대로 나눠 조회합니다.")
+	public void pageAcrossSegments() {
+		// given
+		IndexedPointHistoryRepository.UserHistories histories = new IndexedPointHistoryRepository.UserHistories();
+		int count = 2000;
+		for (int i = 1; i <= count; i++) {
+			histories.append(new PointHistory(i * 2L, 1L, i, TransactionType.CHARGE, i));
+		}
+
+		// when
+		List<PointHistory> ascending = histories.page(1500L, 3, PointHistoryOrder.ASC);
+		List<PointHistory> descending = histories.page(1500L, 3, PointHistoryOrder.DESC);
+		List<PointHistory> latest = histories.page(null, 2, PointHistoryOrder.DESC);
+		List<PointHistory> last = histories.page(3998L, 3, PointHistoryOrder.ASC);
+
+		// then
+		assertEquals(List.of(1502L, 1504L, 1506L), ascending.stream().map(PointHistory::id).toList());
+		assertEquals(List.of(1498L, 1496L, 1494L), descending.stream().map(PointHistory::id).toList());
+		assertEquals(List.of(4000L, 3998L), latest.stream().map(PointHistory::id).toList());
+		assertEquals(List.of(4000L), last.stream().map(PointHistory::id).toList());
+	}
+
+	@Test
+	@DisplayName("내역을 목록으로 모으지 않고 정렬 순서대로 하나씩 전달합니다.")
+	public void forEachByUserId() {
+		// given
+		IndexedPointHistoryRepository repository = new IndexedPointHistoryRepository(new PointHistoryTable());
+		PointHistory first = repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+		PointHistory second = repository.insert(1L, 300L, TransactionType.USE, 2L);
+
+		// when
+		List<PointHistory> histories = new ArrayList<>();
+		repository.forEachByUserId(1L, PointHistoryOrder.DESC, histories::add);
+
+		// then
+		assertEquals(List.of(second, first), histories);
+	}
+}
@@ -0,0 +1,36 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import io.hhplus.tdd.point.UserPoint;
+
+/**
+ * 같은 H2 메모리 DB 를 보는 저장소 두 개를 서로 다른 인스턴스로 보고 검증합니다.
+ */
+class JdbcUserPointRepositoryTest {
+
+	private final DriverManagerDataSource dataSource =
+		new DriverManagerDataSource("jdbc:h2:mem:balance-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+
+	@Test
+	@DisplayName("한 인스턴스가 저장한 잔액을 다른 인스턴스가 그대로 조회하고, 없는 유저는 0 포인트로 조회합니다.")
+	public void shareBalanceAcrossInstances() {
+		// given
+		JdbcUserPointRepository nodeA = new JdbcUserPointRepository(dataSource);
+		JdbcUserPointRepository nodeB = new JdbcUserPointRepository(dataSource);
+
+		// when
+		nodeA.insertOrUpdate(1L, 1000L);
+		UserPoint updated = nodeB.insertOrUpdate(1L, 700L);
+
+		// then
+		assertEquals(updated, nodeA.selectById(1L));
+		assertEquals(0L, nodeB.selectById(2L).point());
+	}
+}
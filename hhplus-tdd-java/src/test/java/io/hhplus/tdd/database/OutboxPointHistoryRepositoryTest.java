@@ -0,0 +1,280 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hhplus.tdd.journal.JournalingPointHistoryRepository;
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+class OutboxPointHistoryRepositoryTest {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	@DisplayName("저장 대기 중인 내역도 조회 결과에 포함됩니다.")
+	public void readYourWrites() {
+		// given
+		CountDownLatch gate = new CountDownLatch(1);
+		GatedPointHistoryRepository delegate = new GatedPointHistoryRepository(gate);
+		OutboxPointHistoryRepository repository = new OutboxPointHistoryRepository(delegate, 100, 10);
+
+		// when
+		PointHistory charged = repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+		PointHistory used = repository.insert(1L, 300L, TransactionType.USE, 2L);
+		repository.insert(2L, 500L, TransactionType.CHARGE, 3L);
+
+		// then
+		assertEquals(List.of(charged, used), repository.selectAllByUserId(1L));
+		assertEquals(1, repository.selectAllByUserId(2L).size());
+		assertEquals(3, repository.queueDepth());
+
+		gate.countDown();
+		repository.close();
+	}
+
+	@Test
+	@DisplayName("대기열의 내역은 유저별 순서와 미리 붙인 id 그대로 저장됩니다.")
+	public void drainInOrder() {
+		// given
+		CountDownLatch gate = new CountDownLatch(1);
+		GatedPointHistoryRepository delegate = new GatedPointHistoryRepository(gate);
+		OutboxPointHistoryRepository repository = new OutboxPointHistoryRepository(delegate, 100, 2);
+		for (int i = 1; i <= 5; i++) {
+			repository.insert(1L, i * 100L, TransactionType.CHARGE, i);
+		}
+
+		// when
+		gate.countDown();
+		repository.close();
+
+		// then
+		List<PointHistory> persisted = delegate.selectAllByUserId(1L);
+		assertEquals(5, persisted.size());
+		for (int i = 0; i < persisted.size(); i++) {
+			assertEquals(i + 1, persisted.get(i).id());
+			assertEquals((i + 1) * 100L, persisted.get(i).amount());
+		}
+		assertEquals(persisted, repository.selectAllByUserId(1L));
+		assertEquals(0, repository.queueDepth());
+		assertEquals(5, repository.drainedCount());
+	}
+
+	@Test
+	@DisplayName("종료된 outbox 에는 내역을 저장할 수 없습니다.")
+	public void insertAfterClose() {
+		// given
+		OutboxPointHistoryRepository repository = new OutboxPointHistoryRepository(
+			new GatedPointHistoryRepository(new CountDownLatch(0)), 100, 10);
+		repository.close();
+
+		// when
+		IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+			repository.insert(1L, 1000L, TransactionType.CHARGE, 1L);
+		});
+
+		// then
+		assertEquals("내역 outbox 가 종료되었습니다.", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("저장이 maxAttempts 번 실패한 내역은 dead letter 로 옮기고, 뒤의 내역은 계속 저장합니다.")
+	public void deadLetterAfterMaxAttempts() {
+		// given
+		FailingPointHistoryRepository delegate = new FailingPointHistoryRepository(500L);
+		OutboxPointHistoryRepository repository = new OutboxPointHistoryRepository(delegate, 100, 10, 0, 1, 2);
+
+		// when
+		PointHistory failed = repository.insert(1L, 500L, TransactionType.CHARGE, 1L);
+		repository.insert(1L, 1000L, TransactionType.CHARGE, 2L);
+		repository.close();
+
+		// then
+		assertEquals(2, delegate.attempts.get());
+		assertEquals(List.of(failed), repository.deadLetters());
+		assertEquals(1, repository.deadLetteredCount());
+		assertEquals(1, repository.drainedCount());
+		assertEquals(List.of(1000L), repository.selectAllByUserId(1L).stream().map(PointHistory::amount).toList());
+		assertEquals(0, repository.queueDepth());
+	}
+
+	@Test
+	@DisplayName("writer 가 여러 개이면 한 파티션의 대기열이 가득 차도 다른 파티션의 유저는 기다리지 않습니다.")
+	public void fullPartitionDoesNotBlockOthers() throws Exception {
+		// given
+		CountDownLatch gate = new CountDownLatch(1);
+		GatedPointHistoryRepository delegate = new GatedPointHistoryRepository(gate, 1L);
+		OutboxPointHistoryRepository repository = new OutboxPointHistoryRepository(delegate, 4, 10, 0, 2, 5);
+		repository.insert(1L, 100L, TransactionType.CHARGE, 1L);
+		repository.insert(1L, 200L, TransactionType.CHARGE, 2L);
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+		Future<PointHistory> blocked = executorService.submit(
+			() -> repository.insert(1L, 300L, TransactionType.CHARGE, 3L));
+
+		// when
+		repository.insert(2L, 1000L, TransactionType.CHARGE, 4L);
+
+		// then
+		assertFalse(blocked.isDone());
+		gate.countDown();
+		assertEquals(300L, blocked.get(5, TimeUnit.SECONDS).amount());
+		repository.close();
+		assertEquals(4, repository.drainedCount());
+		executorService.shutdown();
+	}
+
+	@Test
+	@DisplayName("writer 가 여러 개여도 유저별 내역은 insert 순서대로 저장되고, 조회에 두 번 나오지 않습니다.")
+	public void keepUserOrderAcrossWriters() throws Exception {
+		// given
+		OutboxPointHistoryRepository repository = new OutboxPointHistoryRepository(
+			new GatedPointHistoryRepository(new CountDownLatch(0)), 100, 4, 0, 4, 5);
+		int userCount = 8;
+		int insertsPerUser = 50;
+		ExecutorService executorService = Executors.newFixedThreadPool(userCount);
+		List<Future<?>> futures = new ArrayList<>();
+
+		// when
+		for (long userId = 1; userId <= userCount; userId++) {
+			long id = userId;
+			futures.add(executorService.submit(() -> {
+				for (int i = 1; i <= insertsPerUser; i++) {
+					repository.insert(id, i, TransactionType.CHARGE, i);
+					assertEquals(i, repository.selectAllByUserId(id).size());
+				}
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		repository.close();
+		executorService.shutdown();
+
+		// then
+		for (long userId = 1; userId <= userCount; userId++) {
+			List<Long> amounts = repository.selectAllByUserId(userId).stream().map(PointHistory::amount).toList();
+			assertEquals(LongStream.rangeClosed(1, insertsPerUser).boxed().toList(), amounts);
+		}
+		assertEquals(userCount * insertsPerUser, repository.drainedCount());
+	}
+
+	@Test
+	@DisplayName("저널에서 복구한 뒤에는 복구한 마지막 id 다음부터 id 를 붙여, 다시 시작해도 저널의 내역이 빠지지 않습니다.")
+	public void continueIdsAfterJournalRecovery() {
+		// given
+		restartAndCharge(1000L, 500L);
+
+		// when
+		restartAndCharge(200L);
+
+		// then
+		try (PointJournal journal = openJournal()) {
+			List<PointHistory> replayed = new ArrayList<>();
+			journal.replay(replayed::add);
+			assertEquals(List.of(1L, 2L, 3L), replayed.stream().map(PointHistory::id).toList());
+			assertEquals(Map.of(1L, 1700L), journal.recoveredBalances());
+		}
+	}
+
+	/**
+	 * PointRepositoryConfig 처럼 저널의 내역을 테이블에 복구한 뒤 outbox 와 저널을 씌워 충전 내역을 저장합니다.
+	 */
+	private void restartAndCharge(long... amounts) {
+		try (PointJournal journal = openJournal()) {
+			PointHistoryRepository table = new ColumnarPointHistoryRepository(16, false);
+			AtomicLong lastStoredId = new AtomicLong();
+			journal.replay(history -> lastStoredId.set(
+				table.insert(history.userId(), history.amount(), history.type(), history.updateMillis()).id()));
+
+			try (OutboxPointHistoryRepository outbox = new OutboxPointHistoryRepository(table, 100, 10,
+				lastStoredId.get())) {
+				PointHistoryRepository repository = new JournalingPointHistoryRepository(outbox, journal);
+				for (long amount : amounts) {
+					repository.insert(1L, amount, TransactionType.CHARGE, amount);
+				}
+			}
+		}
+	}
+
+	private PointJournal openJournal() {
+		return new PointJournal(directory, 4, PointJournal.SyncMode.GROUP, 1L, 100000);
+	}
+
+	/**
+	 * gatedUserId 의 내역만 gate 가 열릴 때까지 저장하지 않습니다. gatedUserId 가 없으면 모든 내역을 막습니다.
+	 */
+	private static class GatedPointHistoryRepository implements PointHistoryRepository {
+		private final CountDownLatch gate;
+		private final Long gatedUserId;
+		private final PointHistoryRepository delegate = new ColumnarPointHistoryRepository(16, false);
+
+		GatedPointHistoryRepository(CountDownLatch gate) {
+			this(gate, null);
+		}
+
+		GatedPointHistoryRepository(CountDownLatch gate, Long gatedUserId) {
+			this.gate = gate;
+			this.gatedUserId = gatedUserId;
+		}
+
+		@Override
+		public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+			if (gatedUserId == null || gatedUserId == userId) {
+				try {
+					gate.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return delegate.insert(userId, amount, type, updateMillis);
+		}
+
+		@Override
+		public List<PointHistory> selectAllByUserId(long userId) {
+			return delegate.selectAllByUserId(userId);
+		}
+	}
+
+	private static class FailingPointHistoryRepository implements PointHistoryRepository {
+		private final long failingAmount;
+		private final AtomicInteger attempts = new AtomicInteger();
+		private final PointHistoryRepository delegate = new ColumnarPointHistoryRepository(16, false);
+
+		FailingPointHistoryRepository(long failingAmount) {
+			this.failingAmount = failingAmount;
+		}
+
+		@Override
+		public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+			if (amount == failingAmount) {
+				attempts.incrementAndGet();
+				throw new IllegalStateException("저장소 장애");
+			}
+			return delegate.insert(userId, amount, type, updateMillis);
+		}
+
+		@Override
+		public List<PointHistory> selectAllByUserId(long userId) {
+			return delegate.selectAllByUserId(userId);
+		}
+	}
+}
@@ -0,0 +1,82 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.PointDailySummary;
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+class PointHistoryRollupsTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	@Test
+	@DisplayName("저장된 내역을 날짜/거래 종류별로 더해 기간 안의 날짜만 조회합니다.")
+	public void selectDailyTotals() {
+		// given
+		PointHistoryRollups rollups = new PointHistoryRollups(ZONE);
+		PointHistoryRepository repository = new RollupPointHistoryRepository(
+			new IndexedPointHistoryRepository(new PointHistoryTable()), rollups);
+
+		// when
+		repository.insert(1L, 1000L, TransactionType.CHARGE, millis(2024, 5, 1, 9));
+		repository.insert(1L, 300L, TransactionType.USE, millis(2024, 5, 1, 23));
+		repository.insert(1L, 200L, TransactionType.USE, millis(2024, 5, 1, 23));
+		repository.insert(1L, 500L, TransactionType.CHARGE, millis(2024, 5, 3, 0));
+		repository.insert(1L, 700L, TransactionType.CHARGE, millis(2024, 5, 10, 12));
+		repository.insert(2L, 900L, TransactionType.CHARGE, millis(2024, 5, 1, 12));
+
+		// then
+		assertEquals(List.of(
+			new PointDailySummary(LocalDate.of(2024, 5, 1), 1000L, 1, 500L, 2),
+			new PointDailySummary(LocalDate.of(2024, 5, 3), 500L, 1, 0L, 0)
+		), rollups.select(1L, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 9)));
+		assertEquals(List.of(), rollups.select(3L, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 9)));
+	}
+
+	@Test
+	@DisplayName("날짜는 설정한 시간대 기준으로 나눕니다.")
+	public void splitDaysByZone() {
+		// given
+		PointHistoryRollups rollups = new PointHistoryRollups(ZONE);
+		long utcEvening = LocalDate.of(2024, 5, 1).atTime(20, 0).toInstant(ZoneOffset.UTC).toEpochMilli();
+
+		// when
+		rollups.add(new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, utcEvening));
+
+		// then
+		assertEquals(LocalDate.of(2024, 5, 2),
+			rollups.select(1L, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 2)).get(0).date());
+	}
+
+	@Test
+	@DisplayName("복구한 내역으로 합계를 처음부터 다시 만듭니다.")
+	public void rebuild() {
+		// given
+		PointHistoryRollups rollups = new PointHistoryRollups(ZONE);
+		rollups.add(new PointHistory(1L, 1L, 5000L, TransactionType.CHARGE, millis(2024, 5, 1, 9)));
+		List<PointHistory> recovered = List.of(
+			new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, millis(2024, 5, 1, 9)),
+			new PointHistory(2L, 1L, 400L, TransactionType.USE, millis(2024, 5, 1, 10))
+		);
+
+		// when
+		rollups.rebuild(recovered::forEach);
+
+		// then
+		assertEquals(List.of(new PointDailySummary(LocalDate.of(2024, 5, 1), 1000L, 1, 400L, 1)),
+			rollups.select(1L, LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 1)));
+	}
+
+	private static long millis(int year, int month, int day, int hour) {
+		return LocalDate.of(year, month, day).atTime(hour, 0).atZone(ZONE).toInstant().toEpochMilli();
+	}
+}
@@ -0,0 +1,55 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PointRepositoryConfigTest {
+
+	private final PointRepositoryConfig config = new PointRepositoryConfig();
+	private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	@DisplayName("포인트 캐시는 유저 락을 잡지 않는 실행 방식과 함께 켤 수 없습니다.")
+	public void rejectCacheWithUnlockedExecutor() {
+		// when
+		IllegalStateException exception = assertThrows(IllegalStateException.class,
+			() -> userPointRepository("optimistic"));
+
+		// then
+		assertEquals("point.cache 는 유저 락을 잡지 않는 point.executor.mode=optimistic 와 함께 사용할 수 없습니다.",
+			exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("포인트 캐시의 적중/미스 횟수를 meter 로 집계합니다.")
+	public void registerCacheMeters() {
+		// given
+		UserPointRepository repository = userPointRepository("lock");
+
+		// when
+		repository.selectById(1L);
+		repository.selectById(1L);
+
+		// then
+		assertEquals(1.0, meterRegistry.find("point.cache.hits").functionCounter().count());
+		assertEquals(1.0, meterRegistry.find("point.cache.misses").functionCounter().count());
+		assertEquals(0.0, meterRegistry.find("point.cache.evictions").functionCounter().count());
+	}
+
+	private UserPointRepository userPointRepository(String executorMode) {
+		return config.userPointRepository(new UserPointTable(), new RefCountedUserLockProvider(),
+			new UserPointStoreProperties(UserPointStoreProperties.Type.TABLE, 1024),
+			new UserPointCacheProperties(true, 100), meterRegistry, beanFactory.getBeanProvider(PointJournal.class),
+			beanFactory.getBeanProvider(DataSource.class), executorMode);
+	}
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.point.UserPoint;
+
+class PrimitiveUserPointRepositoryTest {
+
+	@Test
+	@DisplayName("저장한 포인트를 조회하고, 없는 유저는 0 포인트로 조회합니다.")
+	public void insertOrUpdateAndSelect() {
+		// given
+		PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(16);
+
+		// when
+		UserPoint saved = repository.insertOrUpdate(1L, 1000L);
+		repository.insertOrUpdate(0L, 300L);
+		UserPoint updated = repository.insertOrUpdate(1L, 500L);
+
+		// then
+		assertEquals(1000L, saved.point());
+		assertEquals(updated, repository.selectById(1L));
+		assertEquals(300L, repository.selectById(0L).point());
+		assertEquals(0L, repository.selectById(2L).point());
+		assertEquals(2, repository.size());
+	}
+
+	@Test
+	@DisplayName("초기 용량을 넘어 저장해도 모든 유저의 포인트가 유지됩니다.")
+	public void growBeyondInitialCapacity() throws Exception {
+		// given
+		PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(16);
+		ExecutorService executorService = Executors.newFixedThreadPool(8);
+		int users = 100000;
+
+		// when
+		List<Future<?>> futures = new ArrayList<>();
+		for (int thread = 0; thread < 8; thread++) {
+			int offset = thread;
+			futures.add(executorService.submit(() -> {
+				for (long userId = offset + 1; userId <= users; userId += 8) {
+					repository.insertOrUpdate(userId, userId * 10);
+				}
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		executorService.shutdown();
+
+		// then
+		assertEquals(users, repository.size());
+		for (long userId = 1; userId <= users; userId++) {
+			assertEquals(userId * 10, repository.selectById(userId).point());
+		}
+	}
+}
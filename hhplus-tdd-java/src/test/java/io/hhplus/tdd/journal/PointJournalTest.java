@@ -0,0 +1,113 @@
+package io.hhplus.tdd.journal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+
+class PointJournalTest {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	@DisplayName("재시작하면 저널에 기록된 잔액과 내역을 복구합니다.")
+	public void recoverAfterRestart() {
+		// given
+		List<PointHistory> histories = List.of(
+			new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L),
+			new PointHistory(2L, 2L, 500L, TransactionType.CHARGE, 2L),
+			new PointHistory(3L, 1L, 300L, TransactionType.USE, 3L)
+		);
+		try (PointJournal journal = open(PointJournal.SyncMode.GROUP, 100000)) {
+			histories.forEach(journal::append);
+		}
+
+		// when
+		try (PointJournal journal = open(PointJournal.SyncMode.GROUP, 100000)) {
+			List<PointHistory> replayed = new ArrayList<>();
+			journal.replay(replayed::add);
+
+			// then
+			assertEquals(Map.of(1L, 700L, 2L, 500L), journal.recoveredBalances());
+			assertEquals(histories, replayed);
+		}
+	}
+
+	@Test
+	@DisplayName("스냅샷 이후의 레코드만 잔액에 다시 적용하고, 세그먼트가 가득 차면 다음 세그먼트에 이어 씁니다.")
+	public void recoverFromSnapshotAndTail() throws IOException {
+		// given
+		try (PointJournal journal = open(PointJournal.SyncMode.INTERVAL, 2)) {
+			for (long id = 1; id <= 10; id++) {
+				journal.append(new PointHistory(id, 1L, 100L, TransactionType.CHARGE, id));
+			}
+		}
+
+		// when
+		try (PointJournal journal = open(PointJournal.SyncMode.INTERVAL, 2)) {
+			journal.append(new PointHistory(11L, 1L, 400L, TransactionType.USE, 11L));
+		}
+		Files.delete(latest("snapshot-"));
+		PointJournal reopened = open(PointJournal.SyncMode.INTERVAL, 2);
+		reopened.close();
+
+		// then
+		assertEquals(Map.of(1L, 600L), reopened.recoveredBalances());
+		assertTrue(latest("journal-").getFileName().toString().compareTo("journal-0000000002.log") >= 0);
+	}
+
+	@Test
+	@DisplayName("기록 도중 손상된 레코드부터는 버리고 그 자리에서 이어 씁니다.")
+	public void discardTornRecord() throws IOException {
+		// given
+		try (PointJournal journal = open(PointJournal.SyncMode.GROUP, 100000)) {
+			journal.append(new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L));
+			journal.append(new PointHistory(2L, 1L, 200L, TransactionType.CHARGE, 2L));
+		}
+		Files.delete(latest("snapshot-"));
+		Path segment = directory.resolve("journal-0000000000.log");
+		try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+			channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3}), PointJournal.RECORD_SIZE + 10);
+		}
+
+		// when
+		try (PointJournal journal = open(PointJournal.SyncMode.GROUP, 100000)) {
+			journal.append(new PointHistory(2L, 1L, 300L, TransactionType.CHARGE, 3L));
+			assertEquals(Map.of(1L, 1000L), journal.recoveredBalances());
+		}
+
+		// then
+		try (PointJournal journal = open(PointJournal.SyncMode.GROUP, 100000)) {
+			assertEquals(Map.of(1L, 1300L), journal.recoveredBalances());
+		}
+	}
+
+	private PointJournal open(PointJournal.SyncMode syncMode, long snapshotEveryRecords) {
+		return new PointJournal(directory, 4, syncMode, 1L, snapshotEveryRecords);
+	}
+
+	private Path latest(String prefix) throws IOException {
+		try (Stream<Path> paths = Files.list(directory)) {
+			return paths.filter(path -> path.getFileName().toString().startsWith(prefix))
+				.max(Comparator.naturalOrder())
+				.orElseThrow();
+		}
+	}
+}
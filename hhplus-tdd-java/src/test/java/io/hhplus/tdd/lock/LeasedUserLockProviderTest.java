@@ -0,0 +1,234 @@
+package io.hhplus.tdd.lock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 같은 H2 메모리 DB 를 보는 provider 두 개를 서로 다른 인스턴스(node)로 보고 검증합니다.
+ * - 임대 만료와 유휴 반납은 기다리지 않고 시계를 옮긴 뒤 renewAndReleaseIdle 을 직접 호출해 검증합니다.
+ */
+class LeasedUserLockProviderTest {
+
+	private final DriverManagerDataSource dataSource =
+		new DriverManagerDataSource("jdbc:h2:mem:lease-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+	private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+	private final List<LeasedUserLockProvider> providers = new ArrayList<>();
+	private final ManualClock clock = new ManualClock(1_000_000L);
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+		providers.forEach(LeasedUserLockProvider::close);
+	}
+
+	@Test
+	@DisplayName("임대를 가진 유저의 반복 요청은 저장소를 다시 거치지 않습니다.")
+	public void cachedLeaseSkipsStore() {
+		// given
+		CountingLeaseStore store = new CountingLeaseStore(new JdbcUserLeaseStore(dataSource));
+		LeasedUserLockProvider provider = node(store, "node-a", 60000);
+
+		// when
+		for (int i = 0; i < 100; i++) {
+			try (UserLock ignored = provider.lock(1L)) {
+				assertEquals(1, provider.leaseCount());
+			}
+		}
+
+		// then
+		assertEquals(1, store.acquireCalls.get());
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 가진 유저의 임대는 반납된 뒤에 가져옵니다.")
+	public void leaseMovesAfterIdleRelease() {
+		// given
+		JdbcUserLeaseStore store = new JdbcUserLeaseStore(dataSource);
+		LeasedUserLockProvider nodeA = node(store, "node-a", 100);
+		LeasedUserLockProvider nodeB = node(store, "node-b", 100);
+
+		try (UserLock ignored = nodeA.lock(1L)) {
+			assertEquals(Set.of(), store.acquire(List.of(1L), "node-b", clock.millis(), clock.millis() + 5000));
+		}
+
+		// when
+		clock.advance(100);
+		nodeA.renewAndReleaseIdle();
+		try (UserLock ignored = nodeB.lock(1L)) {
+			// then
+			assertEquals(0, nodeA.leaseCount());
+			assertEquals(1, nodeB.leaseCount());
+		}
+	}
+
+	@Test
+	@DisplayName("반납하지 못하고 멈춘 인스턴스의 임대는 만료된 뒤에 가져옵니다.")
+	public void leaseMovesAfterExpiry() {
+		// given
+		JdbcUserLeaseStore store = new JdbcUserLeaseStore(dataSource);
+		LeasedUserLockProvider nodeB = node(store, "node-b", 60000);
+		assertEquals(Set.of(1L), store.acquire(List.of(1L), "node-a", clock.millis(), clock.millis() + 5000));
+		assertNull(nodeB.tryLock(1L, 50, TimeUnit.MILLISECONDS));
+
+		// when
+		clock.advance(5000);
+
+		// then
+		try (UserLock ignored = nodeB.lock(1L)) {
+			assertEquals(1, nodeB.leaseCount());
+		}
+	}
+
+	@Test
+	@DisplayName("두 인스턴스에서 같은 유저의 락을 동시에 잡지 않습니다.")
+	public void mutualExclusionAcrossNodes() throws Exception {
+		// given
+		JdbcUserLeaseStore store = new JdbcUserLeaseStore(dataSource);
+		LeasedUserLockProvider nodeA = node(store, "node-a", 20);
+		LeasedUserLockProvider nodeB = node(store, "node-b", 20);
+		AtomicInteger holders = new AtomicInteger();
+		AtomicInteger overlaps = new AtomicInteger();
+		int[] counter = new int[1];
+		int rounds = 20;
+
+		// when
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			LeasedUserLockProvider node = i % 2 == 0 ? nodeA : nodeB;
+			futures.add(executorService.submit(() -> {
+				for (int round = 0; round < rounds; round++) {
+					try (UserLock ignored = node.lock(1L)) {
+						if (holders.incrementAndGet() > 1) {
+							overlaps.incrementAndGet();
+						}
+						counter[0]++;
+						holders.decrementAndGet();
+					}
+				}
+				return null;
+			}));
+		}
+		while (!futures.stream().allMatch(Future::isDone)) {
+			clock.advance(20);
+			nodeA.renewAndReleaseIdle();
+			nodeB.renewAndReleaseIdle();
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+
+		// then
+		assertEquals(0, overlaps.get());
+		assertEquals(8 * rounds, counter[0]);
+	}
+
+	@Test
+	@DisplayName("여러 유저의 임대를 동시에 요청하면 모아서 가져옵니다.")
+	public void acquireInBatches() throws Exception {
+		// given
+		CountingLeaseStore store = new CountingLeaseStore(new JdbcUserLeaseStore(dataSource));
+		LeasedUserLockProvider provider = node(store, "node-a", 60000);
+		int userCount = 200;
+
+		// when
+		List<Future<?>> futures = new ArrayList<>();
+		for (long userId = 1; userId <= userCount; userId++) {
+			long id = userId;
+			futures.add(executorService.submit(() -> {
+				provider.lock(id).close();
+				return null;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+
+		// then
+		assertEquals(userCount, provider.leaseCount());
+		assertTrue(store.acquireCalls.get() < userCount);
+	}
+
+	private LeasedUserLockProvider node(UserLeaseStore store, String owner, long idleMillis) {
+		LeasedUserLockProvider provider = new LeasedUserLockProvider(new RefCountedUserLockProvider(), store, owner,
+			5000, 2000, 10, idleMillis, clock);
+		providers.add(provider);
+		return provider;
+	}
+
+	private static class ManualClock extends Clock {
+		private final AtomicLong millis;
+
+		ManualClock(long millis) {
+			this.millis = new AtomicLong(millis);
+		}
+
+		void advance(long deltaMillis) {
+			millis.addAndGet(deltaMillis);
+		}
+
+		@Override
+		public long millis() {
+			return millis.get();
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochMilli(millis());
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+	}
+
+	private static class CountingLeaseStore implements UserLeaseStore {
+		private final UserLeaseStore delegate;
+		private final AtomicInteger acquireCalls = new AtomicInteger();
+
+		CountingLeaseStore(UserLeaseStore delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Set<Long> acquire(Collection<Long> userIds, String owner, long now, long expiresAt) {
+			acquireCalls.incrementAndGet();
+			return delegate.acquire(userIds, owner, now, expiresAt);
+		}
+
+		@Override
+		public Set<Long> renew(Collection<Long> userIds, String owner, long expiresAt) {
+			return delegate.renew(userIds, owner, expiresAt);
+		}
+
+		@Override
+		public void release(Collection<Long> userIds, String owner) {
+			delegate.release(userIds, owner);
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.lock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.UserPointCacheProperties;
+import io.hhplus.tdd.database.UserPointStoreProperties;
+import io.hhplus.tdd.journal.PointJournal;
+import io.hhplus.tdd.journal.PointJournalProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserLockConfigTest {
+
+	private final UserLockConfig config = new UserLockConfig();
+
+	@Test
+	@DisplayName("유저 임대는 잔액을 인스턴스 메모리에 두는 저장소와 함께 켤 수 없습니다.")
+	public void rejectLeaseWithLocalBalances() {
+		// when
+		IllegalStateException exception = assertThrows(IllegalStateException.class,
+			() -> userLockProvider(UserPointStoreProperties.Type.TABLE, "lock"));
+
+		// then
+		assertEquals("point.lock.lease 는 point.store.type=jdbc 와 함께 사용해야 합니다.", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("유저 임대는 유저 락을 잡지 않는 실행 방식과 함께 켤 수 없습니다.")
+	public void rejectLeaseWithUnlockedExecutor() {
+		// when
+		IllegalStateException exception = assertThrows(IllegalStateException.class,
+			() -> userLockProvider(UserPointStoreProperties.Type.JDBC, "sharded"));
+
+		// then
+		assertEquals("point.lock.lease 는 유저 락을 잡지 않는 point.executor.mode=sharded 와 함께 사용할 수 없습니다.",
+			exception.getMessage());
+	}
+
+	private UserLockProvider userLockProvider(UserPointStoreProperties.Type storeType, String executorMode) {
+		return config.userLockProvider(new UserLockProperties(UserLockProperties.Mode.REF_COUNTED, 1024, 0),
+			new UserLeaseProperties(true, "node-a", 5000, 2000, 1000, 3000), null, new SimpleMeterRegistry(),
+			new UserPointStoreProperties(storeType, 1024), new UserPointCacheProperties(false, 100000),
+			new PointJournalProperties(false, "data/journal", 1024, PointJournal.SyncMode.GROUP, 10, 100000),
+			executorMode);
+	}
+}
@@ -0,0 +1,130 @@
+package io.hhplus.tdd.lock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class UserLockProviderTest {
+
+	@Test
+	@DisplayName("참조 카운트 락은 잡고 있거나 기다리는 스레드가 없으면 제거됩니다.")
+	public void refCountedLockIsRemovedAfterRelease() {
+		// given
+		RefCountedUserLockProvider provider = new RefCountedUserLockProvider();
+
+		// when
+		try (UserLock ignored = provider.lock(1L)) {
+			try (UserLock reentered = provider.lock(1L)) {
+				assertEquals(1, provider.size());
+			}
+			assertEquals(1, provider.size());
+		}
+
+		// then
+		assertEquals(0, provider.size());
+	}
+
+	@Test
+	@DisplayName("스트라이프 락은 유저 수와 관계없이 고정된 개수의 락만 보관합니다.")
+	public void stripedLockKeepsFixedSize() {
+		// given
+		StripedUserLockProvider provider = new StripedUserLockProvider(1000);
+
+		// when
+		for (long userId = 1; userId <= 10000; userId++) {
+			try (UserLock ignored = provider.lock(userId)) {
+				assertEquals(1024, provider.size());
+			}
+		}
+
+		// then
+		assertEquals(1024, provider.size());
+	}
+
+	@Test
+	@DisplayName("같은 유저의 락은 한 번에 한 스레드만 획득합니다.")
+	public void mutualExclusion() throws Exception {
+		assertMutualExclusion(new RefCountedUserLockProvider());
+		assertMutualExclusion(new StripedUserLockProvider(16));
+	}
+
+	@Test
+	@DisplayName("락 대기/점유 시간과 보관 중인 락 수를 기록합니다.")
+	public void timedLockRecordsWaitAndHold() {
+		// given
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		TimedUserLockProvider provider = new TimedUserLockProvider(new RefCountedUserLockProvider(), meterRegistry);
+
+		// when
+		try (UserLock ignored = provider.lock(1L)) {
+			assertEquals(1.0, meterRegistry.find("point.lock.live").gauge().value());
+		}
+
+		// then
+		assertEquals(1, meterRegistry.find("point.lock.wait").timer().count());
+		assertEquals(1, meterRegistry.find("point.lock.hold").timer().count());
+		assertEquals(0.0, meterRegistry.find("point.lock.live").gauge().value());
+		assertEquals(0.0, meterRegistry.find("point.lock.waiters").gauge().value());
+	}
+
+	@Test
+	@DisplayName("대기 시간을 넘기면 유저 락 획득에 실패하고, 기다리던 흔적을 남기지 않습니다.")
+	public void boundedWaitTimesOut() throws Exception {
+		// given
+		RefCountedUserLockProvider refCounted = new RefCountedUserLockProvider();
+		BoundedWaitUserLockProvider provider = new BoundedWaitUserLockProvider(refCounted, 50);
+		ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+		// when
+		try (UserLock ignored = provider.lock(1L)) {
+			Future<?> waiting = executorService.submit(() -> provider.lock(1L));
+			ExecutionException exception = assertThrows(ExecutionException.class, waiting::get);
+
+			// then
+			assertInstanceOf(UserLockTimeoutException.class, exception.getCause());
+			assertEquals(1, refCounted.size());
+		}
+		executorService.shutdown();
+		assertEquals(0, refCounted.size());
+	}
+
+	private void assertMutualExclusion(UserLockProvider provider) throws Exception {
+		// given
+		int threadCount = 8;
+		int iterations = 10000;
+		long[] counter = new long[1];
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+		List<Callable<Void>> callables = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			callables.add(() -> {
+				for (int j = 0; j < iterations; j++) {
+					try (UserLock ignored = provider.lock(1L)) {
+						counter[0]++;
+					}
+				}
+				return null;
+			});
+		}
+
+		// when
+		for (Future<Void> future : executorService.invokeAll(callables)) {
+			future.get();
+		}
+		executorService.shutdown();
+
+		// then
+		assertEquals((long)threadCount * iterations, counter[0]);
+	}
+}
@@ -0,0 +1,108 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.lock.UserLockTimeoutException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdmissionPointExecutorTest {
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch gate = new CountDownLatch(1);
+	private final AtomicInteger running = new AtomicInteger();
+
+	@AfterEach
+	void tearDown() {
+		gate.countDown();
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("한 유저에 몰린 요청이 한도를 넘으면 기다리지 않고 거절하고, 다른 유저의 요청은 처리합니다.")
+	public void rejectOverUserLimit() throws Exception {
+		// given
+		AdmissionPointExecutor executor = new AdmissionPointExecutor(this::blocking, 10, 2, 0, meterRegistry);
+		Future<UserPoint> first = submitAndAwaitRunning(executor, PointCommand.charge(1L, 100L), 1);
+		Future<UserPoint> second = submitAndAwaitRunning(executor, PointCommand.charge(1L, 100L), 2);
+
+		// when
+		PointOverloadedException exception = assertThrows(PointOverloadedException.class,
+			() -> executor.execute(PointCommand.charge(1L, 100L)));
+		Future<UserPoint> otherUser = submitAndAwaitRunning(executor, PointCommand.charge(2L, 100L), 3);
+		gate.countDown();
+
+		// then
+		assertEquals(PointOverloadedException.Reason.USER_WAITERS, exception.reason());
+		assertEquals(100L, first.get().point());
+		assertEquals(100L, second.get().point());
+		assertEquals(100L, otherUser.get().point());
+		assertEquals(0, executor.admittedUsers());
+		assertEquals(1.0, meterRegistry.find("point.admission.rejections").tag("reason", "USER_WAITERS")
+			.counter().count());
+	}
+
+	@Test
+	@DisplayName("서버 전체 동시 요청이 한도를 넘으면 거절합니다.")
+	public void rejectOverConcurrencyLimit() throws Exception {
+		// given
+		AdmissionPointExecutor executor = new AdmissionPointExecutor(this::blocking, 1, 10, 0, meterRegistry);
+		Future<UserPoint> first = submitAndAwaitRunning(executor, PointCommand.charge(1L, 100L), 1);
+
+		// when
+		PointOverloadedException exception = assertThrows(PointOverloadedException.class,
+			() -> executor.execute(PointCommand.charge(2L, 100L)));
+		gate.countDown();
+
+		// then
+		assertEquals(PointOverloadedException.Reason.CONCURRENCY_LIMIT, exception.reason());
+		assertEquals(100L, first.get().point());
+		assertEquals(100L, executor.execute(PointCommand.charge(2L, 100L)).point());
+	}
+
+	@Test
+	@DisplayName("유저 락 대기 시간 초과도 처리 한도 초과로 알립니다.")
+	public void lockTimeout() {
+		// given
+		AdmissionPointExecutor executor = new AdmissionPointExecutor(command -> {
+			throw new UserLockTimeoutException("유저 락을 10ms 안에 획득하지 못했습니다. userId=1");
+		}, 10, 10, 0, meterRegistry);
+
+		// when
+		PointOverloadedException exception = assertThrows(PointOverloadedException.class,
+			() -> executor.execute(PointCommand.use(1L, 100L)));
+
+		// then
+		assertEquals(PointOverloadedException.Reason.LOCK_TIMEOUT, exception.reason());
+		assertEquals(0, executor.admittedUsers());
+	}
+
+	private UserPoint blocking(PointCommand command) {
+		running.incrementAndGet();
+		try {
+			gate.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return new UserPoint(command.userId(), command.amount(), 0L);
+	}
+
+	private Future<UserPoint> submitAndAwaitRunning(PointExecutor executor, PointCommand command, int expected) {
+		Future<UserPoint> future = executorService.submit(() -> executor.execute(command));
+		while (running.get() < expected) {
+			Thread.onSpinWait();
+		}
+		return future;
+	}
+}
@@ -0,0 +1,166 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.BoundedWaitUserLockProvider;
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
+import io.hhplus.tdd.lock.UserLock;
+import io.hhplus.tdd.lock.UserLockTimeoutException;
+
+class CombiningPointExecutorTest {
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(10);
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 유저의 동시 충전 요청을 모아서 처리합니다.")
+	public void concurrentCharge() throws Exception {
+		// given
+		long userId = 1L;
+		long amount = 1000L;
+		int threadCount = 10;
+
+		UserPointTable userPointTable = new UserPointTable();
+		PointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(new PointHistoryTable());
+		CombiningPointExecutor executor = new CombiningPointExecutor(new TableUserPointRepository(userPointTable),
+			pointHistoryRepository, new PointSnapshots(new PointVersionRegistry()),
+			new RefCountedUserLockProvider());
+
+		// when
+		List<Future<UserPoint>> futures = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			futures.add(executorService.submit(() -> executor.execute(PointCommand.charge(userId, amount))));
+		}
+		for (Future<UserPoint> future : futures) {
+			future.get();
+		}
+
+		// then
+		assertEquals(amount * threadCount, userPointTable.selectById(userId).point());
+		assertEquals(threadCount, pointHistoryRepository.selectAllByUserId(userId).size());
+	}
+
+	@Test
+	@DisplayName("모아서 처리한 요청은 도착 순서대로 검증되고 각자의 결과를 돌려받습니다.")
+	public void combineInArrivalOrder() throws Exception {
+		// given
+		long userId = 1L;
+		CountDownLatch gate = new CountDownLatch(1);
+		GatedUserPointTable userPointTable = new GatedUserPointTable(gate);
+		PointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(new PointHistoryTable());
+		CombiningPointExecutor executor = new CombiningPointExecutor(new TableUserPointRepository(userPointTable),
+			pointHistoryRepository, new PointSnapshots(new PointVersionRegistry()),
+			new RefCountedUserLockProvider());
+
+		Future<UserPoint> first = executorService.submit(() -> executor.execute(PointCommand.charge(userId, 1000L)));
+		while (userPointTable.waiting.get() == 0) {
+			Thread.onSpinWait();
+		}
+
+		// when
+		Future<UserPoint> insufficient = submitAndAwaitQueued(executor, PointCommand.use(userId, 5000L), 1);
+		Future<UserPoint> charged = submitAndAwaitQueued(executor, PointCommand.charge(userId, 500L), 2);
+		Future<UserPoint> exceeded = submitAndAwaitQueued(executor, PointCommand.charge(userId, 99000L), 3);
+		gate.countDown();
+
+		// then
+		assertEquals(1000L, first.get().point());
+		assertEquals(1500L, charged.get().point());
+
+		ExecutionException insufficientException = assertThrows(ExecutionException.class, insufficient::get);
+		assertEquals("사용 포인트가 부족합니다.", insufficientException.getCause().getMessage());
+
+		ExecutionException exceededException = assertThrows(ExecutionException.class, exceeded::get);
+		assertEquals("충전 금액은 100000포인트를 초과할 수 없습니다.", exceededException.getCause().getMessage());
+
+		assertEquals(2, userPointTable.updateCount.get());
+		assertEquals(2, pointHistoryRepository.selectAllByUserId(userId).size());
+	}
+
+	@Test
+	@DisplayName("유저 락 대기 시간이 초과된 요청은 대기열에서 빠져, 다음 락 보유자가 대신 처리하지 않습니다.")
+	public void withdrawWhenLockTimesOut() throws Exception {
+		// given
+		long userId = 1L;
+		RefCountedUserLockProvider userLockProvider = new RefCountedUserLockProvider();
+		UserPointTable userPointTable = new UserPointTable();
+		PointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(new PointHistoryTable());
+		CombiningPointExecutor executor = new CombiningPointExecutor(new TableUserPointRepository(userPointTable),
+			pointHistoryRepository, new PointSnapshots(new PointVersionRegistry()),
+			new BoundedWaitUserLockProvider(userLockProvider, 50));
+
+		// when
+		Future<UserPoint> timedOut;
+		try (UserLock ignored = userLockProvider.lock(userId)) {
+			timedOut = executorService.submit(() -> executor.execute(PointCommand.charge(userId, 1000L)));
+			ExecutionException exception = assertThrows(ExecutionException.class,
+				() -> timedOut.get(5, TimeUnit.SECONDS));
+			assertInstanceOf(UserLockTimeoutException.class, exception.getCause());
+		}
+		UserPoint charged = executor.execute(PointCommand.charge(userId, 200L));
+
+		// then
+		assertEquals(0, executor.pendingCount(userId));
+		assertEquals(200L, charged.point());
+		assertEquals(200L, userPointTable.selectById(userId).point());
+		assertEquals(1, pointHistoryRepository.selectAllByUserId(userId).size());
+	}
+
+	private Future<UserPoint> submitAndAwaitQueued(CombiningPointExecutor executor, PointCommand command, int queued) {
+		Future<UserPoint> future = executorService.submit(() -> executor.execute(command));
+		while (executor.pendingCount(command.userId()) < queued) {
+			Thread.onSpinWait();
+		}
+		return future;
+	}
+
+	private static class GatedUserPointTable extends UserPointTable {
+		private final CountDownLatch gate;
+		private final AtomicInteger waiting = new AtomicInteger();
+		private final AtomicInteger updateCount = new AtomicInteger();
+
+		GatedUserPointTable(CountDownLatch gate) {
+			this.gate = gate;
+		}
+
+		@Override
+		public UserPoint selectById(Long id) {
+			waiting.incrementAndGet();
+			try {
+				gate.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return super.selectById(id);
+		}
+
+		@Override
+		public UserPoint insertOrUpdate(long id, long amount) {
+			updateCount.incrementAndGet();
+			return super.insertOrUpdate(id, amount);
+		}
+	}
+}
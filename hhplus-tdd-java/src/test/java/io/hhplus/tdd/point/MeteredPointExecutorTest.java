@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MeteredPointExecutorTest {
+
+	@Test
+	@DisplayName("거절된 요청을 종류와 사유별로 집계합니다.")
+	public void countRejections() {
+		// given
+		MeterRegistry meterRegistry = new SimpleMeterRegistry();
+		UserPoint current = new UserPoint(1L, 1000L, 0L);
+		PointExecutor executor = new MeteredPointExecutor(
+			command -> new UserPoint(command.userId(), command.apply(current), 0L), meterRegistry);
+
+		// when
+		assertThrows(PointRejectedException.class, () -> executor.execute(PointCommand.use(1L, 5000L)));
+		assertThrows(PointRejectedException.class, () -> executor.execute(PointCommand.use(1L, 5000L)));
+		assertThrows(PointRejectedException.class, () -> executor.execute(PointCommand.charge(1L, 100000L)));
+		executor.execute(PointCommand.charge(1L, 500L));
+
+		// then
+		assertEquals(2.0, meterRegistry.find("point.rejections")
+			.tag("type", "USE").tag("reason", "INSUFFICIENT_BALANCE").counter().count());
+		assertEquals(1.0, meterRegistry.find("point.rejections")
+			.tag("type", "CHARGE").tag("reason", "MAX_BALANCE_EXCEEDED").counter().count());
+	}
+}
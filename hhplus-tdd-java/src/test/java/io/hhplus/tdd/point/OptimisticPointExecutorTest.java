@@ -0,0 +1,149 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PrimitiveUserPointRepository;
+import io.hhplus.tdd.database.TableUserPointRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.database.UserPointTable;
+
+class OptimisticPointExecutorTest {
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(10);
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("같은 유저의 동시 충전/사용이 모두 반영되고 내역은 커밋 순서대로 저장됩니다.")
+	public void concurrentChargeAndUse() throws Exception {
+		// given
+		long userId = 1L;
+		UserPointTable userPointTable = new UserPointTable();
+		userPointTable.insertOrUpdate(userId, 5000L);
+		PointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(new PointHistoryTable());
+		OptimisticPointExecutor executor = new OptimisticPointExecutor(new TableUserPointRepository(userPointTable),
+			pointHistoryRepository, new PointSnapshots(new PointVersionRegistry()));
+
+		// when
+		List<Future<UserPoint>> futures = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			PointCommand command = i % 2 == 0 ? PointCommand.charge(userId, 1000L) : PointCommand.use(userId, 500L);
+			futures.add(executorService.submit(() -> executor.execute(command)));
+		}
+		List<Long> results = new ArrayList<>();
+		for (Future<UserPoint> future : futures) {
+			results.add(future.get().point());
+		}
+
+		// then
+		assertEquals(7500L, userPointTable.selectById(userId).point());
+		assertEquals(0, executor.size());
+
+		long balance = 5000L;
+		for (PointHistory history : pointHistoryRepository.selectAllByUserId(userId)) {
+			balance += history.type() == TransactionType.CHARGE ? history.amount() : -history.amount();
+			assertTrue(results.contains(balance));
+		}
+		assertEquals(7500L, balance);
+	}
+
+	@Test
+	@DisplayName("잔액이 부족한 요청은 거절되고 나머지 요청만 반영됩니다.")
+	public void rejectInsufficientBalance() throws Exception {
+		// given
+		long userId = 1L;
+		UserPointTable userPointTable = new UserPointTable();
+		userPointTable.insertOrUpdate(userId, 3000L);
+		OptimisticPointExecutor executor = new OptimisticPointExecutor(new TableUserPointRepository(userPointTable),
+			new IndexedPointHistoryRepository(new PointHistoryTable()), new PointSnapshots(new PointVersionRegistry()));
+
+		// when
+		List<Future<UserPoint>> futures = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			futures.add(executorService.submit(() -> executor.execute(PointCommand.use(userId, 1000L))));
+		}
+		int rejected = 0;
+		for (Future<UserPoint> future : futures) {
+			try {
+				future.get();
+			} catch (ExecutionException e) {
+				assertEquals("사용 포인트가 부족합니다.", e.getCause().getMessage());
+				rejected++;
+			}
+		}
+
+		// then
+		assertEquals(2, rejected);
+		assertEquals(0L, userPointTable.selectById(userId).point());
+	}
+
+	@Test
+	@DisplayName("저장이 실패하면 그 잔액 위에 커밋한 요청도 실패하고, 다음 요청은 저장소의 잔액에서 다시 계산합니다.")
+	public void failSuccessorsWhenPersistFails() throws Exception {
+		// given
+		long userId = 1L;
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch fail = new CountDownLatch(1);
+		UserPointRepository userPointRepository = new PrimitiveUserPointRepository(16) {
+			@Override
+			public UserPoint insertOrUpdate(long id, long amount) {
+				if (amount == 1000L) {
+					writing.countDown();
+					try {
+						assertTrue(fail.await(5, TimeUnit.SECONDS));
+					} catch (InterruptedException e) {
+						throw new IllegalStateException(e);
+					}
+					throw new IllegalStateException("포인트 저장 실패");
+				}
+				return super.insertOrUpdate(id, amount);
+			}
+		};
+		PointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(new PointHistoryTable());
+		OptimisticPointExecutor executor = new OptimisticPointExecutor(userPointRepository, pointHistoryRepository,
+			new PointSnapshots(new PointVersionRegistry()));
+		Future<UserPoint> failed = executorService.submit(() -> executor.execute(PointCommand.charge(userId, 1000L)));
+		assertTrue(writing.await(5, TimeUnit.SECONDS));
+		FutureTask<UserPoint> successor = new FutureTask<>(() -> executor.execute(PointCommand.charge(userId, 500L)));
+		Thread successorThread = new Thread(successor);
+		successorThread.start();
+		while (successorThread.getState() != Thread.State.WAITING) {
+			Thread.onSpinWait();
+		}
+
+		// when
+		fail.countDown();
+		ExecutionException failure = assertThrows(ExecutionException.class, failed::get);
+		ExecutionException successorFailure = assertThrows(ExecutionException.class,
+			() -> successor.get(5, TimeUnit.SECONDS));
+		UserPoint userPoint = executor.execute(PointCommand.charge(userId, 200L));
+
+		// then
+		assertEquals("포인트 저장 실패", failure.getCause().getMessage());
+		assertEquals("이전 요청의 포인트 저장이 실패했습니다.", successorFailure.getCause().getMessage());
+		assertEquals(200L, userPoint.point());
+		assertEquals(200L, userPointRepository.selectById(userId).point());
+		assertEquals(1, pointHistoryRepository.selectAllByUserId(userId).size());
+		assertEquals(0, executor.size());
+	}
+}
@@ -0,0 +1,212 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PrimitiveUserPointRepository;
+import io.hhplus.tdd.database.TableUserPointRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
+
+class OverlappedPointExecutorTest {
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(10);
+	private final ExecutorService ioExecutor = Executors.newFixedThreadPool(10);
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+		ioExecutor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("포인트 수정과 내역 저장을 서로 기다리지 않고 동시에 실행하고, 두 저장의 시각이 같습니다.")
+	public void overlapWrites() {
+		// given
+		CountDownLatch historyStarted = new CountDownLatch(1);
+		ColumnarPointHistoryRepository histories = new ColumnarPointHistoryRepository(16, false);
+		UserPointRepository userPointRepository = new PrimitiveUserPointRepository(16) {
+			@Override
+			public UserPoint insertOrUpdate(long id, long amount, long updateMillis) {
+				if (amount == 1500L) {
+					try {
+						assertTrue(historyStarted.await(5, TimeUnit.SECONDS));
+					} catch (InterruptedException e) {
+						throw new IllegalStateException(e);
+					}
+				}
+				return super.insertOrUpdate(id, amount, updateMillis);
+			}
+		};
+		userPointRepository.insertOrUpdate(1L, 500L);
+		PointHistoryRepository pointHistoryRepository = new DelegatingHistoryRepository(histories) {
+			@Override
+			public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+				historyStarted.countDown();
+				return super.insert(userId, amount, type, updateMillis);
+			}
+		};
+		OverlappedPointExecutor executor = new OverlappedPointExecutor(userPointRepository, pointHistoryRepository,
+			new PointSnapshots(new PointVersionRegistry()), new RefCountedUserLockProvider(), ioExecutor);
+
+		// when
+		UserPoint userPoint = executor.execute(PointCommand.charge(1L, 1000L));
+
+		// then
+		assertEquals(1500L, userPoint.point());
+		List<PointHistory> saved = histories.selectAllByUserId(1L);
+		assertEquals(1, saved.size());
+		assertEquals(userPoint.updateMillis(), saved.get(0).updateMillis());
+		assertEquals(userPoint, userPointRepository.selectById(1L));
+	}
+
+	@Test
+	@DisplayName("저장 시각을 지정할 수 없는 포인트 저장소는 저장된 포인트 시각으로 내역을 저장합니다.")
+	public void useStoredUpdateMillisWithTable() {
+		// given
+		UserPointRepository userPointRepository = new TableUserPointRepository(new UserPointTable());
+		PointHistoryRepository pointHistoryRepository = new ColumnarPointHistoryRepository(16, false);
+		OverlappedPointExecutor executor = new OverlappedPointExecutor(userPointRepository, pointHistoryRepository,
+			new PointSnapshots(new PointVersionRegistry()), new RefCountedUserLockProvider(), ioExecutor);
+
+		// when
+		UserPoint userPoint = executor.execute(PointCommand.charge(1L, 1000L));
+
+		// then
+		assertEquals(userPoint.updateMillis(), pointHistoryRepository.selectAllByUserId(1L).get(0).updateMillis());
+		assertEquals(userPoint.updateMillis(), userPointRepository.selectById(1L).updateMillis());
+	}
+
+	@Test
+	@DisplayName("같은 유저의 동시 충전 요청도 잔액과 내역 수가 맞습니다.")
+	public void concurrentCharge() throws Exception {
+		// given
+		long userId = 1L;
+		int threadCount = 10;
+		UserPointRepository userPointRepository = new PrimitiveUserPointRepository(16);
+		PointHistoryRepository pointHistoryRepository = new ColumnarPointHistoryRepository(16, false);
+		OverlappedPointExecutor executor = new OverlappedPointExecutor(userPointRepository, pointHistoryRepository,
+			new PointSnapshots(new PointVersionRegistry()), new RefCountedUserLockProvider(), ioExecutor);
+
+		// when
+		List<Future<UserPoint>> futures = new ArrayList<>();
+		for (int i = 0; i < threadCount; i++) {
+			futures.add(executorService.submit(() -> executor.execute(PointCommand.charge(userId, 1000L))));
+		}
+		for (Future<UserPoint> future : futures) {
+			future.get();
+		}
+
+		// then
+		assertEquals(1000L * threadCount, userPointRepository.selectById(userId).point());
+		assertEquals(threadCount, pointHistoryRepository.selectAllByUserId(userId).size());
+	}
+
+	@Test
+	@DisplayName("내역 저장이 실패하면 포인트를 이전 잔액으로 되돌립니다.")
+	public void restorePointWhenHistoryFails() {
+		// given
+		UserPointRepository userPointRepository = new PrimitiveUserPointRepository(16);
+		userPointRepository.insertOrUpdate(1L, 500L);
+		PointHistoryRepository pointHistoryRepository = new DelegatingHistoryRepository(
+			new ColumnarPointHistoryRepository(16, false)) {
+			@Override
+			public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+				throw new IllegalStateException("내역 저장 실패");
+			}
+		};
+		OverlappedPointExecutor executor = new OverlappedPointExecutor(userPointRepository, pointHistoryRepository,
+			new PointSnapshots(new PointVersionRegistry()), new RefCountedUserLockProvider(), ioExecutor);
+
+		// when
+		IllegalStateException exception = assertThrows(IllegalStateException.class,
+			() -> executor.execute(PointCommand.charge(1L, 1000L)));
+
+		// then
+		assertEquals("내역 저장 실패", exception.getMessage());
+		assertEquals(500L, userPointRepository.selectById(1L).point());
+	}
+
+	@Test
+	@DisplayName("처음 충전하는 유저의 내역 저장이 실패하면 포인트를 저장하지 않아 행이 남지 않습니다.")
+	public void leaveNoRowWhenFirstChargeFails() {
+		// given
+		PrimitiveUserPointRepository userPointRepository = new PrimitiveUserPointRepository(16);
+		PointHistoryRepository pointHistoryRepository = new DelegatingHistoryRepository(
+			new ColumnarPointHistoryRepository(16, false)) {
+			@Override
+			public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+				throw new IllegalStateException("내역 저장 실패");
+			}
+		};
+		OverlappedPointExecutor executor = new OverlappedPointExecutor(userPointRepository, pointHistoryRepository,
+			new PointSnapshots(new PointVersionRegistry()), new RefCountedUserLockProvider(), ioExecutor);
+
+		// when
+		assertThrows(IllegalStateException.class, () -> executor.execute(PointCommand.charge(1L, 1000L)));
+
+		// then
+		assertEquals(0, userPointRepository.size());
+	}
+
+	@Test
+	@DisplayName("포인트 수정이 실패하면 반대 거래 내역으로 저장된 내역을 상쇄합니다.")
+	public void reverseHistoryWhenPointFails() {
+		// given
+		PrimitiveUserPointRepository userPointRepository = new PrimitiveUserPointRepository(16) {
+			@Override
+			public UserPoint insertOrUpdate(long id, long amount, long updateMillis) {
+				if (amount == 1000L) {
+					throw new IllegalStateException("포인트 저장 실패");
+				}
+				return super.insertOrUpdate(id, amount, updateMillis);
+			}
+		};
+		PointHistoryRepository pointHistoryRepository = new ColumnarPointHistoryRepository(16, false);
+		OverlappedPointExecutor executor = new OverlappedPointExecutor(userPointRepository, pointHistoryRepository,
+			new PointSnapshots(new PointVersionRegistry()), new RefCountedUserLockProvider(), ioExecutor);
+
+		// when
+		assertThrows(IllegalStateException.class, () -> executor.execute(PointCommand.charge(1L, 1000L)));
+
+		// then
+		List<PointHistory> histories = pointHistoryRepository.selectAllByUserId(1L);
+		assertEquals(List.of(TransactionType.CHARGE, TransactionType.USE),
+			histories.stream().map(PointHistory::type).toList());
+		assertEquals(0L, histories.stream().mapToLong(PointHistory::signedAmount).sum());
+		assertEquals(0L, userPointRepository.selectById(1L).point());
+		assertEquals(0, userPointRepository.size());
+	}
+
+	private static class DelegatingHistoryRepository implements PointHistoryRepository {
+		private final PointHistoryRepository delegate;
+
+		DelegatingHistoryRepository(PointHistoryRepository delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+			return delegate.insert(userId, amount, type, updateMillis);
+		}
+
+		@Override
+		public List<PointHistory> selectAllByUserId(long userId) {
+			return delegate.selectAllByUserId(userId);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.CheckpointPointHistoryRepository;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointBalanceCheckpoints;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+
+class PointAsOfServiceTest {
+
+	@Test
+	@DisplayName("시점까지 저장된 내역만 반영한 잔액을 조회합니다.")
+	public void getUserPointAt() {
+		// given
+		PointBalanceCheckpoints checkpoints = new PointBalanceCheckpoints(4);
+		CountingRepository repository = new CountingRepository(new CheckpointPointHistoryRepository(
+			new IndexedPointHistoryRepository(new PointHistoryTable()), checkpoints));
+		PointAsOfService pointAsOfService = new PointAsOfService(repository, checkpoints);
+		long expected = 0;
+		long[] balances = new long[30];
+		for (int i = 0; i < balances.length; i++) {
+			boolean charge = i % 3 != 2;
+			repository.insert(1L, 100L + i, charge ? TransactionType.CHARGE : TransactionType.USE, (i + 1) * 10L);
+			expected += charge ? 100L + i : -(100L + i);
+			balances[i] = expected;
+		}
+
+		for (int i = 0; i < balances.length; i++) {
+			// when
+			repository.selected.set(0);
+			UserPoint userPoint = pointAsOfService.getUserPointAt(1L, (i + 1) * 10L + 5);
+
+			// then
+			assertEquals(balances[i], userPoint.point());
+			assertEquals((i + 1) * 10L, userPoint.updateMillis());
+			assertTrue(repository.selected.get() <= 4);
+		}
+		assertEquals(0L, pointAsOfService.getUserPointAt(1L, 5L).point());
+	}
+
+	@Test
+	@DisplayName("체크포인트 없이도 처음부터 적용해 같은 잔액을 계산합니다.")
+	public void getUserPointAtWithoutCheckpoints() {
+		// given
+		PointBalanceCheckpoints checkpoints = new PointBalanceCheckpoints(0);
+		PointHistoryRepository repository = new CheckpointPointHistoryRepository(
+			new IndexedPointHistoryRepository(new PointHistoryTable()), checkpoints);
+		PointAsOfService pointAsOfService = new PointAsOfService(repository, checkpoints);
+		for (int i = 0; i < 20; i++) {
+			repository.insert(1L, 10L, TransactionType.CHARGE, i);
+		}
+
+		// when
+		UserPoint userPoint = pointAsOfService.getUserPointAt(1L, 14L);
+
+		// then
+		assertEquals(150L, userPoint.point());
+		assertNull(checkpoints.floor(1L, Long.MAX_VALUE));
+	}
+
+	private static class CountingRepository implements PointHistoryRepository {
+		private final PointHistoryRepository delegate;
+		private final AtomicInteger selected = new AtomicInteger();
+
+		CountingRepository(PointHistoryRepository delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+			return delegate.insert(userId, amount, type, updateMillis);
+		}
+
+		@Override
+		public List<PointHistory> selectAllByUserId(long userId) {
+			throw new AssertionError("전체 내역을 조회하지 않아야 합니다.");
+		}
+
+		@Override
+		public List<PointHistory> selectPageByUserId(long userId, Long cursor, int limit, PointHistoryOrder order) {
+			List<PointHistory> page = delegate.selectPageByUserId(userId, cursor, limit, order);
+			selected.addAndGet(page.size());
+			return page;
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PointAsyncServiceTest {
+
+	private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final CountDownLatch gate = new CountDownLatch(1);
+	private final AtomicInteger running = new AtomicInteger();
+	private final AtomicReference<String> executedOn = new AtomicReference<>();
+	private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+		new LinkedBlockingQueue<>(1), new CustomizableThreadFactory("point-async-"), new ThreadPoolExecutor.AbortPolicy());
+	private final PointAsyncService pointAsyncService = new PointAsyncService(
+		new PointService(null, null, this::blocking, new PointIdempotencyCache(1000, 60000),
+			new PointSnapshots(new PointVersionRegistry())), executor, meterRegistry);
+
+	@AfterEach
+	void tearDown() {
+		gate.countDown();
+		pointAsyncService.close();
+	}
+
+	@Test
+	@DisplayName("충전은 요청 스레드가 아닌 비동기 스레드 풀에서 실행됩니다.")
+	public void chargeOnPool() throws Exception {
+		// given
+		gate.countDown();
+
+		// when
+		UserPoint userPoint = pointAsyncService.charge(1L, 100L, null).get(5, TimeUnit.SECONDS);
+
+		// then
+		assertEquals(100L, userPoint.point());
+		assertTrue(executedOn.get().startsWith("point-async-"));
+	}
+
+	@Test
+	@DisplayName("PointService 의 예외는 감싸지 않고 그대로 전달합니다.")
+	public void failWithRawException() throws Exception {
+		// given
+		gate.countDown();
+
+		// when
+		Throwable error = pointAsyncService.use(1L, 0L, null)
+			.handle((userPoint, e) -> e)
+			.get(5, TimeUnit.SECONDS);
+
+		// then
+		assertInstanceOf(IllegalArgumentException.class, error);
+		assertEquals("사용 금액은 0보다 큰 숫자이어야 합니다.", error.getMessage());
+	}
+
+	@Test
+	@DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 거절합니다.")
+	public void rejectWhenQueueFull() throws Exception {
+		// given
+		CompletableFuture<UserPoint> first = pointAsyncService.charge(1L, 100L, null);
+		while (running.get() < 1) {
+			Thread.onSpinWait();
+		}
+		CompletableFuture<UserPoint> queued = pointAsyncService.charge(2L, 100L, null);
+
+		// when
+		Throwable error = pointAsyncService.charge(3L, 100L, null).handle((userPoint, e) -> e).join();
+		gate.countDown();
+
+		// then
+		PointOverloadedException exception = assertInstanceOf(PointOverloadedException.class, error);
+		assertEquals(PointOverloadedException.Reason.ASYNC_QUEUE_FULL, exception.reason());
+		assertEquals(100L, first.get(5, TimeUnit.SECONDS).point());
+		assertEquals(100L, queued.get(5, TimeUnit.SECONDS).point());
+		assertEquals(1.0, meterRegistry.find("point.admission.rejections").tag("reason", "ASYNC_QUEUE_FULL")
+			.counter().count());
+	}
+
+	private UserPoint blocking(PointCommand command) {
+		running.incrementAndGet();
+		executedOn.set(Thread.currentThread().getName());
+		try {
+			gate.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return new UserPoint(command.userId(), command.amount(), 0L);
+	}
+}
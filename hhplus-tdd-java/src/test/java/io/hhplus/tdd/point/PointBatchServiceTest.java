@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.TableUserPointRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
+
+class PointBatchServiceTest {
+
+	private PointService pointService;
+	private PointBatchService pointBatchService;
+
+	@BeforeEach
+	void setUp() {
+		UserPointRepository userPointRepository = new TableUserPointRepository(new UserPointTable());
+		PointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(new PointHistoryTable());
+		PointSnapshots pointSnapshots = new PointSnapshots(new PointVersionRegistry());
+		PointExecutor pointExecutor = new LockPointExecutor(userPointRepository, pointHistoryRepository,
+			pointSnapshots, new RefCountedUserLockProvider());
+		pointService = new PointService(userPointRepository, pointHistoryRepository, pointExecutor,
+			new PointIdempotencyCache(1000, 60000), pointSnapshots);
+		pointBatchService = new PointBatchService(pointService, Executors.newFixedThreadPool(4), 10);
+	}
+
+	@AfterEach
+	void tearDown() {
+		pointBatchService.close();
+	}
+
+	@Test
+	@DisplayName("여러 유저의 요청을 처리하고 요청 순서대로 결과를 반환합니다.")
+	public void execute() {
+		// given
+		List<PointBatchItem> items = List.of(
+			new PointBatchItem(1L, TransactionType.CHARGE, 1000L),
+			new PointBatchItem(2L, TransactionType.CHARGE, 2000L),
+			new PointBatchItem(1L, TransactionType.USE, 300L),
+			new PointBatchItem(2L, TransactionType.USE, 500L)
+		);
+
+		// when
+		List<PointBatchResult> results = pointBatchService.execute(items);
+
+		// then
+		assertEquals(4, results.size());
+		assertEquals(1000L, results.get(0).userPoint().point());
+		assertEquals(2000L, results.get(1).userPoint().point());
+		assertEquals(700L, results.get(2).userPoint().point());
+		assertEquals(1500L, results.get(3).userPoint().point());
+		assertEquals(700L, pointService.getUserPoint(1L).point());
+		assertEquals(1500L, pointService.getUserPoint(2L).point());
+	}
+
+	@Test
+	@DisplayName("실패한 요청은 해당 항목에만 에러를 담고 나머지 요청은 계속 처리합니다.")
+	public void executeWithFailure() {
+		// given
+		List<PointBatchItem> items = List.of(
+			new PointBatchItem(1L, TransactionType.USE, 300L),
+			new PointBatchItem(1L, TransactionType.CHARGE, 1000L),
+			new PointBatchItem(2L, TransactionType.CHARGE, -1L)
+		);
+
+		// when
+		List<PointBatchResult> results = pointBatchService.execute(items);
+
+		// then
+		assertNull(results.get(0).userPoint());
+		assertEquals("400", results.get(0).error().code());
+		assertEquals("사용 포인트가 부족합니다.", results.get(0).error().message());
+		assertEquals(1000L, results.get(1).userPoint().point());
+		assertEquals("충전 금액은 0보다 큰 숫자이어야 합니다.", results.get(2).error().message());
+	}
+
+	@Test
+	@DisplayName("최대 요청 수를 넘는 일괄 처리는 실패합니다.")
+	public void executeExceededMaxItems() {
+		// given
+		List<PointBatchItem> items = LongStream.rangeClosed(1, 11)
+			.mapToObj(userId -> new PointBatchItem(userId, TransactionType.CHARGE, 1000L))
+			.toList();
+
+		// when
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+			pointBatchService.execute(items);
+		});
+
+		// then
+		assertEquals("일괄 처리 요청은 10건을 초과할 수 없습니다.", exception.getMessage());
+	}
+}
@@ -5,7 +5,9 @@ import static org.springframework.http.MediaType.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +16,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -27,9 +30,18 @@ class PointControllerTest {
 	@Autowired
 	private ObjectMapper objectMapper;
 
+	@Autowired
+	private PointVersionRegistry pointVersionRegistry;
+
 	@MockBean
 	private PointService pointService;
 
+	@MockBean
+	private PointSummaryService pointSummaryService;
+
+	@MockBean
+	private PointAsOfService pointAsOfService;
+
 	@Test
 	@DisplayName("특정 사용자의 포인트를 조회합니다.")
 	public void getUserPoint() throws Exception {
@@ -52,6 +64,87 @@ class PointControllerTest {
 		verify(pointService).getUserPoint(anyLong());
 	}
 
+	@Test
+	@DisplayName("포인트가 바뀌지 않았으면 조회하지 않고 304 로 응답합니다.")
+	public void getUserPointNotModified() throws Exception {
+		// given
+		long userId = 101L;
+		pointVersionRegistry.pointUpdated(new UserPoint(userId, 1000L, 1L));
+		when(pointService.getUserPoint(userId)).thenReturn(new UserPoint(userId, 1000L, 1L));
+		String eTag = mockMvc.perform(get("/point/{id}", userId))
+			.andExpect(status().isOk())
+			.andExpect(header().exists("ETag"))
+			.andReturn().getResponse().getHeader("ETag");
+
+		// when
+		mockMvc.perform(get("/point/{id}", userId)
+				.header("If-None-Match", eTag))
+
+			// then
+			.andExpect(status().isNotModified())
+			.andExpect(header().string("ETag", eTag))
+			.andExpect(content().string(""));
+
+		verify(pointService, times(1)).getUserPoint(userId);
+	}
+
+	@Test
+	@DisplayName("포인트가 바뀌면 이전 ETag 로 요청해도 새 포인트를 조회합니다.")
+	public void getUserPointModified() throws Exception {
+		// given
+		long userId = 102L;
+		pointVersionRegistry.pointUpdated(new UserPoint(userId, 1000L, 1L));
+		String eTag = pointVersionRegistry.pointETag(userId);
+		pointVersionRegistry.pointUpdated(new UserPoint(userId, 1500L, 2L));
+		when(pointService.getUserPoint(userId)).thenReturn(new UserPoint(userId, 1500L, 2L));
+
+		// when
+		mockMvc.perform(get("/point/{id}", userId)
+				.header("If-None-Match", eTag))
+
+			// then
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", pointVersionRegistry.pointETag(userId)))
+			.andExpect(jsonPath("$.point").value(1500L));
+	}
+
+	@Test
+	@DisplayName("내역이 늘지 않았으면 조회하지 않고 304 로 응답합니다.")
+	public void getUserPointHistoriesNotModified() throws Exception {
+		// given
+		long userId = 103L;
+		pointVersionRegistry.historyInserted(new PointHistory(7L, userId, 1000L, TransactionType.CHARGE, 1L));
+
+		// when
+		mockMvc.perform(get("/point/{id}/histories", userId)
+				.header("If-None-Match", pointVersionRegistry.historyETag(userId)))
+
+			// then
+			.andExpect(status().isNotModified());
+
+		verify(pointService, never()).getPointHistories(userId);
+	}
+
+	@Test
+	@DisplayName("특정 시점의 유저 포인트를 조회합니다.")
+	public void getUserPointAt() throws Exception {
+		// given
+		long userId = 1L;
+		long at = 1_700_000_000_000L;
+		when(pointAsOfService.getUserPointAt(userId, at)).thenReturn(new UserPoint(userId, 700L, at - 10));
+
+		// when
+		mockMvc.perform(get("/point/{id}", userId)
+				.param("at", String.valueOf(at)))
+
+			// then
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.point").value(700L))
+			.andExpect(jsonPath("$.updateMillis").value(at - 10));
+
+		verify(pointService, never()).getUserPoint(anyLong());
+	}
+
 	@Test
 	@DisplayName("특정 유저의 포인트 충전/이용 내역을 조회합니다.")
 	public void getUserPointHistories() throws Exception {
@@ -83,6 +176,55 @@ class PointControllerTest {
 			.andExpect(jsonPath("$[1].type").value("USE"));
 	}
 
+	@Test
+	@DisplayName("특정 유저의 포인트 충전/이용 내역을 나눠 조회합니다.")
+	public void getUserPointHistoryPage() throws Exception {
+		// given
+		long userId = 1L;
+		PointHistory pointHistory = new PointHistory(3L, userId, 1000L, TransactionType.CHARGE,
+			System.currentTimeMillis());
+		when(pointService.getPointHistoryPage(userId, 4L, 1, PointHistoryOrder.DESC))
+			.thenReturn(new PointHistoryPage(List.of(pointHistory), 3L));
+
+		// when
+		mockMvc.perform(get("/point/{id}/histories/page", userId)
+				.param("cursor", "4")
+				.param("limit", "1"))
+
+			// then
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.histories[0].id").value(3L))
+			.andExpect(jsonPath("$.nextCursor").value(3L));
+	}
+
+	@Test
+	@DisplayName("특정 유저의 포인트 충전/이용 내역을 NDJSON 으로 내려받습니다.")
+	public void streamUserPointHistories() throws Exception {
+		// given
+		long userId = 1L;
+		PointHistory chargePointHistory = new PointHistory(1L, userId, 1000L, TransactionType.CHARGE, 1L);
+		PointHistory usePointHistory = new PointHistory(2L, userId, 500L, TransactionType.USE, 2L);
+		doAnswer(invocation -> {
+			Consumer<PointHistory> consumer = invocation.getArgument(2);
+			consumer.accept(usePointHistory);
+			consumer.accept(chargePointHistory);
+			return null;
+		}).when(pointService).forEachPointHistory(eq(userId), eq(PointHistoryOrder.DESC), any());
+
+		MvcResult mvcResult = mockMvc.perform(get("/point/{id}/histories/stream", userId))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// when
+		mockMvc.perform(asyncDispatch(mvcResult))
+
+			// then
+			.andExpect(status().isOk())
+			.andExpect(content().contentType(APPLICATION_NDJSON))
+			.andExpect(content().string(objectMapper.writeValueAsString(usePointHistory) + "\n"
+				+ objectMapper.writeValueAsString(chargePointHistory) + "\n"));
+	}
+
 	@Test
 	@DisplayName("특정 유저의 포인트 충전합니다.")
 	public void charge() throws Exception {
@@ -92,7 +234,7 @@ class PointControllerTest {
 		long chargePoint = 500L;
 
 		UserPoint userPoint = new UserPoint(userId, point + chargePoint, System.currentTimeMillis());
-		when(pointService.charge(userId, chargePoint)).thenReturn(userPoint);
+		when(pointService.charge(userId, chargePoint, null)).thenReturn(userPoint);
 
 		// when
 		mockMvc.perform(patch("/point/{id}/charge", userId)
@@ -115,7 +257,7 @@ class PointControllerTest {
 		long usePoint = 500L;
 
 		UserPoint userPoint = new UserPoint(userId, point + usePoint, System.currentTimeMillis());
-		when(pointService.use(userId, usePoint)).thenReturn(userPoint);
+		when(pointService.use(userId, usePoint, null)).thenReturn(userPoint);
 
 		// when
 		mockMvc.perform(patch("/point/{id}/use", userId)
@@ -128,4 +270,159 @@ class PointControllerTest {
 			.andExpect(jsonPath("$.id").value(userPoint.id()))
 			.andExpect(jsonPath("$.point").value(userPoint.point()));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("잔액이 부족한 사용 요청은 일괄 요청의 항목과 같이 400 으로 응답합니다.")
+	public void useInsufficientPoint() throws Exception {
+		// given
+		long userId = 1L;
+		long usePoint = 500L;
+
+		when(pointService.use(userId, usePoint, null))
+			.thenThrow(new IllegalArgumentException("사용 포인트가 부족합니다."));
+
+		// when
+		mockMvc.perform(patch("/point/{id}/use", userId)
+				.contentType(APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(usePoint))
+			)
+
+			// then
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.code").value("400"))
+			.andExpect(jsonPath("$.message").value("사용 포인트가 부족합니다."));
+	}
+
+	@Test
+	@DisplayName("여러 유저의 포인트를 한 번에 충전/사용합니다.")
+	public void batch() throws Exception {
+		// given
+		long userId = 1L;
+		long otherUserId = 2L;
+		long chargePoint = 500L;
+		long usePoint = 300L;
+
+		when(pointService.charge(userId, chargePoint))
+			.thenReturn(new UserPoint(userId, chargePoint, System.currentTimeMillis()));
+		when(pointService.use(otherUserId, usePoint))
+			.thenThrow(new IllegalArgumentException("사용 포인트가 부족합니다."));
+
+		List<PointBatchItem> items = List.of(
+			new PointBatchItem(userId, TransactionType.CHARGE, chargePoint),
+			new PointBatchItem(otherUserId, TransactionType.USE, usePoint)
+		);
+
+		// when
+		mockMvc.perform(post("/point/batch")
+				.contentType(APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(items))
+			)
+
+			// then
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].userPoint.point").value(chargePoint))
+			.andExpect(jsonPath("$[1].error.code").value("400"))
+			.andExpect(jsonPath("$[1].error.message").value("사용 포인트가 부족합니다."));
+	}
+
+	@Test
+	@DisplayName("Idempotency-Key 헤더를 충전 요청과 함께 전달합니다.")
+	public void chargeWithIdempotencyKey() throws Exception {
+		// given
+		long userId = 1L;
+		long amount = 1000L;
+		String idempotencyKey = "charge-1";
+
+		when(pointService.charge(userId, amount, idempotencyKey))
+			.thenReturn(new UserPoint(userId, amount, System.currentTimeMillis()));
+
+		// when
+		mockMvc.perform(patch("/point/{id}/charge", userId)
+				.header(PointController.IDEMPOTENCY_KEY, idempotencyKey)
+				.contentType(APPLICATION_JSON)
+				.content(String.valueOf(amount))
+			)
+
+			// then
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.point").value(amount));
+
+		verify(pointService).charge(userId, amount, idempotencyKey);
+	}
+
+	@Test
+	@DisplayName("비동기 API 로 특정 유저의 포인트를 충전합니다.")
+	public void chargeAsync() throws Exception {
+		// given
+		long userId = 1L;
+		long amount = 1000L;
+
+		when(pointService.charge(userId, amount, null))
+			.thenReturn(new UserPoint(userId, amount, System.currentTimeMillis()));
+
+		MvcResult mvcResult = mockMvc.perform(patch("/point/async/{id}/charge", userId)
+				.contentType(APPLICATION_JSON)
+				.content(String.valueOf(amount)))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// when
+		mockMvc.perform(asyncDispatch(mvcResult))
+
+			// then
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.id").value(userId))
+			.andExpect(jsonPath("$.point").value(amount));
+	}
+
+	@Test
+	@DisplayName("비동기 API 의 처리 한도 초과는 동기 API 와 같이 429 로 응답합니다.")
+	public void useAsyncOverloaded() throws Exception {
+		// given
+		long userId = 1L;
+		long amount = 1000L;
+
+		when(pointService.use(userId, amount, null))
+			.thenThrow(new PointOverloadedException(PointOverloadedException.Reason.USER_WAITERS,
+				"같은 유저의 요청이 많습니다. 잠시 후 다시 시도해주세요."));
+
+		MvcResult mvcResult = mockMvc.perform(patch("/point/async/{id}/use", userId)
+				.contentType(APPLICATION_JSON)
+				.content(String.valueOf(amount)))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		// when
+		mockMvc.perform(asyncDispatch(mvcResult))
+
+			// then
+			.andExpect(status().isTooManyRequests())
+			.andExpect(header().exists("Retry-After"))
+			.andExpect(jsonPath("$.code").value("429"));
+	}
+
+	@Test
+	@DisplayName("특정 유저의 기간 내 날짜별 충전/사용 합계를 조회합니다.")
+	public void getUserPointSummary() throws Exception {
+		// given
+		long userId = 1L;
+		LocalDate from = LocalDate.of(2024, 5, 1);
+		LocalDate to = LocalDate.of(2024, 5, 7);
+		PointDailySummary day = new PointDailySummary(LocalDate.of(2024, 5, 2), 1000L, 1, 300L, 2);
+		when(pointSummaryService.getPointSummary(userId, from, to))
+			.thenReturn(new PointSummary(userId, from, to, 1000L, 300L, 3, List.of(day)));
+
+		// when
+		mockMvc.perform(get("/point/{id}/histories/summary", userId)
+				.param("from", "2024-05-01")
+				.param("to", "2024-05-07"))
+
+			// then
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.chargedAmount").value(1000L))
+			.andExpect(jsonPath("$.usedAmount").value(300L))
+			.andExpect(jsonPath("$.count").value(3))
+			.andExpect(jsonPath("$.days[0].date").value("2024-05-02"))
+			.andExpect(jsonPath("$.days[0].useCount").value(2));
+	}
+}
@@ -0,0 +1,142 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PointIdempotencyCacheTest {
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("끝난 요청을 같은 키로 다시 보내면 실행하지 않고 보관한 결과를 돌려줍니다.")
+	public void replayCompleted() {
+		// given
+		PointIdempotencyCache cache = new PointIdempotencyCache(100, 60000);
+		PointCommand command = PointCommand.charge(1L, 1000L);
+		AtomicInteger executions = new AtomicInteger();
+		UserPoint charged = new UserPoint(1L, 1000L, 1L);
+
+		// when
+		UserPoint first = cache.execute("key", command, () -> {
+			executions.incrementAndGet();
+			return charged;
+		});
+		UserPoint retried = cache.execute("key", command, () -> {
+			executions.incrementAndGet();
+			return new UserPoint(1L, 2000L, 2L);
+		});
+
+		// then
+		assertEquals(charged, first);
+		assertEquals(charged, retried);
+		assertEquals(1, executions.get());
+	}
+
+	@Test
+	@DisplayName("처리 중인 요청을 같은 키로 다시 보내면 그 결과를 함께 기다립니다.")
+	public void attachToInFlight() throws Exception {
+		// given
+		PointIdempotencyCache cache = new PointIdempotencyCache(100, 60000);
+		PointCommand command = PointCommand.use(1L, 500L);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch gate = new CountDownLatch(1);
+		AtomicInteger executions = new AtomicInteger();
+		UserPoint used = new UserPoint(1L, 500L, 1L);
+
+		Future<UserPoint> first = executorService.submit(() -> cache.execute("key", command, () -> {
+			executions.incrementAndGet();
+			started.countDown();
+			try {
+				gate.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return used;
+		}));
+		started.await();
+
+		// when
+		Future<UserPoint> retried = executorService.submit(() -> cache.execute("key", command, () -> {
+			executions.incrementAndGet();
+			return new UserPoint(1L, 0L, 2L);
+		}));
+		assertFalse(retried.isDone());
+		gate.countDown();
+
+		// then
+		assertEquals(used, first.get());
+		assertEquals(used, retried.get());
+		assertEquals(1, executions.get());
+	}
+
+	@Test
+	@DisplayName("같은 키로 다른 요청을 보낼 수 없습니다.")
+	public void rejectDifferentCommand() {
+		// given
+		PointIdempotencyCache cache = new PointIdempotencyCache(100, 60000);
+		cache.execute("key", PointCommand.charge(1L, 1000L), () -> new UserPoint(1L, 1000L, 1L));
+
+		// when
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+			() -> cache.execute("key", PointCommand.charge(1L, 2000L), () -> new UserPoint(1L, 3000L, 2L)));
+
+		// then
+		assertEquals("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.", exception.getMessage());
+	}
+
+	@Test
+	@DisplayName("잔액 규칙으로 거절된 결과는 보관하고, 그 밖의 실패는 다시 실행합니다.")
+	public void failures() {
+		// given
+		PointIdempotencyCache cache = new PointIdempotencyCache(100, 60000);
+		PointCommand command = PointCommand.use(1L, 500L);
+		AtomicInteger executions = new AtomicInteger();
+
+		// when
+		for (int i = 0; i < 2; i++) {
+			assertThrows(PointRejectedException.class, () -> cache.execute("rejected", command, () -> {
+				executions.incrementAndGet();
+				throw new PointRejectedException(PointRejectedException.Reason.INSUFFICIENT_BALANCE,
+					"사용 포인트가 부족합니다.");
+			}));
+		}
+		assertThrows(IllegalStateException.class, () -> cache.execute("failed", command, () -> {
+			throw new IllegalStateException("테이블 오류");
+		}));
+		UserPoint retried = cache.execute("failed", command, () -> new UserPoint(1L, 0L, 1L));
+
+		// then
+		assertEquals(1, executions.get());
+		assertEquals(0L, retried.point());
+	}
+
+	@Test
+	@DisplayName("보관 개수를 넘으면 오래된 결과부터 지웁니다.")
+	public void bounded() {
+		// given
+		PointIdempotencyCache cache = new PointIdempotencyCache(2, 60000);
+		PointCommand command = PointCommand.charge(1L, 1000L);
+
+		// when
+		for (int i = 0; i < 10; i++) {
+			cache.execute("key-" + i, command, () -> new UserPoint(1L, 1000L, 1L));
+		}
+
+		// then
+		assertEquals(2, cache.size());
+	}
+}
@@ -5,27 +5,38 @@ import static org.mockito.Mockito.*;
 
 import java.util.List;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import io.hhplus.tdd.database.PointHistoryTable;
-import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
 
 @ExtendWith(MockitoExtension.class)
 class PointServiceTest {
 
-	@InjectMocks
 	private PointService pointService;
 
+	private PointSnapshots pointSnapshots;
+
 	@Mock
-	private UserPointTable userPointTable;
+	private UserPointRepository userPointRepository;
 
 	@Mock
-	private PointHistoryTable pointHistoryTable;
+	private PointHistoryRepository pointHistoryRepository;
+
+	@BeforeEach
+	void setUp() {
+		pointSnapshots = new PointSnapshots(new PointVersionRegistry());
+		PointExecutor pointExecutor = new LockPointExecutor(userPointRepository, pointHistoryRepository,
+			pointSnapshots, new RefCountedUserLockProvider());
+		pointService = new PointService(userPointRepository, pointHistoryRepository, pointExecutor,
+			new PointIdempotencyCache(1000, 60000), pointSnapshots);
+	}
 
 	@Test
 	@DisplayName("유저의 포인트를 사용합니다.")
@@ -37,9 +48,11 @@ class PointServiceTest {
 		long amount = 1000L;
 
 		UserPoint userPoint = new UserPoint(userId, point, System.currentTimeMillis());
-		when(userPointTable.selectById(userId)).thenReturn(userPoint);
-		when(userPointTable.insertOrUpdate(userId, point - amount))
+		when(userPointRepository.selectById(userId)).thenReturn(userPoint);
+		when(userPointRepository.insertOrUpdate(userId, point - amount))
 			.thenReturn(new UserPoint(userId, point - amount, System.currentTimeMillis()));
+		when(pointHistoryRepository.insert(eq(userId), eq(amount), eq(TransactionType.USE), anyLong()))
+			.thenReturn(new PointHistory(1L, userId, amount, TransactionType.USE, System.currentTimeMillis()));
 
 		// when
 		UserPoint expectedUserPoint = this.pointService.use(userId, amount);
@@ -48,7 +61,7 @@ class PointServiceTest {
 		assertEquals(userId, expectedUserPoint.id());
 		assertEquals(point - amount, expectedUserPoint.point());
 
-		verify(userPointTable).insertOrUpdate(anyLong(), anyLong());
+		verify(userPointRepository).insertOrUpdate(anyLong(), anyLong());
 	}
 
 	@Test
@@ -58,7 +71,7 @@ class PointServiceTest {
 		long invalidUserId = 1L;
 		long amount = 1000L;
 
-		when(userPointTable.selectById(invalidUserId)).thenReturn(null);
+		when(userPointRepository.selectById(invalidUserId)).thenReturn(null);
 
 		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
 			pointService.use(invalidUserId, amount);
@@ -67,8 +80,8 @@ class PointServiceTest {
 		// then
 		assertEquals("사용자가 존재하지 않습니다.", exception.getMessage());
 
-		verify(userPointTable).selectById(anyLong());
-		verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+		verify(userPointRepository).selectById(anyLong());
+		verify(userPointRepository, never()).insertOrUpdate(anyLong(), anyLong());
 	}
 
 	@Test
@@ -80,7 +93,7 @@ class PointServiceTest {
 		long amount = 10000L;
 
 		UserPoint userPoint = new UserPoint(userId, InvalidPoint, System.currentTimeMillis());
-		when(userPointTable.selectById(userId)).thenReturn(userPoint);
+		when(userPointRepository.selectById(userId)).thenReturn(userPoint);
 
 		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
 			pointService.use(userId, amount);
@@ -89,8 +102,8 @@ class PointServiceTest {
 		// then
 		assertEquals("사용 포인트가 부족합니다.", exception.getMessage());
 
-		verify(userPointTable).selectById(anyLong());
-		verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+		verify(userPointRepository).selectById(anyLong());
+		verify(userPointRepository, never()).insertOrUpdate(anyLong(), anyLong());
 	}
 
 	@Test
@@ -102,7 +115,7 @@ class PointServiceTest {
 		long point = 1000L;
 
 		UserPoint userPoint = new UserPoint(userId, point, System.currentTimeMillis());
-		when(userPointTable.selectById(userId)).thenReturn(userPoint);
+		when(userPointRepository.selectById(userId)).thenReturn(userPoint);
 
 		// when
 		UserPoint expectedUserPoint = this.pointService.getUserPoint(userId);
@@ -111,7 +124,27 @@ class PointServiceTest {
 		assertEquals(userId, expectedUserPoint.id());
 		assertEquals(point, expectedUserPoint.point());
 
-		verify(userPointTable).selectById(anyLong());
+		verify(userPointRepository).selectById(anyLong());
+	}
+
+	@Test
+	@DisplayName("완료된 충전이 있으면 저장소를 조회하지 않고 스냅샷을 반환합니다.")
+	public void getUserPointFromSnapshot() throws Exception {
+
+		//given
+		long userId = 1L;
+		long amount = 1000L;
+
+		UserPoint userPoint = new UserPoint(userId, amount, System.currentTimeMillis());
+		pointSnapshots.publish(userPoint,
+			new PointHistory(1L, userId, amount, TransactionType.CHARGE, userPoint.updateMillis()));
+
+		// when
+		UserPoint expectedUserPoint = this.pointService.getUserPoint(userId);
+
+		// then
+		assertEquals(userPoint, expectedUserPoint);
+		verify(userPointRepository, never()).selectById(anyLong());
 	}
 
 	@Test
@@ -127,7 +160,7 @@ class PointServiceTest {
 
 		// then
 		assertEquals("사용자 아이디는 0보다 큰 숫자이어야 합니다.", exception.getMessage());
-		verify(userPointTable, never()).selectById(anyLong());
+		verify(userPointRepository, never()).selectById(anyLong());
 	}
 
 	@Test
@@ -139,7 +172,9 @@ class PointServiceTest {
 		long amount = 1000L;
 
 		UserPoint userPoint = new UserPoint(userId, amount, System.currentTimeMillis());
-		when(userPointTable.insertOrUpdate(userId, amount)).thenReturn(userPoint);
+		when(userPointRepository.insertOrUpdate(userId, amount)).thenReturn(userPoint);
+		when(pointHistoryRepository.insert(eq(userId), eq(amount), eq(TransactionType.CHARGE), anyLong()))
+			.thenReturn(new PointHistory(1L, userId, amount, TransactionType.CHARGE, userPoint.updateMillis()));
 
 		// when
 		UserPoint expectedUserPoint = this.pointService.charge(userId, amount);
@@ -148,7 +183,7 @@ class PointServiceTest {
 		assertEquals(userId, expectedUserPoint.id());
 		assertEquals(amount, expectedUserPoint.point());
 
-		verify(userPointTable).insertOrUpdate(anyLong(), anyLong());
+		verify(userPointRepository).insertOrUpdate(anyLong(), anyLong());
 	}
 
 	@Test
@@ -165,7 +200,7 @@ class PointServiceTest {
 
 		// then
 		assertEquals("충전 금액은 0보다 큰 숫자이어야 합니다.", exception.getMessage());
-		verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+		verify(userPointRepository, never()).insertOrUpdate(anyLong(), anyLong());
 	}
 
 	@Test
@@ -177,7 +212,7 @@ class PointServiceTest {
 		long amount = 1L; //
 
 		UserPoint userPoint = new UserPoint(point, point, System.currentTimeMillis());
-		when(userPointTable.selectById(userId)).thenReturn(userPoint);
+		when(userPointRepository.selectById(userId)).thenReturn(userPoint);
 
 		// when
 		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
@@ -186,7 +221,7 @@ class PointServiceTest {
 
 		// then
 		assertEquals("충전 금액은 100000포인트를 초과할 수 없습니다.", exception.getMessage());
-		verify(userPointTable, never()).insertOrUpdate(anyLong(), anyLong());
+		verify(userPointRepository, never()).insertOrUpdate(anyLong(), anyLong());
 	}
 
 	@Test
@@ -198,7 +233,7 @@ class PointServiceTest {
 		PointHistory history2 = new PointHistory(2, userId, 500, TransactionType.USE, System.currentTimeMillis());
 		List<PointHistory> pointHistories = List.of(history1, history2);
 
-		when(pointHistoryTable.selectAllByUserId(userId)).thenReturn(pointHistories);
+		when(pointHistoryRepository.selectAllByUserId(userId)).thenReturn(pointHistories);
 
 		// when
 		List<PointHistory> expectedPointHistories = this.pointService.getPointHistories(userId);
@@ -213,7 +248,7 @@ class PointServiceTest {
 		assertEquals(history2.amount(), expectedPointHistories.get(1).amount());
 		assertEquals(history2.type(), expectedPointHistories.get(1).type());
 
-		verify(pointHistoryTable).selectAllByUserId(anyLong());
+		verify(pointHistoryRepository).selectAllByUserId(anyLong());
 	}
 
 	@Test
@@ -229,6 +264,6 @@ class PointServiceTest {
 
 		// then
 		assertEquals("사용자 아이디는 0보다 큰 숫자이어야 합니다.", exception.getMessage());
-		verify(pointHistoryTable, never()).selectAllByUserId(anyLong());
+		verify(pointHistoryRepository, never()).selectAllByUserId(anyLong());
 	}
 }
\ No newline at end of file
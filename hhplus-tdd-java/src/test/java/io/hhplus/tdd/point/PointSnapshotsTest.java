@@ -0,0 +1,166 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PrimitiveUserPointRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.lock.RefCountedUserLockProvider;
+
+class PointSnapshotsTest {
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(12);
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("내역 id 가 더 큰 스냅샷만 기존 스냅샷을 교체하고, 교체될 때 유저 버전을 올립니다.")
+	public void publishNewerOnly() {
+		// given
+		PointVersionRegistry versionRegistry = new PointVersionRegistry();
+		PointSnapshots pointSnapshots = new PointSnapshots(versionRegistry);
+		UserPoint charged = new UserPoint(1L, 1000L, 1L);
+		UserPoint used = new UserPoint(1L, 700L, 2L);
+		pointSnapshots.publish(used, new PointHistory(2L, 1L, 300L, TransactionType.USE, 2L));
+		String eTag = versionRegistry.pointETag(1L);
+
+		// when
+		pointSnapshots.publish(charged, new PointHistory(1L, 1L, 1000L, TransactionType.CHARGE, 1L));
+
+		// then
+		assertEquals(new PointSnapshots.Snapshot(used, 2L), pointSnapshots.get(1L));
+		assertEquals(eTag, versionRegistry.pointETag(1L));
+		assertNotEquals(versionRegistry.pointETag(2L), eTag);
+		assertNull(pointSnapshots.get(2L));
+	}
+
+	@Test
+	@DisplayName("내역 저장이 실패한 요청은 스냅샷을 바꾸지 않고, 이후 완료된 충전의 결과로 다시 교체됩니다.")
+	public void publishAfterHistoryFailure() {
+		// given
+		PointSnapshots pointSnapshots = new PointSnapshots(new PointVersionRegistry());
+		UserPointRepository userPointRepository = new PrimitiveUserPointRepository(16);
+		ColumnarPointHistoryRepository histories = new ColumnarPointHistoryRepository(16, false);
+		AtomicBoolean failHistory = new AtomicBoolean();
+		PointHistoryRepository pointHistoryRepository = new PointHistoryRepository() {
+			@Override
+			public PointHistory insert(long userId, long amount, TransactionType type, long updateMillis) {
+				PointHistory history = histories.insert(userId, amount, type, updateMillis);
+				if (failHistory.get()) {
+					throw new IllegalStateException("내역 저장 실패");
+				}
+				return history;
+			}
+
+			@Override
+			public List<PointHistory> selectAllByUserId(long userId) {
+				return histories.selectAllByUserId(userId);
+			}
+		};
+		PointService pointService = new PointService(userPointRepository, pointHistoryRepository,
+			new LockPointExecutor(userPointRepository, pointHistoryRepository, pointSnapshots,
+				new RefCountedUserLockProvider()), new PointIdempotencyCache(1000, 60000), pointSnapshots);
+		pointService.charge(1L, 1000L);
+
+		// when
+		failHistory.set(true);
+		assertThrows(IllegalStateException.class, () -> pointService.charge(1L, 500L));
+		UserPoint afterFailure = pointService.getUserPoint(1L);
+		failHistory.set(false);
+		pointService.charge(1L, 200L);
+
+		// then
+		assertEquals(1000L, afterFailure.point());
+		assertEquals(1700L, pointService.getUserPoint(1L).point());
+		assertEquals(3, pointService.getPointHistories(1L).size());
+		assertEquals(3L, pointSnapshots.get(1L).lastHistoryId());
+	}
+
+	@Test
+	@DisplayName("group commit 으로 충전이 진행 중일 때도 조회한 잔액은 함께 조회한 내역의 합계와 같습니다.")
+	public void readsConsistentWhileCombining() throws Exception {
+		assertReadsConsistentWhileCharging((userPointRepository, pointHistoryRepository, pointSnapshots) ->
+			new CombiningPointExecutor(userPointRepository, pointHistoryRepository, pointSnapshots,
+				new RefCountedUserLockProvider()));
+	}
+
+	@Test
+	@DisplayName("포인트와 내역을 동시에 저장하는 충전이 진행 중일 때도 조회한 잔액은 함께 조회한 내역의 합계와 같습니다.")
+	public void readsConsistentWhileOverlapping() throws Exception {
+		assertReadsConsistentWhileCharging((userPointRepository, pointHistoryRepository, pointSnapshots) ->
+			new OverlappedPointExecutor(userPointRepository, pointHistoryRepository, pointSnapshots,
+				new RefCountedUserLockProvider(), executorService));
+	}
+
+	private void assertReadsConsistentWhileCharging(
+		ExecutorFactory executorFactory) throws Exception {
+		// given
+		long userId = 1L;
+		int writers = 4;
+		int chargesPerWriter = 200;
+		PointSnapshots pointSnapshots = new PointSnapshots(new PointVersionRegistry());
+		UserPointRepository userPointRepository = new PrimitiveUserPointRepository(16);
+		PointHistoryRepository pointHistoryRepository = new ColumnarPointHistoryRepository(64, false);
+		PointService pointService = new PointService(userPointRepository, pointHistoryRepository,
+			executorFactory.create(userPointRepository, pointHistoryRepository, pointSnapshots),
+			new PointIdempotencyCache(1000, 60000), pointSnapshots);
+		AtomicBoolean writing = new AtomicBoolean(true);
+
+		// when
+		List<Future<?>> futures = new ArrayList<>();
+		for (int i = 0; i < writers; i++) {
+			futures.add(executorService.submit(() -> {
+				for (int j = 0; j < chargesPerWriter; j++) {
+					pointService.charge(userId, 10L);
+				}
+			}));
+		}
+		List<Future<Integer>> readers = new ArrayList<>();
+		for (int i = 0; i < 2; i++) {
+			readers.add(executorService.submit(() -> {
+				int mismatches = 0;
+				while (writing.get()) {
+					PointSnapshots.Snapshot snapshot = pointSnapshots.get(userId);
+					List<PointHistory> histories = pointService.getPointHistories(userId);
+					if (snapshot != null && snapshot.userPoint().point() != histories.stream()
+						.filter(history -> history.id() <= snapshot.lastHistoryId())
+						.mapToLong(PointHistory::signedAmount).sum()) {
+						mismatches++;
+					}
+				}
+				return mismatches;
+			}));
+		}
+		for (Future<?> future : futures) {
+			future.get();
+		}
+		writing.set(false);
+
+		// then
+		for (Future<Integer> reader : readers) {
+			assertEquals(0, reader.get().intValue());
+		}
+		assertEquals(10L * writers * chargesPerWriter, pointService.getUserPoint(userId).point());
+		assertEquals(writers * chargesPerWriter, pointService.getPointHistories(userId).size());
+	}
+
+	private interface ExecutorFactory {
+		PointExecutor create(UserPointRepository userPointRepository, PointHistoryRepository pointHistoryRepository,
+			PointSnapshots pointSnapshots);
+	}
+}
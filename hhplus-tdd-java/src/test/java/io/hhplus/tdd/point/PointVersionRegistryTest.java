@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PointVersionRegistryTest {
+
+	@Test
+	@DisplayName("같은 밀리초에 여러 번 저장해도 포인트 ETag 가 매번 바뀝니다.")
+	public void pointETagChangesWithinSameMillis() {
+		// given
+		PointVersionRegistry registry = new PointVersionRegistry();
+		String initial = registry.pointETag(1L);
+
+		// when
+		registry.pointUpdated(new UserPoint(1L, 100L, 1000L));
+		String first = registry.pointETag(1L);
+		registry.pointUpdated(new UserPoint(1L, 200L, 1000L));
+		String second = registry.pointETag(1L);
+
+		// then
+		assertNotEquals(initial, first);
+		assertNotEquals(first, second);
+		assertEquals(initial, registry.pointETag(2L));
+	}
+
+	@Test
+	@DisplayName("내역 ETag 는 마지막 내역이 바뀔 때만 바뀝니다.")
+	public void historyETagFollowsLatestHistory() {
+		// given
+		PointVersionRegistry registry = new PointVersionRegistry();
+		registry.historyInserted(new PointHistory(3L, 1L, 100L, TransactionType.CHARGE, 1L));
+		String before = registry.historyETag(1L);
+
+		// when
+		registry.pointUpdated(new UserPoint(1L, 100L, 2L));
+		String unchanged = registry.historyETag(1L);
+		registry.historyInserted(new PointHistory(4L, 1L, 50L, TransactionType.USE, 3L));
+
+		// then
+		assertEquals(before, unchanged);
+		assertNotEquals(before, registry.historyETag(1L));
+		assertTrue(before.startsWith("\"") && before.endsWith("\""));
+	}
+
+	@Test
+	@DisplayName("다시 시작한 인스턴스의 ETag 는 이전 인스턴스의 ETag 와 겹치지 않습니다.")
+	public void eTagDiffersAcrossInstances() {
+		// given
+		Instant startedAt = Instant.ofEpochMilli(1_000L);
+		PointVersionRegistry before = new PointVersionRegistry(Clock.fixed(startedAt, ZoneOffset.UTC));
+
+		// when
+		PointVersionRegistry after = new PointVersionRegistry(
+			Clock.fixed(startedAt.plusMillis(1), ZoneOffset.UTC));
+
+		// then
+		assertNotEquals(before.pointETag(1L), after.pointETag(1L));
+	}
+}
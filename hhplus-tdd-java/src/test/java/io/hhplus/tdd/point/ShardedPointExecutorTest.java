@@ -0,0 +1,174 @@
+package io.hhplus.tdd.point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.hhplus.tdd.database.ColumnarPointHistoryRepository;
+import io.hhplus.tdd.database.IndexedPointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryRepository;
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.PrimitiveUserPointRepository;
+import io.hhplus.tdd.database.TableUserPointRepository;
+import io.hhplus.tdd.database.UserPointRepository;
+import io.hhplus.tdd.database.UserPointTable;
+
+class ShardedPointExecutorTest {
+
+	private final ExecutorService executorService = Executors.newFixedThreadPool(20);
+
+	@AfterEach
+	void tearDown() {
+		executorService.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("여러 유저의 동시 충전이 샤드별로 모두 반영되고 처리 건수가 집계됩니다.")
+	public void concurrentChargeAcrossShards() throws Exception {
+		// given
+		UserPointTable userPointTable = new UserPointTable();
+		PointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(new PointHistoryTable());
+		int users = 4;
+		int requestsPerUser = 5;
+
+		ShardedPointExecutor executor = new ShardedPointExecutor(new TableUserPointRepository(userPointTable),
+			pointHistoryRepository, new PointSnapshots(new PointVersionRegistry()), 2, 16);
+
+		// when
+		List<Future<UserPoint>> futures = new ArrayList<>();
+		for (int i = 0; i < users * requestsPerUser; i++) {
+			long userId = i % users + 1;
+			futures.add(executorService.submit(() -> executor.execute(PointCommand.charge(userId, 1000L))));
+		}
+		for (Future<UserPoint> future : futures) {
+			future.get();
+		}
+		executor.close();
+
+		// then
+		assertEquals(users * requestsPerUser, executor.processedCount(0) + executor.processedCount(1));
+		assertEquals(0, executor.queueDepth(0) + executor.queueDepth(1));
+		for (long userId = 1; userId <= users; userId++) {
+			assertEquals(1000L * requestsPerUser, userPointTable.selectById(userId).point());
+			assertEquals(requestsPerUser, pointHistoryRepository.selectAllByUserId(userId).size());
+		}
+	}
+
+	@Test
+	@DisplayName("잔액이 부족한 요청은 거절 사유를 그대로 돌려받습니다.")
+	public void rejectInsufficientBalance() {
+		// given
+		UserPointTable userPointTable = new UserPointTable();
+		try (ShardedPointExecutor executor = new ShardedPointExecutor(new TableUserPointRepository(userPointTable),
+			new IndexedPointHistoryRepository(new PointHistoryTable()), new PointSnapshots(new PointVersionRegistry()), 1, 4)) {
+
+			// when
+			PointRejectedException exception = assertThrows(PointRejectedException.class,
+				() -> executor.execute(PointCommand.use(1L, 1000L)));
+
+			// then
+			assertEquals(PointRejectedException.Reason.INSUFFICIENT_BALANCE, exception.reason());
+		}
+	}
+
+	@Test
+	@DisplayName("링 버퍼는 넣은 순서대로 꺼내고, 가득 차면 자리가 날 때까지 기다립니다.")
+	public void ringKeepsOrderAndBlocksWhenFull() throws Exception {
+		// given
+		CommandRing<Integer> ring = new CommandRing<>(4);
+		for (int i = 0; i < 4; i++) {
+			ring.put(i, () -> false);
+		}
+		CountDownLatch full = new CountDownLatch(1);
+		Future<?> blocked = executorService.submit(() -> ring.put(4, () -> {
+			full.countDown();
+			return false;
+		}));
+		assertTrue(full.await(5, TimeUnit.SECONDS));
+		assertFalse(blocked.isDone());
+
+		// when
+		List<Integer> drained = new ArrayList<>();
+		ring.drainTo(drained, 2);
+		blocked.get();
+		ring.drainTo(drained, 10);
+
+		// then
+		assertEquals(List.of(0, 1, 2, 3, 4), drained);
+		assertTrue(ring.isEmpty());
+	}
+
+	@Test
+	@DisplayName("링 버퍼가 가득 찬 채로 소비자가 종료되면 생산자는 더 기다리지 않고 포기합니다.")
+	public void ringGivesUpWhenClosed() throws Exception {
+		// given
+		CommandRing<Integer> ring = new CommandRing<>(4);
+		AtomicBoolean closed = new AtomicBoolean();
+		for (int i = 0; i < 4; i++) {
+			ring.put(i, closed::get);
+		}
+		CountDownLatch full = new CountDownLatch(1);
+		Future<Boolean> blocked = executorService.submit(() -> ring.put(4, () -> {
+			full.countDown();
+			return closed.get();
+		}));
+		assertTrue(full.await(5, TimeUnit.SECONDS));
+		assertFalse(blocked.isDone());
+
+		// when
+		closed.set(true);
+
+		// then
+		assertFalse(blocked.get(5, TimeUnit.SECONDS));
+		assertEquals(4, ring.size());
+	}
+
+	@Test
+	@DisplayName("종료와 겹친 요청도 멈추지 않고, 처리되거나 종료 예외로 실패합니다.")
+	public void completeRequestsRacingClose() throws Exception {
+		for (int round = 0; round < 20; round++) {
+			// given
+			UserPointRepository userPointRepository = new PrimitiveUserPointRepository(16);
+			ShardedPointExecutor executor = new ShardedPointExecutor(userPointRepository,
+				new ColumnarPointHistoryRepository(64, false), new PointSnapshots(new PointVersionRegistry()), 2, 4);
+			List<Future<UserPoint>> futures = new ArrayList<>();
+			for (int i = 0; i < 40; i++) {
+				long userId = i % 4 + 1;
+				futures.add(executorService.submit(() -> executor.execute(PointCommand.charge(userId, 10L))));
+			}
+
+			// when
+			executor.close();
+
+			// then
+			int succeeded = 0;
+			for (Future<UserPoint> future : futures) {
+				try {
+					future.get(5, TimeUnit.SECONDS);
+					succeeded++;
+				} catch (ExecutionException e) {
+					assertEquals("포인트 처리 샤드가 종료되었습니다.", e.getCause().getMessage());
+				}
+			}
+			assertEquals(succeeded, executor.processedCount(0) + executor.processedCount(1));
+			long total = 0;
+			for (long userId = 1; userId <= 4; userId++) {
+				UserPoint userPoint = userPointRepository.selectById(userId);
+				total += userPoint == null ? 0 : userPoint.point();
+			}
+			assertEquals(10L * succeeded, total);
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package io.hhplus.tdd.point;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * PointIntegrationTest 의 동시성 테스트를 sharded 실행 방식으로 수행합니다.
+ */
+@SpringBootTest(properties = "point.executor.mode=sharded")
+public class ShardedPointIntegrationTest extends PointIntegrationTest {
+}